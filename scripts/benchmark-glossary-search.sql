@@ -0,0 +1,78 @@
+-- ================================================
+-- Glossary search benchmark
+-- Purpose: time the V42 indexed search against 1M seeded terms (target: < 50ms per search)
+-- Usage:   psql -U kihoon -d nexus -f benchmark-glossary-search.sql
+-- Runs in a single transaction and rolls back, so no benchmark data is left behind.
+-- The queries mirror GlossaryTermRepository.searchByUserIdAndQuery (SEARCH_MATCH / SEARCH_RANK).
+-- ================================================
+
+\timing on
+
+BEGIN;
+
+\echo '=== 1. Seed benchmark user and 1,000,000 terms ==='
+INSERT INTO users (id, username, email, password_hash, full_name)
+VALUES ('00000000-0000-0000-0000-00000000b001', 'glossary_bench', 'glossary_bench@example.com', 'x', 'Glossary Bench');
+
+-- 1M terms for the benchmark user plus 1M for other users, so the user_id filter is selective
+INSERT INTO users (id, username, email, password_hash, full_name)
+SELECT ('00000000-0000-0000-0000-0000000c' || lpad(to_hex(g), 4, '0'))::uuid,
+       'glossary_bench_' || g, 'glossary_bench_' || g || '@example.com', 'x', 'Glossary Bench ' || g
+FROM generate_series(1, 100) g;
+
+INSERT INTO glossary_terms (id, user_id, korean_term, english_term, vietnamese_term, japanese_term,
+                            chinese_term, abbreviation, definition, status, created_at, updated_at)
+SELECT gen_random_uuid(),
+       CASE WHEN g <= 1000000
+            THEN '00000000-0000-0000-0000-00000000b001'::uuid
+            ELSE ('00000000-0000-0000-0000-0000000c' || lpad(to_hex(1 + g % 100), 4, '0'))::uuid END,
+       '용어' || g || ' ' || (ARRAY['데이터베이스', '인증', '배포', '캐시', '트랜잭션'])[1 + g % 5],
+       (ARRAY['database', 'authentication', 'deployment', 'cache', 'transaction'])[1 + g % 5] || ' term ' || g,
+       'thuật ngữ ' || g,
+       '用語' || g,
+       '术语' || g,
+       'T' || g,
+       'Definition of benchmark term ' || g || ' used for ' || md5(g::text),
+       'AUTO_EXTRACTED', now(), now()
+FROM generate_series(1, 2000000) g;
+
+ANALYZE glossary_terms;
+
+\echo '=== 2. Substring search (English) ==='
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT t.* FROM glossary_terms t
+WHERE t.user_id = '00000000-0000-0000-0000-00000000b001'
+  AND (t.search_names LIKE '%term 123456%' OR lower(t.definition) LIKE '%term 123456%' OR 'term 123456' <% t.search_names)
+ORDER BY CASE WHEN 'term 123456' IN (lower(t.korean_term), lower(t.english_term), lower(t.vietnamese_term),
+                                     lower(t.japanese_term), lower(t.chinese_term), lower(t.abbreviation)) THEN 0
+              WHEN t.search_names LIKE '%term 123456%' THEN 1
+              WHEN 'term 123456' <% t.search_names THEN 2
+              ELSE 3 END,
+         word_similarity('term 123456', t.search_names) DESC,
+         t.created_at DESC
+LIMIT 20;
+
+\echo '=== 3. Substring search (Korean) ==='
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT t.* FROM glossary_terms t
+WHERE t.user_id = '00000000-0000-0000-0000-00000000b001'
+  AND (t.search_names LIKE '%용어77777%' OR lower(t.definition) LIKE '%용어77777%' OR '용어77777' <% t.search_names)
+ORDER BY word_similarity('용어77777', t.search_names) DESC
+LIMIT 20;
+
+\echo '=== 4. Typo-tolerant search (authentication misspelled) ==='
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT t.* FROM glossary_terms t
+WHERE t.user_id = '00000000-0000-0000-0000-00000000b001'
+  AND (t.search_names LIKE '%authentcation%' OR lower(t.definition) LIKE '%authentcation%' OR 'authentcation' <% t.search_names)
+ORDER BY word_similarity('authentcation', t.search_names) DESC
+LIMIT 20;
+
+\echo '=== 5. Japanese / Chinese / Vietnamese columns ==='
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT t.* FROM glossary_terms t
+WHERE t.user_id = '00000000-0000-0000-0000-00000000b001'
+  AND (t.search_names LIKE '%用語424242%' OR t.search_names LIKE '%术语424242%' OR t.search_names LIKE '%thuật ngữ 424242%')
+LIMIT 20;
+
+ROLLBACK;
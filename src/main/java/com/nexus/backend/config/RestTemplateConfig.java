@@ -1,19 +0,0 @@
-package com.nexus.backend.config;
-
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
-import org.springframework.web.client.RestTemplate;
-
-@Configuration
-public class RestTemplateConfig {
-
-    @Bean
-    public RestTemplate restTemplate() {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(30000);  // 30 seconds
-        factory.setReadTimeout(120000);    // 120 seconds - GPT-4o may take time
-
-        return new RestTemplate(factory);
-    }
-}
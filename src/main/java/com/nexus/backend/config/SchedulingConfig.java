@@ -0,0 +1,12 @@
+package com.nexus.backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} background jobs (e.g. upload session cleanup).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
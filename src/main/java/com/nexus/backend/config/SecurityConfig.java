@@ -4,6 +4,7 @@ import com.nexus.backend.security.JwtAuthenticationFilter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
@@ -38,7 +39,9 @@ public class SecurityConfig {
                         .requestMatchers("/api/auth/register", "/api/auth/login", "/api/auth/check-username", "/api/auth/check-email", "/api/health").permitAll()
                         .requestMatchers("/ws/**", "/api/ws/**").permitAll()  // Allow WebSocket connections
                         .requestMatchers("/api/slack/events").permitAll()  // Allow Slack Event API webhooks
+                        .requestMatchers("/api/internal/**").permitAll()  // Service callbacks, verified by shared token
                         .requestMatchers("/api/files/serve/**").permitAll()  // Allow public file serving (avatars, etc.)
+                        .requestMatchers(HttpMethod.GET, "/api/videos/*/signed-stream").permitAll()  // Signed URL is the credential
                         .anyRequest().authenticated()
                 )
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
@@ -1,9 +1,11 @@
 package com.nexus.backend.config;
 
-import com.nexus.backend.entity.User;
-import com.nexus.backend.repository.UserRepository;
+import com.nexus.backend.security.JwtClaims;
 import com.nexus.backend.security.JwtTokenProvider;
-import lombok.RequiredArgsConstructor;
+import com.nexus.backend.security.UserPrincipal;
+import com.nexus.backend.security.UserPrincipalCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
@@ -17,93 +19,151 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * WebSocket authentication interceptor.
  * Extracts JWT token from STOMP CONNECT frame and authenticates the user.
+ *
+ * The principal is resolved once at CONNECT and kept in the WebSocket session attributes;
+ * later frames reuse it without touching the database.
+ * Inbound frames are counted per command ({@code websocket.inbound.frames}) and per session,
+ * and rejected authentications are counted by reason ({@code websocket.auth.failures}).
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class WebSocketAuthInterceptor implements ChannelInterceptor {
 
+    private static final String AUTHENTICATION_ATTRIBUTE = "nexus.ws.authentication";
+    private static final String FRAME_COUNT_ATTRIBUTE = "nexus.ws.frameCount";
+
     private final JwtTokenProvider jwtTokenProvider;
-    private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
+    private final MeterRegistry meterRegistry;
+    private final Map<StompCommand, Counter> frameCounters = new EnumMap<>(StompCommand.class);
+
+    public WebSocketAuthInterceptor(
+            JwtTokenProvider jwtTokenProvider,
+            UserPrincipalCache userPrincipalCache,
+            MeterRegistry meterRegistry) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.userPrincipalCache = userPrincipalCache;
+        this.meterRegistry = meterRegistry;
+
+        for (StompCommand command : StompCommand.values()) {
+            frameCounters.put(command, Counter.builder("websocket.inbound.frames")
+                    .description("Inbound STOMP frames")
+                    .tag("command", command.name())
+                    .register(meterRegistry));
+        }
+    }
 
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
         StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
 
-        if (accessor != null && StompCommand.CONNECT.equals(accessor.getCommand())) {
-            String authHeader = accessor.getFirstNativeHeader("Authorization");
-
-            if (authHeader != null && authHeader.startsWith("Bearer ")) {
-                String token = authHeader.substring(7);
-
-                try {
-                    if (jwtTokenProvider.validateToken(token)) {
-                        String username = jwtTokenProvider.getUsernameFromToken(token);
-                        log.info("WebSocket JWT token validated, username: {}", username);
-
-                        // Load user from database
-                        User user = userRepository.findByUsername(username)
-                                .orElseThrow(() -> new RuntimeException("User not found: " + username));
-
-                        UsernamePasswordAuthenticationToken authentication =
-                                new UsernamePasswordAuthenticationToken(
-                                        user,
-                                        null,
-                                        Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"))
-                                );
-
-                        SecurityContextHolder.getContext().setAuthentication(authentication);
-                        accessor.setUser(authentication);
-
-                        // Store username in session attributes for future messages
-                        if (accessor.getSessionAttributes() != null) {
-                            accessor.getSessionAttributes().put("username", username);
-                            log.info("Stored username in session: {}", username);
-                        }
-
-                        log.info("WebSocket authenticated user: {}", username);
-                    } else {
-                        log.warn("WebSocket JWT token validation failed");
-                    }
-                } catch (Exception e) {
-                    log.error("WebSocket authentication failed: {}", e.getMessage(), e);
-                }
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+
+        StompCommand command = accessor.getCommand();
+        Map<String, Object> sessionAttributes = accessor.getSessionAttributes();
+        long sessionFrames = countFrame(command, sessionAttributes);
+
+        if (StompCommand.CONNECT.equals(command)) {
+            authenticate(accessor, sessionAttributes);
+        } else if (StompCommand.DISCONNECT.equals(command)) {
+            log.info("WebSocket session closed: sessionId={}, inboundFrames={}",
+                    accessor.getSessionId(), sessionFrames);
+        } else if (sessionAttributes != null
+                && sessionAttributes.get(AUTHENTICATION_ATTRIBUTE) instanceof UsernamePasswordAuthenticationToken authentication) {
+            // Reuse the principal resolved at CONNECT - no DB access per frame
+            accessor.setUser(authentication);
+        } else if (StompCommand.SEND.equals(command) || StompCommand.MESSAGE.equals(command)) {
+            recordAuthFailure("unauthenticated_session");
+            log.debug("No authenticated principal for WebSocket session: sessionId={}", accessor.getSessionId());
+        }
+
+        return message;
+    }
+
+    private void authenticate(StompHeaderAccessor accessor, Map<String, Object> sessionAttributes) {
+        String authHeader = accessor.getFirstNativeHeader("Authorization");
+
+        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            recordAuthFailure("missing_token");
+            return;
+        }
+
+        String token = authHeader.substring(7);
+
+        try {
+            Optional<JwtClaims> claims = jwtTokenProvider.parseToken(token);
+            if (claims.isEmpty()) {
+                recordAuthFailure("invalid_token");
+                log.warn("WebSocket JWT token validation failed");
+                return;
+            }
+
+            Optional<UserPrincipal> principal = userPrincipalCache.get(claims.get().userId());
+            if (principal.isEmpty()) {
+                recordAuthFailure("unknown_user");
+                log.warn("WebSocket user not found: userId={}", claims.get().userId());
+                return;
             }
-        } else if (accessor != null && (StompCommand.SEND.equals(accessor.getCommand()) || StompCommand.MESSAGE.equals(accessor.getCommand()))) {
-            // For SEND/MESSAGE commands, retrieve username from session attributes
-            if (accessor.getSessionAttributes() != null) {
-                String username = (String) accessor.getSessionAttributes().get("username");
-                log.info("Retrieved username from session: {}", username);
-
-                if (username != null) {
-                    try {
-                        // Load user from database
-                        User user = userRepository.findByUsername(username)
-                                .orElseThrow(() -> new RuntimeException("User not found: " + username));
-
-                        UsernamePasswordAuthenticationToken authentication =
-                                new UsernamePasswordAuthenticationToken(
-                                        user,
-                                        null,
-                                        Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"))
-                                );
-                        accessor.setUser(authentication);
-                        log.info("WebSocket SEND/MESSAGE authenticated with user: {}", username);
-                    } catch (Exception e) {
-                        log.error("Failed to authenticate WebSocket SEND/MESSAGE: {}", e.getMessage());
-                    }
-                } else {
-                    log.warn("No username found in session attributes");
-                }
-            } else {
-                log.warn("Session attributes is null");
+
+            UsernamePasswordAuthenticationToken authentication = new StompAuthentication(principal.get());
+
+            SecurityContextHolder.getContext().setAuthentication(authentication);
+            accessor.setUser(authentication);
+
+            if (sessionAttributes != null) {
+                sessionAttributes.put(AUTHENTICATION_ATTRIBUTE, authentication);
             }
+
+            log.info("WebSocket authenticated user: {}", principal.get().username());
+        } catch (Exception e) {
+            recordAuthFailure("error");
+            log.error("WebSocket authentication failed: {}", e.getMessage(), e);
         }
+    }
 
-        return message;
+    private long countFrame(StompCommand command, Map<String, Object> sessionAttributes) {
+        frameCounters.get(command).increment();
+
+        if (sessionAttributes == null) {
+            return 0;
+        }
+        AtomicLong sessionCounter = (AtomicLong) sessionAttributes
+                .computeIfAbsent(FRAME_COUNT_ATTRIBUTE, key -> new AtomicLong());
+        return sessionCounter.incrementAndGet();
+    }
+
+    private void recordAuthFailure(String reason) {
+        meterRegistry.counter("websocket.auth.failures", "reason", reason).increment();
+    }
+
+    /**
+     * Session principal named by user ID, so server code can address a user with
+     * {@code convertAndSendToUser(userId.toString(), ...)} (clients subscribe to {@code /user/queue/...}).
+     */
+    private static final class StompAuthentication extends UsernamePasswordAuthenticationToken {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String name;
+
+        private StompAuthentication(UserPrincipal principal) {
+            super(principal.toUser(), null, Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER")));
+            this.name = principal.id().toString();
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
     }
 }
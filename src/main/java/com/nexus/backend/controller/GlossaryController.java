@@ -1,22 +1,41 @@
 package com.nexus.backend.controller;
 
+import com.nexus.backend.dto.request.GlossaryBulkRequest;
+import com.nexus.backend.dto.request.GlossaryDetectBatchRequest;
+import com.nexus.backend.dto.request.GlossaryDetectRequest;
 import com.nexus.backend.dto.request.GlossaryTermRequest;
 import com.nexus.backend.dto.response.ApiResponse;
+import com.nexus.backend.dto.response.CursorPageResponse;
+import com.nexus.backend.dto.response.DetectedTermResponse;
 import com.nexus.backend.dto.response.ExtractionJobResponse;
+import com.nexus.backend.dto.response.GlossaryBulkResponse;
+import com.nexus.backend.dto.response.GlossaryImportResponse;
 import com.nexus.backend.dto.response.GlossaryStatisticsResponse;
 import com.nexus.backend.dto.response.GlossaryTermResponse;
 import com.nexus.backend.entity.User;
+import com.nexus.backend.exception.BadRequestException;
 import com.nexus.backend.service.GlossaryService;
+import com.nexus.backend.service.GlossaryTermDetectionService;
+import com.nexus.backend.service.GlossaryTransferService;
+import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
 import java.util.UUID;
 
 @RestController
@@ -26,6 +45,8 @@ import java.util.UUID;
 public class GlossaryController {
 
     private final GlossaryService glossaryService;
+    private final GlossaryTermDetectionService detectionService;
+    private final GlossaryTransferService transferService;
 
     /**
      * Start glossary term extraction from a document
@@ -41,7 +62,8 @@ public class GlossaryController {
     }
 
     /**
-     * Get extraction job status
+     * Get extraction job status.
+     * Fallback for clients without WebSocket; live updates are pushed to /user/queue/glossary/extraction.
      */
     @GetMapping("/extraction/{jobId}")
     public ResponseEntity<ApiResponse<ExtractionJobResponse>> getExtractionStatus(@PathVariable UUID jobId) {
@@ -71,6 +93,31 @@ public class GlossaryController {
         return ResponseEntity.ok(ApiResponse.success("용어집 목록 조회 완료", terms));
     }
 
+    /**
+     * Cursor-paged glossary terms (with optional project or document filter).
+     * Pass the previous page's nextCursor to continue; count = none (default), exact or estimated.
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<CursorPageResponse<GlossaryTermResponse>>> getTermsByCursor(
+            @RequestParam(required = false) UUID projectId,
+            @RequestParam(required = false) UUID documentId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "createdAt") String sort,
+            @RequestParam(defaultValue = "desc") String direction,
+            @RequestParam(defaultValue = "none") String count,
+            @AuthenticationPrincipal User user) {
+        GlossaryService.CountMode countMode;
+        try {
+            countMode = GlossaryService.CountMode.valueOf(count.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Unsupported count mode: " + count + " (none, exact or estimated)");
+        }
+        CursorPageResponse<GlossaryTermResponse> terms = glossaryService.findTermsByCursor(
+                user, projectId, documentId, cursor, size, sort, direction, countMode);
+        return ResponseEntity.ok(ApiResponse.success("용어집 목록 조회 완료", terms));
+    }
+
     /**
      * Search glossary terms (with optional project or document filter)
      */
@@ -96,6 +143,76 @@ public class GlossaryController {
         return ResponseEntity.ok(ApiResponse.success("용어집 검색 완료", terms));
     }
 
+    /**
+     * Detect glossary terms in a text (optionally only the project's glossary)
+     */
+    @PostMapping("/detect")
+    public ResponseEntity<ApiResponse<List<DetectedTermResponse>>> detectTerms(
+            @Valid @RequestBody GlossaryDetectRequest request,
+            @AuthenticationPrincipal User user) {
+        List<DetectedTermResponse> terms =
+                detectionService.detect(user.getId(), request.getProjectId(), request.getText());
+        return ResponseEntity.ok(ApiResponse.success("용어 감지 완료", terms));
+    }
+
+    /**
+     * Detect glossary terms in several texts at once (one result list per text, in request order)
+     */
+    @PostMapping("/detect/batch")
+    public ResponseEntity<ApiResponse<List<List<DetectedTermResponse>>>> detectTermsBatch(
+            @Valid @RequestBody GlossaryDetectBatchRequest request,
+            @AuthenticationPrincipal User user) {
+        log.info("Detecting glossary terms in {} texts for user: {}", request.getTexts().size(), user.getId());
+        List<List<DetectedTermResponse>> terms =
+                detectionService.detectBatch(user.getId(), request.getProjectId(), request.getTexts());
+        return ResponseEntity.ok(ApiResponse.success("용어 일괄 감지 완료", terms));
+    }
+
+    /**
+     * Bulk import glossary terms from a CSV or XLSX file.
+     * The header row needs at least koreanTerm and definition; mode is upsert (default) or skip_existing.
+     * A file that breaks off after data rows were read returns the partial result with fileError set.
+     */
+    @PostMapping("/import")
+    public ResponseEntity<ApiResponse<GlossaryImportResponse>> importTerms(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(defaultValue = "upsert") String mode,
+            @AuthenticationPrincipal User user) {
+        log.info("Importing glossary file: {} ({} bytes, mode={}) for user: {}",
+                file.getOriginalFilename(), file.getSize(), mode, user.getId());
+        GlossaryImportResponse response =
+                transferService.importTerms(user.getId(), file, GlossaryTransferService.parseMode(mode));
+        String message = response.getFileError() == null ? "용어집 가져오기 완료" : "용어집 가져오기 일부 완료";
+        return ResponseEntity.ok(ApiResponse.success(message, response));
+    }
+
+    /**
+     * Export the user's glossary (or a project's) as CSV or XLSX, streamed
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTerms(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) UUID projectId,
+            @AuthenticationPrincipal User user) {
+        GlossaryTransferService.Format exportFormat = GlossaryTransferService.parseFormat(format);
+        transferService.verifyExportScope(user.getId(), projectId);
+        log.info("Exporting glossary as {} for user: {} (project: {})", exportFormat, user.getId(), projectId);
+
+        boolean csv = exportFormat == GlossaryTransferService.Format.CSV;
+        MediaType contentType = csv
+                ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                : MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename(csv ? "glossary.csv" : "glossary.xlsx")
+                .build();
+
+        StreamingResponseBody body = out -> transferService.exportTerms(user.getId(), projectId, exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .body(body);
+    }
+
     /**
      * Get glossary term detail
      */
@@ -147,15 +264,61 @@ public class GlossaryController {
     }
 
     /**
-     * Delete multiple glossary terms
+     * Delete multiple glossary terms (one statement; unknown or foreign IDs are counted as not found)
      */
     @DeleteMapping("/batch")
-    public ResponseEntity<ApiResponse<Void>> deleteTerms(
-            @RequestBody java.util.List<UUID> termIds,
+    public ResponseEntity<ApiResponse<GlossaryBulkResponse>> deleteTerms(
+            @RequestBody List<UUID> termIds,
             @AuthenticationPrincipal User user) {
         log.info("Deleting {} glossary terms for user: {}", termIds.size(), user.getId());
-        glossaryService.deleteTerms(termIds, user);
-        return ResponseEntity.ok(ApiResponse.success("용어 일괄 삭제 완료", null));
+        GlossaryBulkResponse result = glossaryService.deleteTerms(termIds, user);
+        return ResponseEntity.ok(ApiResponse.success("용어 일괄 삭제 완료", result));
+    }
+
+    /**
+     * Verify multiple glossary terms
+     */
+    @PutMapping("/batch/verify")
+    public ResponseEntity<ApiResponse<GlossaryBulkResponse>> verifyTerms(
+            @Valid @RequestBody GlossaryBulkRequest request,
+            @AuthenticationPrincipal User user) {
+        GlossaryBulkResponse result = glossaryService.verifyTerms(request.getTermIds(), user);
+        return ResponseEntity.ok(ApiResponse.success("용어 일괄 검증 완료", result));
+    }
+
+    /**
+     * Unverify multiple glossary terms
+     */
+    @PutMapping("/batch/unverify")
+    public ResponseEntity<ApiResponse<GlossaryBulkResponse>> unverifyTerms(
+            @Valid @RequestBody GlossaryBulkRequest request,
+            @AuthenticationPrincipal User user) {
+        GlossaryBulkResponse result = glossaryService.unverifyTerms(request.getTermIds(), user);
+        return ResponseEntity.ok(ApiResponse.success("용어 일괄 검증 해제 완료", result));
+    }
+
+    /**
+     * Set the domain of multiple glossary terms (null or blank clears it)
+     */
+    @PutMapping("/batch/domain")
+    public ResponseEntity<ApiResponse<GlossaryBulkResponse>> updateTermsDomain(
+            @Valid @RequestBody GlossaryBulkRequest request,
+            @AuthenticationPrincipal User user) {
+        GlossaryBulkResponse result =
+                glossaryService.updateTermsDomain(request.getTermIds(), request.getDomain(), user);
+        return ResponseEntity.ok(ApiResponse.success("용어 도메인 일괄 변경 완료", result));
+    }
+
+    /**
+     * Move multiple glossary terms to a project (null detaches them)
+     */
+    @PutMapping("/batch/project")
+    public ResponseEntity<ApiResponse<GlossaryBulkResponse>> updateTermsProject(
+            @Valid @RequestBody GlossaryBulkRequest request,
+            @AuthenticationPrincipal User user) {
+        GlossaryBulkResponse result =
+                glossaryService.updateTermsProject(request.getTermIds(), request.getProjectId(), user);
+        return ResponseEntity.ok(ApiResponse.success("용어 프로젝트 일괄 변경 완료", result));
     }
 
     /**
@@ -0,0 +1,64 @@
+package com.nexus.backend.controller;
+
+import com.nexus.backend.dto.request.ExtractionProgressRequest;
+import com.nexus.backend.dto.response.ApiResponse;
+import com.nexus.backend.dto.response.ExtractionJobResponse;
+import com.nexus.backend.exception.UnauthorizedException;
+import com.nexus.backend.service.GlossaryExtractionProgressService;
+import jakarta.validation.Valid;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.UUID;
+
+/**
+ * Callbacks from the Python extractor (service-to-service, not user-facing).
+ *
+ * Endpoints:
+ * - POST /api/internal/glossary/extraction/{jobId}/progress : Report progress, term count and completion
+ *
+ * Authenticated with the shared secret {@code python.callback.token} in the {@code X-Internal-Token} header.
+ */
+@RestController
+@RequestMapping("/api/internal/glossary/extraction")
+@Slf4j
+public class GlossaryExtractionCallbackController {
+
+    private final GlossaryExtractionProgressService extractionProgressService;
+    private final byte[] callbackToken;
+
+    public GlossaryExtractionCallbackController(
+            GlossaryExtractionProgressService extractionProgressService,
+            @Value("${python.callback.token:}") String callbackToken) {
+        this.extractionProgressService = extractionProgressService;
+        this.callbackToken = callbackToken.getBytes(StandardCharsets.UTF_8);
+        if (callbackToken.isBlank()) {
+            log.warn("python.callback.token is not set - extraction progress callbacks are rejected");
+        }
+    }
+
+    /**
+     * Report extraction progress.
+     */
+    @PostMapping("/{jobId}/progress")
+    public ResponseEntity<ApiResponse<ExtractionJobResponse>> reportProgress(
+            @PathVariable UUID jobId,
+            @RequestHeader(value = "X-Internal-Token", required = false) String token,
+            @Valid @RequestBody ExtractionProgressRequest request) {
+        verifyToken(token);
+        ExtractionJobResponse response = extractionProgressService.report(jobId, request.getStatus(),
+                request.getProgress(), request.getTermsExtracted(), request.getErrorMessage());
+        return ResponseEntity.ok(ApiResponse.success("추출 진행 상황 반영 완료", response));
+    }
+
+    private void verifyToken(String token) {
+        if (callbackToken.length == 0 || token == null
+                || !MessageDigest.isEqual(callbackToken, token.getBytes(StandardCharsets.UTF_8))) {
+            throw new UnauthorizedException("Invalid internal token");
+        }
+    }
+}
@@ -1,14 +1,18 @@
 package com.nexus.backend.controller;
 
 import com.nexus.backend.dto.response.ApiResponse;
+import com.nexus.backend.dto.response.EmailBackfillStatusResponse;
+import com.nexus.backend.dto.response.OutlookSyncStatusResponse;
 import com.nexus.backend.entity.User;
 import com.nexus.backend.service.CalendarSyncService;
 import com.nexus.backend.service.EmailSyncService;
+import com.nexus.backend.service.OutlookSyncScheduler;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -18,9 +22,11 @@ public class OutlookSyncController {
 
     private final EmailSyncService emailSyncService;
     private final CalendarSyncService calendarSyncService;
+    private final OutlookSyncScheduler outlookSyncScheduler;
 
     /**
-     * Outlook 메일 동기화
+     * Outlook 메일 동기화 (delta: 첫 동기화 이후에는 변경된 메일만)
+     * 백그라운드 동기화와 같은 lease 를 사용하므로 같은 사용자의 동기화는 동시에 하나만 실행
      * POST /api/outlook/sync
      */
     @PostMapping("/sync")
@@ -28,7 +34,8 @@ public class OutlookSyncController {
             @AuthenticationPrincipal User user
     ) {
         try {
-            int syncedCount = emailSyncService.syncUserEmails(user.getId());
+            int syncedCount = outlookSyncScheduler.runExclusive(user.getId(),
+                    () -> emailSyncService.deltaSyncEmails(user.getId()));
             return ResponseEntity.ok(ApiResponse.success(
                     syncedCount + "개의 메일이 동기화되었습니다",
                     "동기화 완료"
@@ -39,6 +46,55 @@ public class OutlookSyncController {
         }
     }
 
+    /**
+     * 백그라운드 동기화 상태 조회 (마지막 성공 시각, 지연, 처리량)
+     * GET /api/outlook/sync/status
+     */
+    @GetMapping("/sync/status")
+    public ResponseEntity<ApiResponse<OutlookSyncStatusResponse>> getSyncStatus(
+            @AuthenticationPrincipal User user
+    ) {
+        try {
+            return ResponseEntity.ok(ApiResponse.success("조회 완료", outlookSyncScheduler.getStatus(user.getId())));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("상태 조회 실패: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Outlook 메일함 전체 백필 시작 (백그라운드, 중단 시 체크포인트부터 재개)
+     * POST /api/outlook/backfill
+     */
+    @PostMapping("/backfill")
+    public ResponseEntity<ApiResponse<List<EmailBackfillStatusResponse>>> startBackfill(
+            @AuthenticationPrincipal User user
+    ) {
+        try {
+            List<EmailBackfillStatusResponse> statuses = emailSyncService.startBackfill(user.getId());
+            return ResponseEntity.ok(ApiResponse.success("메일 백필이 시작되었습니다", statuses));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("메일 백필 시작 실패: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Outlook 메일함 백필 진행 상태 조회
+     * GET /api/outlook/backfill/status
+     */
+    @GetMapping("/backfill/status")
+    public ResponseEntity<ApiResponse<List<EmailBackfillStatusResponse>>> getBackfillStatus(
+            @AuthenticationPrincipal User user
+    ) {
+        try {
+            return ResponseEntity.ok(ApiResponse.success("조회 완료", emailSyncService.getBackfillStatus(user.getId())));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("상태 조회 실패: " + e.getMessage()));
+        }
+    }
+
     /**
      * Outlook 캘린더 동기화
      * POST /api/outlook/calendar/sync
@@ -48,7 +104,8 @@ public class OutlookSyncController {
             @AuthenticationPrincipal User user
     ) {
         try {
-            Map<String, Integer> syncResult = calendarSyncService.syncUserCalendar(user.getId());
+            Map<String, Integer> syncResult = outlookSyncScheduler.runExclusive(user.getId(),
+                    () -> calendarSyncService.syncUserCalendar(user.getId()));
             int totalOutlookSchedules = calendarSyncService.getOutlookScheduleCount(user.getId());
 
             int syncedCount = syncResult.getOrDefault("syncedCount", 0);
@@ -106,7 +163,7 @@ public class OutlookSyncController {
 
             Map<String, Object> result = Map.of(
                     "totalOutlookSchedules", totalOutlookSchedules,
-                    "isConnected", user.getOutlookAccessToken() != null
+                    "isConnected", calendarSyncService.isOutlookConnected(user.getId())
             );
 
             return ResponseEntity.ok(ApiResponse.success("조회 완료", result));
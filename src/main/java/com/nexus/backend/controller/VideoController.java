@@ -4,19 +4,21 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nexus.backend.dto.request.VideoUploadRequest;
 import com.nexus.backend.dto.response.ApiResponse;
 import com.nexus.backend.dto.response.FileResponse;
+import com.nexus.backend.dto.response.StreamUrlResponse;
 import com.nexus.backend.entity.User;
+import com.nexus.backend.exception.ResourceNotFoundException;
 import com.nexus.backend.exception.ServiceException;
 import com.nexus.backend.service.FileService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
@@ -30,6 +32,9 @@ import org.springframework.web.multipart.MultipartFile;
  * - GET /api/videos : List user videos
  * - GET /api/videos/{id} : Get video details
  * - DELETE /api/videos/{id} : Delete video
+ * - GET /api/videos/{id}/stream : Stream video (Range / conditional GET)
+ * - POST /api/videos/{id}/stream-url : Mint a signed, expiring streaming URL
+ * - GET /api/videos/{id}/signed-stream : Stream video via signed URL (no JWT)
  *
  */
 @RestController
@@ -40,6 +45,7 @@ public class VideoController {
 
     private final FileService fileService;
     private final ObjectMapper objectMapper;
+    private final VideoStreamResponder videoStreamResponder;
 
     /**
      * Upload a video file.
@@ -153,28 +159,30 @@ public class VideoController {
 
     /**
      * Stream a video file.
+     * Supports Range (206 / multipart/byteranges), If-Range, ETag and Last-Modified validators (304).
      *
-     * @param id   video file ID
-     * @param user authenticated user
+     * @param id       video file ID
+     * @param user     authenticated user
+     * @param request  servlet request (Range and conditional headers)
+     * @param response servlet response (body is written directly for full and single-range requests)
      * @return video file stream
      */
     @GetMapping("/{id}/stream")
-    public ResponseEntity<Resource> streamVideo(
+    public ResponseEntity<?> streamVideo(
             @PathVariable java.util.UUID id,
-            @AuthenticationPrincipal User user) {
+            @AuthenticationPrincipal User user,
+            HttpServletRequest request,
+            HttpServletResponse response) {
         try {
-            log.info("Video stream request: user={}, videoId={}", user.getUsername(), id);
+            log.debug("Video stream request: user={}, videoId={}, range={}",
+                    user.getUsername(), id, request.getHeader(HttpHeaders.RANGE));
 
             // Get video stream resource from Service (all business logic delegated)
             FileService.VideoStreamResult streamResult = fileService.getVideoStreamResource(id, user.getId());
 
             log.debug("Streaming video: videoId={}, contentType={}", id, streamResult.contentType());
 
-            return ResponseEntity.ok()
-                    .contentType(MediaType.parseMediaType(streamResult.contentType()))
-                    .header(HttpHeaders.CONTENT_DISPOSITION,
-                            "inline; filename=\"" + streamResult.filename() + "\"")
-                    .body(streamResult.resource());
+            return videoStreamResponder.respond(streamResult, request, response);
 
         } catch (ServiceException ex) {
             log.warn("Video stream access denied: videoId={}, error={}", id, ex.getMessage());
@@ -184,4 +192,61 @@ public class VideoController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
+
+    /**
+     * Mint a short-lived signed streaming URL for the player.
+     *
+     * @param id   video file ID
+     * @param user authenticated user
+     * @return signed URL and expiry
+     */
+    @PostMapping("/{id}/stream-url")
+    public ResponseEntity<ApiResponse<StreamUrlResponse>> createStreamUrl(
+            @PathVariable java.util.UUID id,
+            @AuthenticationPrincipal User user) {
+        try {
+            StreamUrlResponse response = fileService.createSignedStreamUrl(id, user.getId());
+            return ResponseEntity.ok(ApiResponse.success("스트리밍 URL 발급 완료", response));
+
+        } catch (ServiceException ex) {
+            log.warn("Stream URL access denied: videoId={}, error={}", id, ex.getMessage());
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(ApiResponse.error(ex.getMessage()));
+        } catch (Exception ex) {
+            log.error("Failed to create stream URL: videoId={}, error={}", id, ex.getMessage(), ex);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("스트리밍 URL 발급 실패"));
+        }
+    }
+
+    /**
+     * Stream a video through a signed URL.
+     * Authorization is the in-memory signature check only; the JWT filter is skipped for this path.
+     *
+     * @param id       video file ID
+     * @param sig      signed token minted by {@link #createStreamUrl}
+     * @param request  servlet request (Range and conditional headers)
+     * @param response servlet response
+     * @return video file stream
+     */
+    @GetMapping("/{id}/signed-stream")
+    public ResponseEntity<?> streamSignedVideo(
+            @PathVariable java.util.UUID id,
+            @RequestParam("sig") String sig,
+            HttpServletRequest request,
+            HttpServletResponse response) {
+        try {
+            FileService.VideoStreamResult streamResult = fileService.getSignedVideoStreamResource(id, sig);
+            return videoStreamResponder.respond(streamResult, request, response);
+
+        } catch (ServiceException ex) {
+            log.debug("Signed video stream rejected: videoId={}, error={}", id, ex.getMessage());
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        } catch (ResourceNotFoundException ex) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        } catch (Exception ex) {
+            log.error("Failed to stream signed video: videoId={}, error={}", id, ex.getMessage(), ex);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
 }
@@ -0,0 +1,246 @@
+package com.nexus.backend.controller;
+
+import com.nexus.backend.service.FileService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.support.ResourceRegion;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Writes a stored video with HTTP range and conditional request support.
+ *
+ * - {@code If-None-Match} / {@code If-Modified-Since} answer {@code 304 Not Modified}
+ * - single ranges answer {@code 206 Partial Content}, multiple ranges a {@code multipart/byteranges} body
+ * - {@code If-Range} with a stale validator falls back to the full body
+ * - unsatisfiable ranges answer {@code 416} with {@code Content-Range: bytes *}/length
+ *
+ * Full and single-range bodies are handed to Tomcat sendfile when the connector supports it, so bytes
+ * go kernel-to-socket; otherwise they are copied with {@link FileChannel#transferTo}.
+ */
+@Component
+@Slf4j
+public class VideoStreamResponder {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    /**
+     * Respond with the video, honouring Range and conditional headers.
+     *
+     * @return response entity for 304/416 responses, or {@code null} when the body
+     *         has already been written (or scheduled for sendfile) on {@code response}
+     */
+    public ResponseEntity<?> respond(FileService.VideoStreamResult video,
+                                     HttpServletRequest request,
+                                     HttpServletResponse response) throws IOException {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+        headers.setETag(video.etag());
+        headers.setLastModified(video.lastModified());
+        headers.setCacheControl(CacheControl.noCache().cachePrivate());
+        headers.setContentDisposition(video.filename() != null
+                ? ContentDisposition.inline().filename(video.filename(), StandardCharsets.UTF_8).build()
+                : ContentDisposition.inline().build());
+
+        // Conditional GET: If-None-Match / If-Modified-Since
+        if (isNotModified(request, video)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).headers(headers).build();
+        }
+
+        List<HttpRange> ranges;
+        try {
+            ranges = isRangeApplicable(request, video)
+                    ? HttpRange.parseRanges(request.getHeader(HttpHeaders.RANGE))
+                    : List.of();
+        } catch (IllegalArgumentException ex) {
+            return unsatisfiable(headers, video);
+        }
+
+        long length = video.contentLength();
+        MediaType contentType = MediaType.parseMediaType(video.contentType());
+
+        if (ranges.isEmpty()) {
+            writeBody(video, request, response, headers, contentType, HttpStatus.OK, 0, length);
+            return null;
+        }
+
+        if (ranges.size() == 1) {
+            HttpRange range = ranges.get(0);
+            long start;
+            long end;
+            try {
+                start = range.getRangeStart(length);
+                end = range.getRangeEnd(length);
+            } catch (IllegalArgumentException ex) {
+                return unsatisfiable(headers, video);
+            }
+            if (start >= length) {
+                return unsatisfiable(headers, video);
+            }
+            headers.set(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            writeBody(video, request, response, headers, contentType, HttpStatus.PARTIAL_CONTENT, start, end + 1);
+            return null;
+        }
+
+        // Multiple ranges: multipart/byteranges
+        List<ResourceRegion> regions;
+        try {
+            regions = HttpRange.toResourceRegions(ranges, video.resource());
+        } catch (IllegalArgumentException ex) {
+            return unsatisfiable(headers, video);
+        }
+        writeMultipart(video, response, headers, contentType, regions);
+        return null;
+    }
+
+    /**
+     * Evaluate {@code If-None-Match}, falling back to {@code If-Modified-Since} only when no entity tags are sent.
+     */
+    private boolean isNotModified(HttpServletRequest request, FileService.VideoStreamResult video) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            for (String tag : ifNoneMatch.split(",")) {
+                String candidate = tag.trim();
+                if (candidate.startsWith("W/")) {
+                    candidate = candidate.substring(2);
+                }
+                if (candidate.equals("*") || candidate.equals(video.etag())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        long ifModifiedSince;
+        try {
+            ifModifiedSince = request.getDateHeader(HttpHeaders.IF_MODIFIED_SINCE);
+        } catch (IllegalArgumentException ex) {
+            return false;
+        }
+        return ifModifiedSince != -1
+                && video.lastModified().toEpochMilli() / 1000 <= ifModifiedSince / 1000;
+    }
+
+    /**
+     * Range applies unless an {@code If-Range} validator no longer matches the current representation.
+     */
+    private boolean isRangeApplicable(HttpServletRequest request, FileService.VideoStreamResult video) {
+        if (request.getHeader(HttpHeaders.RANGE) == null) {
+            return false;
+        }
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"")) {
+            return ifRange.equals(video.etag());
+        }
+        long ifRangeDate;
+        try {
+            ifRangeDate = request.getDateHeader(HttpHeaders.IF_RANGE);
+        } catch (IllegalArgumentException ex) {
+            return false;
+        }
+        return ifRangeDate / 1000 == video.lastModified().toEpochMilli() / 1000;
+    }
+
+    private ResponseEntity<?> unsatisfiable(HttpHeaders headers, FileService.VideoStreamResult video) {
+        headers.set(HttpHeaders.CONTENT_RANGE, "bytes */" + video.contentLength());
+        return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE).headers(headers).build();
+    }
+
+    /**
+     * Write a {@code multipart/byteranges} body, one part per region.
+     */
+    private void writeMultipart(FileService.VideoStreamResult video, HttpServletResponse response, HttpHeaders headers,
+                                MediaType contentType, List<ResourceRegion> regions) throws IOException {
+        String boundary = MimeTypeUtils.generateMultipartBoundaryString();
+        long length = video.contentLength();
+
+        response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+        headers.forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+        response.setContentType("multipart/byteranges; boundary=" + boundary);
+
+        OutputStream out = response.getOutputStream();
+        try (FileChannel channel = FileChannel.open(video.path(), StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(out);
+            for (ResourceRegion region : regions) {
+                long start = region.getPosition();
+                long end = start + region.getCount() - 1;
+                String partHeader = "\r\n--" + boundary + "\r\n"
+                        + HttpHeaders.CONTENT_TYPE + ": " + contentType + "\r\n"
+                        + HttpHeaders.CONTENT_RANGE + ": bytes " + start + "-" + end + "/" + length + "\r\n\r\n";
+                out.write(partHeader.getBytes(StandardCharsets.US_ASCII));
+                transfer(channel, start, end + 1, target);
+            }
+            out.write(("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII));
+        } catch (IOException ex) {
+            log.debug("Video stream interrupted: path={}, error={}", video.path(), ex.getMessage());
+        }
+    }
+
+    private static void transfer(FileChannel channel, long start, long endExclusive, WritableByteChannel target)
+            throws IOException {
+        long position = start;
+        while (position < endExclusive) {
+            long transferred = channel.transferTo(position, endExclusive - position, target);
+            if (transferred <= 0) {
+                break;
+            }
+            position += transferred;
+        }
+    }
+
+    /**
+     * Write bytes [start, endExclusive) of the video to the response.
+     */
+    private void writeBody(FileService.VideoStreamResult video, HttpServletRequest request, HttpServletResponse response,
+                           HttpHeaders headers, MediaType contentType, HttpStatus status,
+                           long start, long endExclusive) throws IOException {
+        long count = endExclusive - start;
+
+        response.setStatus(status.value());
+        headers.forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+        response.setContentType(contentType.toString());
+        response.setContentLengthLong(count);
+
+        if (count == 0) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // Tomcat sends the file after the servlet returns, straight from the page cache to the socket
+            request.setAttribute(SENDFILE_FILENAME, video.path().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, endExclusive);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(video.path(), StandardOpenOption.READ)) {
+            transfer(channel, start, endExclusive, Channels.newChannel(response.getOutputStream()));
+        } catch (IOException ex) {
+            // Players abort range requests all the time when seeking
+            log.debug("Video stream interrupted: path={}, error={}", video.path(), ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.nexus.backend.controller;
+
+import com.nexus.backend.dto.request.CreateUploadSessionRequest;
+import com.nexus.backend.dto.response.ApiResponse;
+import com.nexus.backend.dto.response.FileResponse;
+import com.nexus.backend.dto.response.UploadSessionResponse;
+import com.nexus.backend.entity.User;
+import com.nexus.backend.service.ChunkedUploadService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * REST Controller for resumable chunked video uploads.
+ *
+ * Endpoints:
+ * - POST /api/videos/upload-sessions : Create upload session
+ * - GET /api/videos/upload-sessions/{id} : Get session and received chunks
+ * - PUT /api/videos/upload-sessions/{id}/chunks/{index} : Upload one chunk (raw body, idempotent)
+ * - POST /api/videos/upload-sessions/{id}/commit : Assemble chunks and create the video
+ * - DELETE /api/videos/upload-sessions/{id} : Abort session
+ *
+ */
+@RestController
+@RequestMapping("/api/videos/upload-sessions")
+@RequiredArgsConstructor
+@Slf4j
+public class VideoUploadSessionController {
+
+    private final ChunkedUploadService chunkedUploadService;
+
+    /**
+     * Create an upload session.
+     */
+    @PostMapping
+    public ResponseEntity<ApiResponse<UploadSessionResponse>> createSession(
+            @Valid @RequestBody CreateUploadSessionRequest request,
+            @AuthenticationPrincipal User user) {
+        log.info("Upload session request: user={}, filename={}, totalSize={}",
+                user.getUsername(), request.getFilename(), request.getTotalSize());
+        UploadSessionResponse response = chunkedUploadService.createSession(request, user);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success("업로드 세션 생성 완료", response));
+    }
+
+    /**
+     * Get an upload session with the chunks received so far (for resuming).
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<ApiResponse<UploadSessionResponse>> getSession(
+            @PathVariable UUID id,
+            @AuthenticationPrincipal User user) {
+        UploadSessionResponse response = chunkedUploadService.getSession(id, user.getId());
+        return ResponseEntity.ok(ApiResponse.success("업로드 세션 조회 완료", response));
+    }
+
+    /**
+     * Upload one chunk as the raw request body (application/octet-stream).
+     */
+    @PutMapping("/{id}/chunks/{index}")
+    public ResponseEntity<ApiResponse<Void>> putChunk(
+            @PathVariable UUID id,
+            @PathVariable int index,
+            HttpServletRequest request,
+            @AuthenticationPrincipal User user) throws IOException {
+        chunkedUploadService.putChunk(id, index, request.getInputStream(), request.getContentLengthLong(), user.getId());
+        return ResponseEntity.ok(ApiResponse.success("청크 업로드 완료", null));
+    }
+
+    /**
+     * Assemble all chunks and create the video.
+     */
+    @PostMapping("/{id}/commit")
+    public ResponseEntity<ApiResponse<FileResponse>> commit(
+            @PathVariable UUID id,
+            @AuthenticationPrincipal User user) {
+        log.info("Upload session commit: user={}, sessionId={}", user.getUsername(), id);
+        FileResponse response = chunkedUploadService.commit(id, user);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success("영상 업로드 완료", response));
+    }
+
+    /**
+     * Abort an upload session and discard its chunks.
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<ApiResponse<Void>> abort(
+            @PathVariable UUID id,
+            @AuthenticationPrincipal User user) {
+        chunkedUploadService.abort(id, user.getId());
+        return ResponseEntity.ok(ApiResponse.success("업로드 세션 취소 완료", null));
+    }
+}
@@ -0,0 +1,51 @@
+package com.nexus.backend.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateUploadSessionRequest {
+
+    /**
+     * 원본 파일명
+     */
+    @NotBlank(message = "Filename is required")
+    private String filename;
+
+    /**
+     * 영상 MIME 타입 (video/*)
+     */
+    @NotBlank(message = "Content type is required")
+    private String contentType;
+
+    /**
+     * 전체 파일 크기 (bytes)
+     */
+    @NotNull(message = "Total size is required")
+    @Positive(message = "Total size must be positive")
+    private Long totalSize;
+
+    /**
+     * 청크 크기 (bytes, 선택사항 - 미지정 시 서버 기본값)
+     */
+    @Positive(message = "Chunk size must be positive")
+    private Integer chunkSize;
+
+    /**
+     * 원본 언어 (STT 처리용)
+     */
+    private String sourceLanguage;
+
+    /**
+     * 목표 언어 (번역용)
+     */
+    private String targetLanguage;
+}
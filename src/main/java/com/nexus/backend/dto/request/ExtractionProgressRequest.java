@@ -0,0 +1,28 @@
+package com.nexus.backend.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
+import lombok.Data;
+
+/**
+ * Progress report posted by the Python extractor for a glossary extraction job.
+ */
+@Data
+public class ExtractionProgressRequest {
+
+    @Pattern(regexp = "PROCESSING|COMPLETED|FAILED", message = "Status must be PROCESSING, COMPLETED or FAILED")
+    private String status;
+
+    @Min(value = 0, message = "Progress must be between 0 and 100")
+    @Max(value = 100, message = "Progress must be between 0 and 100")
+    private Integer progress;
+
+    @Min(value = 0, message = "Terms extracted must not be negative")
+    @JsonProperty("terms_extracted")
+    private Integer termsExtracted;
+
+    @JsonProperty("error_message")
+    private String errorMessage;
+}
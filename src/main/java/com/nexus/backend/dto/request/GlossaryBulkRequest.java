@@ -0,0 +1,34 @@
+package com.nexus.backend.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GlossaryBulkRequest {
+
+    @NotEmpty(message = "Term IDs are required")
+    @Size(max = 10000, message = "At most 10,000 terms per request")
+    private List<@NotNull UUID> termIds;
+
+    /**
+     * New domain for /batch/domain (null or blank clears it)
+     */
+    @Size(max = 100, message = "Domain must be at most 100 characters")
+    private String domain;
+
+    /**
+     * New project for /batch/project (null detaches the terms)
+     */
+    private UUID projectId;
+}
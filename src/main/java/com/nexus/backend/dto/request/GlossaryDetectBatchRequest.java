@@ -0,0 +1,32 @@
+package com.nexus.backend.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GlossaryDetectBatchRequest {
+
+    /**
+     * Texts to scan with the same glossary (e.g. one entry per subtitle or message).
+     * Their combined length is capped by {@code glossary.detector.max-batch-characters}.
+     */
+    @NotEmpty(message = "Texts are required")
+    @Size(max = 10000, message = "At most 10,000 texts per batch")
+    private List<@NotNull @Size(max = 1000000) String> texts;
+
+    /**
+     * Detect only the project's glossary (optional - defaults to all of the user's terms)
+     */
+    private UUID projectId;
+}
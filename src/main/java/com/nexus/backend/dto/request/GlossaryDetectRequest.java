@@ -0,0 +1,29 @@
+package com.nexus.backend.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GlossaryDetectRequest {
+
+    /**
+     * Text to scan (subtitle track, document page, message, ...)
+     */
+    @NotNull(message = "Text is required")
+    @Size(max = 1000000, message = "Text must be at most 1,000,000 characters")
+    private String text;
+
+    /**
+     * Detect only the project's glossary (optional - defaults to all of the user's terms)
+     */
+    private UUID projectId;
+}
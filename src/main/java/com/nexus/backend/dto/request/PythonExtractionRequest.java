@@ -1,5 +1,6 @@
 package com.nexus.backend.dto.request;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -23,6 +24,10 @@ public class PythonExtractionRequest {
     @JsonProperty("file_path")
     private String filePath;
 
+    /**
+     * Base64 file content, only sent in the base64 (fallback) transfer mode.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     @JsonProperty("file_content")
     private String fileContent;
 
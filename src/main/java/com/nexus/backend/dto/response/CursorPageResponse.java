@@ -0,0 +1,42 @@
+package com.nexus.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of a cursor (keyset) paged listing
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+
+    private List<T> content;
+
+    /**
+     * Requested page size
+     */
+    private Integer size;
+
+    private Boolean hasNext;
+
+    /**
+     * Pass as ?cursor= to get the next page (null on the last page)
+     */
+    private String nextCursor;
+
+    /**
+     * Total rows in the listing; only computed for the first page and only when requested
+     */
+    private Long totalElements;
+
+    /**
+     * False when totalElements is a planner estimate
+     */
+    private Boolean totalExact;
+}
@@ -0,0 +1,52 @@
+package com.nexus.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Glossary term found in a scanned text
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DetectedTermResponse {
+
+    private UUID termId;
+    private String koreanTerm;
+    private String englishTerm;
+    private String vietnameseTerm;
+    private String japaneseTerm;
+    private String chineseTerm;
+    private String abbreviation;
+
+    /**
+     * Number of occurrences (non-overlapping, leftmost-longest)
+     */
+    private Integer count;
+
+    /**
+     * Occurrences in text order
+     */
+    private List<Span> spans;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Span {
+        /**
+         * Start offset (inclusive, UTF-16 index)
+         */
+        private int start;
+
+        /**
+         * End offset (exclusive)
+         */
+        private int end;
+    }
+}
@@ -0,0 +1,37 @@
+package com.nexus.backend.dto.response;
+
+import com.nexus.backend.entity.EmailSyncState;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmailBackfillStatusResponse {
+
+    private String folder;
+    private String status;
+    private Long processedMessages;
+    private Long insertedMessages;
+    private Double messagesPerSecond;
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+
+    public static EmailBackfillStatusResponse from(EmailSyncState state) {
+        long elapsedMs = state.getBackfillElapsedMs();
+        return EmailBackfillStatusResponse.builder()
+                .folder(state.getFolder())
+                .status(state.getBackfillStatus())
+                .processedMessages(state.getBackfillProcessed())
+                .insertedMessages(state.getBackfillInserted())
+                .messagesPerSecond(elapsedMs > 0 ? state.getBackfillProcessed() * 1000.0 / elapsedMs : 0.0)
+                .startedAt(state.getBackfillStartedAt())
+                .completedAt(state.getBackfillCompletedAt())
+                .build();
+    }
+}
@@ -0,0 +1,31 @@
+package com.nexus.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Result of a bulk glossary operation
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GlossaryBulkResponse {
+
+    /**
+     * Distinct term IDs in the request
+     */
+    private Integer requested;
+
+    /**
+     * Terms deleted / updated
+     */
+    private Integer affected;
+
+    /**
+     * IDs that don't exist or belong to another user
+     */
+    private Integer notFound;
+}
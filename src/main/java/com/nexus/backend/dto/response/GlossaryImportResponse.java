@@ -0,0 +1,66 @@
+package com.nexus.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Glossary bulk import result
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GlossaryImportResponse {
+
+    /**
+     * Data rows read (header and blank rows excluded)
+     */
+    private Long totalRows;
+
+    /**
+     * Rows inserted or updated
+     */
+    private Long importedRows;
+
+    /**
+     * Rows skipped because the term already exists (SKIP_EXISTING mode)
+     */
+    private Long skippedRows;
+
+    /**
+     * Rows rejected by validation or by the database
+     */
+    private Long failedRows;
+
+    /**
+     * Per-row errors (capped; see errorsTruncated)
+     */
+    private List<RowError> errors;
+
+    /**
+     * True when more rows failed than are listed in errors
+     */
+    private Boolean errorsTruncated;
+
+    /**
+     * Error that stopped reading the file part-way (null when the whole file was read).
+     * Rows read before it are imported and counted above.
+     */
+    private String fileError;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        /**
+         * Row number in the file (1-based, header = 1)
+         */
+        private long row;
+
+        private String message;
+    }
+}
@@ -0,0 +1,48 @@
+package com.nexus.backend.dto.response;
+
+import com.nexus.backend.entity.OutlookSyncSchedule;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutlookSyncStatusResponse {
+
+    private Boolean syncing;
+    private LocalDateTime lastSucceededAt;
+    private Long lagSeconds;
+    private LocalDateTime nextSyncAt;
+    private Long lastDurationMs;
+    private Integer lastChanged;
+    private Double changesPerSecond;
+    private Integer consecutiveFailures;
+    private String lastError;
+
+    public static OutlookSyncStatusResponse from(OutlookSyncSchedule schedule) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime since = schedule.getLastSucceededAt() != null
+                ? schedule.getLastSucceededAt() : schedule.getCreatedAt();
+        Long durationMs = schedule.getLastDurationMs();
+        Integer changed = schedule.getLastChanged();
+
+        return OutlookSyncStatusResponse.builder()
+                .syncing(schedule.getLockedUntil() != null && schedule.getLockedUntil().isAfter(now))
+                .lastSucceededAt(schedule.getLastSucceededAt())
+                .lagSeconds(since != null ? Math.max(0, Duration.between(since, now).getSeconds()) : null)
+                .nextSyncAt(schedule.getNextSyncAt())
+                .lastDurationMs(durationMs)
+                .lastChanged(changed)
+                .changesPerSecond(durationMs != null && durationMs > 0 && changed != null
+                        ? changed * 1000.0 / durationMs : null)
+                .consecutiveFailures(schedule.getConsecutiveFailures())
+                .lastError(schedule.getLastError())
+                .build();
+    }
+}
@@ -9,7 +9,6 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Data
 @Builder
@@ -27,19 +26,19 @@ public class ProjectResponse {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
-    public static ProjectResponse from(Project project) {
+    /**
+     * Build a response from batch-loaded file IDs and term count.
+     * Does not touch the lazy files / glossaryTerms collections.
+     */
+    public static ProjectResponse from(Project project, List<UUID> documentIds, long termCount) {
         return ProjectResponse.builder()
                 .id(project.getId())
                 .name(project.getName())
                 .description(project.getDescription())
                 .status(project.getStatus())
-                .documentCount(project.getFiles() != null ? project.getFiles().size() : 0)
-                .termCount(project.getGlossaryTerms() != null ? project.getGlossaryTerms().size() : 0)
-                .documentIds(project.getFiles() != null ?
-                        project.getFiles().stream()
-                                .map(file -> file.getId())
-                                .collect(Collectors.toList()) :
-                        List.of())
+                .documentCount(documentIds.size())
+                .termCount((int) termCount)
+                .documentIds(documentIds)
                 .createdAt(project.getCreatedAt())
                 .updatedAt(project.getUpdatedAt())
                 .build();
@@ -0,0 +1,19 @@
+package com.nexus.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StreamUrlResponse {
+
+    private String url;
+    private Instant expiresAt;
+    private Long expiresIn;
+}
@@ -0,0 +1,8 @@
+package com.nexus.backend.entity;
+
+public enum BackgroundJobStatus {
+    QUEUED,     // 실행 대기 (재시도 대기 포함)
+    RUNNING,    // 워커가 점유하여 실행 중
+    SUCCEEDED,  // 완료
+    FAILED      // 재시도 횟수 초과로 최종 실패
+}
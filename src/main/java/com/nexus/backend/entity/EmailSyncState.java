@@ -0,0 +1,87 @@
+package com.nexus.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Outlook mail sync state of one user's mail folder: Graph delta token and backfill checkpoint.
+ * Delta sync and backfill write their own columns concurrently; dynamic updates keep a flush of one side
+ * from rewriting the other side's columns with stale values.
+ */
+@Entity
+@DynamicUpdate
+@Table(name = "email_sync_states", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_email_sync_states_user_folder", columnNames = {"user_id", "folder"})
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmailSyncState {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Column(nullable = false, length = 50)
+    private String folder;
+
+    /**
+     * deltaLink of the last completed delta round (null = next sync is a full round)
+     */
+    @Column(name = "delta_link", columnDefinition = "TEXT")
+    private String deltaLink;
+
+    @Column(name = "last_delta_sync_at")
+    private LocalDateTime lastDeltaSyncAt;
+
+    /**
+     * QUEUED, RUNNING, COMPLETED, FAILED (null = never backfilled)
+     */
+    @Column(name = "backfill_status", length = 20)
+    private String backfillStatus;
+
+    /**
+     * nextLink of the next page to backfill (null = start from the first page)
+     */
+    @Column(name = "backfill_next_link", columnDefinition = "TEXT")
+    private String backfillNextLink;
+
+    @Column(name = "backfill_processed", nullable = false)
+    @Builder.Default
+    private Long backfillProcessed = 0L;
+
+    @Column(name = "backfill_inserted", nullable = false)
+    @Builder.Default
+    private Long backfillInserted = 0L;
+
+    @Column(name = "backfill_elapsed_ms", nullable = false)
+    @Builder.Default
+    private Long backfillElapsedMs = 0L;
+
+    @Column(name = "backfill_started_at")
+    private LocalDateTime backfillStartedAt;
+
+    @Column(name = "backfill_completed_at")
+    private LocalDateTime backfillCompletedAt;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -59,6 +59,9 @@ public class File {
     @Column(name = "status", nullable = false, length = 20)
     private String status;
 
+    @Column(name = "blob_sha256", length = 64)
+    private String blobSha256;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
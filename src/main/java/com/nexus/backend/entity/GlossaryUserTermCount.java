@@ -0,0 +1,50 @@
+package com.nexus.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Per-user glossary term counters.
+ * Maintained by database triggers on glossary_terms (V43), so the entity is read-only.
+ */
+@Entity
+@Immutable
+@Table(name = "glossary_user_term_counts")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GlossaryUserTermCount {
+
+    @Id
+    @Column(name = "user_id")
+    private UUID userId;
+
+    @Column(name = "total_terms", nullable = false)
+    private Long totalTerms;
+
+    @Column(name = "verified_terms", nullable = false)
+    private Long verifiedTerms;
+
+    @Column(name = "unverified_terms", nullable = false)
+    private Long unverifiedTerms;
+
+    @Column(name = "auto_extracted_terms", nullable = false)
+    private Long autoExtractedTerms;
+
+    @Column(name = "user_added_terms", nullable = false)
+    private Long userAddedTerms;
+
+    @Column(name = "user_edited_terms", nullable = false)
+    private Long userEditedTerms;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,69 @@
+package com.nexus.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Background Outlook sync schedule and sync lease of one connected user.
+ * Rows are created and changed only through {@code OutlookSyncScheduleRepository} statements using the
+ * database clock, and every transition of a leased row is guarded by {@code lockedBy}.
+ */
+@Entity
+@Table(name = "outlook_sync_schedules")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutlookSyncSchedule {
+
+    @Id
+    @Column(name = "user_id")
+    private UUID userId;
+
+    @Column(name = "tenant_key", nullable = false)
+    private String tenantKey;
+
+    @Column(name = "next_sync_at", nullable = false)
+    private LocalDateTime nextSyncAt;
+
+    @Column(name = "locked_by", length = 100)
+    private String lockedBy;
+
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "consecutive_failures", nullable = false)
+    @Builder.Default
+    private Integer consecutiveFailures = 0;
+
+    @Column(name = "last_started_at")
+    private LocalDateTime lastStartedAt;
+
+    @Column(name = "last_succeeded_at")
+    private LocalDateTime lastSucceededAt;
+
+    @Column(name = "last_duration_ms")
+    private Long lastDurationMs;
+
+    @Column(name = "last_changed")
+    private Integer lastChanged;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
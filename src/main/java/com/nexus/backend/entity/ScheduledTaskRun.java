@@ -0,0 +1,29 @@
+package com.nexus.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Last claimed run of a cluster-wide scheduled task.
+ * Rows are created and advanced only through {@code ScheduledTaskRunRepository#claim} using the database clock.
+ */
+@Entity
+@Table(name = "scheduled_task_runs")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduledTaskRun {
+
+    @Id
+    @Column(name = "task_name", length = 100)
+    private String taskName;
+
+    @Column(name = "last_run_at", nullable = false)
+    private LocalDateTime lastRunAt;
+}
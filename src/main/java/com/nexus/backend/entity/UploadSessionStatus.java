@@ -0,0 +1,8 @@
+package com.nexus.backend.entity;
+
+public enum UploadSessionStatus {
+    OPEN,       // 청크 수신 중
+    COMMITTED,  // 병합 완료 (파일 생성됨)
+    ABORTED,    // 사용자가 취소
+    EXPIRED     // 만료되어 정리됨
+}
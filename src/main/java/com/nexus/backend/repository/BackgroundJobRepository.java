@@ -0,0 +1,162 @@
+package com.nexus.backend.repository;
+
+import com.nexus.backend.entity.BackgroundJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository for the durable job queue.
+ * All state transitions after enqueue are single statements using the database clock, and
+ * every transition of a running job is guarded by {@code locked_by} (lease ownership).
+ */
+@Repository
+public interface BackgroundJobRepository extends JpaRepository<BackgroundJob, UUID> {
+
+    /**
+     * Serialize claims across nodes for the rest of the transaction, so per-user and global
+     * concurrency caps are exact. Claims are a single short statement, so contention is negligible.
+     */
+    @Query(value = "SELECT 1 FROM (SELECT pg_advisory_xact_lock(:key)) AS l", nativeQuery = true)
+    int lockClaims(@Param("key") long key);
+
+    /**
+     * Claim up to {@code limit} runnable jobs for this node.
+     *
+     * Runnable: QUEUED and due, or RUNNING with an expired lease (node died) and attempts left.
+     * Jobs of a user are only taken while the user has fewer than {@code perUserLimit} live jobs,
+     * and never more than {@code globalLimit} jobs run cluster-wide.
+     * Rows locked by a concurrent transaction are skipped, never waited for.
+     *
+     * @return IDs of the claimed jobs
+     */
+    @Query(value = "WITH running AS (" +
+                   "    SELECT user_id, COUNT(*) AS n FROM background_jobs " +
+                   "    WHERE status = 'RUNNING' AND locked_until > now() " +
+                   "    GROUP BY user_id" +
+                   "), ranked AS (" +
+                   "    SELECT j.id, j.user_id, j.run_at, " +
+                   "           ROW_NUMBER() OVER (PARTITION BY j.user_id ORDER BY j.run_at, j.id) AS rn " +
+                   "    FROM background_jobs j " +
+                   "    WHERE (j.status = 'QUEUED' AND j.run_at <= now()) " +
+                   "       OR (j.status = 'RUNNING' AND j.locked_until <= now() AND j.attempts < j.max_attempts)" +
+                   "), eligible AS (" +
+                   "    SELECT r.id FROM ranked r " +
+                   "    LEFT JOIN running c ON c.user_id = r.user_id " +
+                   "    WHERE r.user_id IS NULL OR r.rn + COALESCE(c.n, 0) <= :perUserLimit " +
+                   "    ORDER BY r.run_at, r.id " +
+                   "    LIMIT GREATEST(0, LEAST(:limit, :globalLimit - (SELECT COALESCE(SUM(n), 0) FROM running)))" +
+                   "), locked AS (" +
+                   "    SELECT j.id FROM background_jobs j " +
+                   "    WHERE j.id IN (SELECT id FROM eligible) " +
+                   "    FOR UPDATE SKIP LOCKED" +
+                   ") " +
+                   "UPDATE background_jobs j " +
+                   "SET status = 'RUNNING', locked_by = :node, " +
+                   "    locked_until = now() + (:visibilitySeconds * INTERVAL '1 second'), " +
+                   "    attempts = j.attempts + 1, started_at = COALESCE(j.started_at, now()), updated_at = now() " +
+                   "FROM locked l " +
+                   "WHERE j.id = l.id " +
+                   "RETURNING j.id",
+           nativeQuery = true)
+    List<UUID> claim(@Param("node") String node,
+                     @Param("limit") int limit,
+                     @Param("perUserLimit") int perUserLimit,
+                     @Param("globalLimit") int globalLimit,
+                     @Param("visibilitySeconds") long visibilitySeconds);
+
+    /**
+     * Extend the lease of jobs this node is still running.
+     */
+    @Modifying
+    @Query(value = "UPDATE background_jobs " +
+                   "SET locked_until = now() + (:visibilitySeconds * INTERVAL '1 second'), updated_at = now() " +
+                   "WHERE id IN (:ids) AND locked_by = :node AND status = 'RUNNING'",
+           nativeQuery = true)
+    int heartbeat(@Param("ids") Collection<UUID> ids,
+                  @Param("node") String node,
+                  @Param("visibilitySeconds") long visibilitySeconds);
+
+    @Modifying
+    @Query(value = "UPDATE background_jobs " +
+                   "SET status = 'SUCCEEDED', completed_at = now(), locked_by = NULL, locked_until = NULL, " +
+                   "    last_error = NULL, updated_at = now() " +
+                   "WHERE id = :id AND locked_by = :node AND status = 'RUNNING'",
+           nativeQuery = true)
+    int complete(@Param("id") UUID id, @Param("node") String node);
+
+    /**
+     * Put a failed job back in the queue after a backoff delay.
+     */
+    @Modifying
+    @Query(value = "UPDATE background_jobs " +
+                   "SET status = 'QUEUED', run_at = now() + (:delaySeconds * INTERVAL '1 second'), " +
+                   "    locked_by = NULL, locked_until = NULL, last_error = :error, updated_at = now() " +
+                   "WHERE id = :id AND locked_by = :node AND status = 'RUNNING'",
+           nativeQuery = true)
+    int retry(@Param("id") UUID id,
+              @Param("node") String node,
+              @Param("delaySeconds") long delaySeconds,
+              @Param("error") String error);
+
+    @Modifying
+    @Query(value = "UPDATE background_jobs " +
+                   "SET status = 'FAILED', completed_at = now(), locked_by = NULL, locked_until = NULL, " +
+                   "    last_error = :error, updated_at = now() " +
+                   "WHERE id = :id AND locked_by = :node AND status = 'RUNNING'",
+           nativeQuery = true)
+    int fail(@Param("id") UUID id, @Param("node") String node, @Param("error") String error);
+
+    /**
+     * Fail running jobs whose lease expired on their last allowed attempt.
+     *
+     * @return IDs of the jobs that were failed
+     */
+    @Query(value = "UPDATE background_jobs " +
+                   "SET status = 'FAILED', completed_at = now(), locked_by = NULL, locked_until = NULL, " +
+                   "    last_error = COALESCE(last_error, 'Worker lease expired'), updated_at = now() " +
+                   "WHERE status = 'RUNNING' AND locked_until <= now() AND attempts >= max_attempts " +
+                   "RETURNING id",
+           nativeQuery = true)
+    List<UUID> failExpired();
+
+    /**
+     * Hand the jobs of a stopping node back to the queue without counting the interrupted attempt.
+     */
+    @Modifying
+    @Query(value = "UPDATE background_jobs " +
+                   "SET status = 'QUEUED', attempts = GREATEST(attempts - 1, 0), " +
+                   "    locked_by = NULL, locked_until = NULL, updated_at = now() " +
+                   "WHERE locked_by = :node AND status = 'RUNNING'",
+           nativeQuery = true)
+    int releaseNode(@Param("node") String node);
+
+    @Query(value = "SELECT job_type AS jobType, COUNT(*) AS queued FROM background_jobs " +
+                   "WHERE status = 'QUEUED' GROUP BY job_type",
+           nativeQuery = true)
+    List<QueueDepth> countQueuedByType();
+
+    /**
+     * Remove finished jobs completed before the cutoff.
+     */
+    @Modifying
+    @Query("DELETE FROM BackgroundJob j WHERE j.status IN (com.nexus.backend.entity.BackgroundJobStatus.SUCCEEDED, " +
+           "com.nexus.backend.entity.BackgroundJobStatus.FAILED) AND j.completedAt < :cutoff")
+    int deleteFinishedBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * Number of queued jobs per job type
+     */
+    interface QueueDepth {
+        String getJobType();
+
+        long getQueued();
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -81,4 +82,11 @@ public interface EmailRepository extends JpaRepository<Email, UUID> {
     @Query("DELETE FROM Email e WHERE e.messageId IN :messageIds AND e.user.id = :userId")
     void deleteByMessageIdsAndUserId(@Param("messageIds") List<String> messageIds,
                                        @Param("userId") UUID userId);
+
+    // Delta sync tombstones: only remove the message from the folder that reported the removal
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("DELETE FROM Email e WHERE e.messageId IN :messageIds AND e.user.id = :userId AND e.folder = :folder")
+    int deleteByMessageIdsAndUserIdAndFolder(@Param("messageIds") Collection<String> messageIds,
+                                             @Param("userId") UUID userId,
+                                             @Param("folder") String folder);
 }
@@ -0,0 +1,85 @@
+package com.nexus.backend.repository;
+
+import com.nexus.backend.entity.EmailSyncState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface EmailSyncStateRepository extends JpaRepository<EmailSyncState, UUID> {
+
+    Optional<EmailSyncState> findByUserIdAndFolder(UUID userId, String folder);
+
+    /**
+     * Forget every folder's delta token, so the next sync of each folder is a full round.
+     */
+    @Modifying
+    @Query("UPDATE EmailSyncState s SET s.deltaLink = NULL, s.updatedAt = :now WHERE s.userId = :userId")
+    int clearDeltaLinks(@Param("userId") UUID userId, @Param("now") LocalDateTime now);
+
+    /**
+     * Store the deltaLink of a completed delta round, creating the folder's row if needed.
+     * Only delta columns are written, so backfill progress committed meanwhile is kept.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO email_sync_states (id, user_id, folder, delta_link, last_delta_sync_at, created_at, updated_at) " +
+                   "VALUES (gen_random_uuid(), :userId, :folder, CAST(:deltaLink AS TEXT), :now, :now, :now) " +
+                   "ON CONFLICT (user_id, folder) DO UPDATE SET delta_link = EXCLUDED.delta_link, " +
+                   "last_delta_sync_at = EXCLUDED.last_delta_sync_at, updated_at = EXCLUDED.updated_at",
+           nativeQuery = true)
+    int saveDeltaLink(@Param("userId") UUID userId,
+                      @Param("folder") String folder,
+                      @Param("deltaLink") String deltaLink,
+                      @Param("now") LocalDateTime now);
+
+    // Backfill checkpoint writes touch only backfill_* columns, so they never revert a delta_link
+    // committed by a concurrent delta round (and vice versa)
+
+    /**
+     * Mark a queued / interrupted backfill as RUNNING.
+     *
+     * @return 0 if the backfill is no longer QUEUED or RUNNING
+     */
+    @Modifying
+    @Query("UPDATE EmailSyncState s SET s.backfillStatus = 'RUNNING', " +
+           "s.backfillStartedAt = COALESCE(s.backfillStartedAt, :now), s.updatedAt = :now " +
+           "WHERE s.id = :id AND s.backfillStatus IN ('QUEUED', 'RUNNING')")
+    int startBackfill(@Param("id") UUID id, @Param("now") LocalDateTime now);
+
+    /**
+     * Record one written backfill page; the last page (nextLink = null) completes the backfill.
+     *
+     * @return 0 if the backfill was failed or restarted meanwhile
+     */
+    @Modifying
+    @Query("UPDATE EmailSyncState s SET s.backfillNextLink = :nextLink, " +
+           "s.backfillProcessed = s.backfillProcessed + :processed, " +
+           "s.backfillInserted = s.backfillInserted + :inserted, " +
+           "s.backfillElapsedMs = s.backfillElapsedMs + :elapsedMs, " +
+           "s.backfillStatus = :status, s.backfillCompletedAt = :completedAt, s.updatedAt = :now " +
+           "WHERE s.id = :id AND s.backfillStatus = 'RUNNING'")
+    int recordBackfillPage(@Param("id") UUID id,
+                           @Param("nextLink") String nextLink,
+                           @Param("processed") long processed,
+                           @Param("inserted") long inserted,
+                           @Param("elapsedMs") long elapsedMs,
+                           @Param("status") String status,
+                           @Param("completedAt") LocalDateTime completedAt,
+                           @Param("now") LocalDateTime now);
+
+    /**
+     * Move the user's QUEUED / RUNNING backfills to the given status (checkpoints are kept).
+     */
+    @Modifying
+    @Query("UPDATE EmailSyncState s SET s.backfillStatus = :status, s.updatedAt = :now " +
+           "WHERE s.userId = :userId AND s.backfillStatus IN ('QUEUED', 'RUNNING')")
+    int markUnfinishedBackfills(@Param("userId") UUID userId,
+                                @Param("status") String status,
+                                @Param("now") LocalDateTime now);
+}
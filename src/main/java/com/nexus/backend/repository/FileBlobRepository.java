@@ -0,0 +1,58 @@
+package com.nexus.backend.repository;
+
+import com.nexus.backend.entity.FileBlob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Repository for content-addressed blobs.
+ * Reference counts are changed with single atomic statements so concurrent uploads and deletes
+ * of the same content serialize on the blob row.
+ */
+@Repository
+public interface FileBlobRepository extends JpaRepository<FileBlob, String> {
+
+    int BLOB_LOCK_CLASS = 0x626C6F62;  // 'blob'
+
+    /**
+     * Serialize reference changes and byte writes / deletes of one blob for the rest of the transaction.
+     * Uses the two-key advisory lock space, so it never collides with the single-key claim locks.
+     */
+    @Query(value = "SELECT 1 FROM (SELECT pg_advisory_xact_lock(" + BLOB_LOCK_CLASS + ", hashtext(:sha256))) AS l",
+           nativeQuery = true)
+    int lock(@Param("sha256") String sha256);
+
+    /**
+     * Register one more reference to a blob, creating the row on first use.
+     *
+     * @return reference count after the increment (1 means the bytes still have to be written)
+     */
+    @Query(value = "INSERT INTO file_blobs (sha256, storage_path, file_size, mime_type, ref_count, created_at, updated_at) " +
+                   "VALUES (:sha256, :storagePath, :fileSize, :mimeType, 1, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP) " +
+                   "ON CONFLICT (sha256) DO UPDATE SET ref_count = file_blobs.ref_count + 1, updated_at = CURRENT_TIMESTAMP " +
+                   "RETURNING ref_count",
+           nativeQuery = true)
+    int acquire(@Param("sha256") String sha256,
+                @Param("storagePath") String storagePath,
+                @Param("fileSize") long fileSize,
+                @Param("mimeType") String mimeType);
+
+    /**
+     * Drop one reference to a blob.
+     *
+     * @return reference count after the decrement, empty if the blob is unknown
+     */
+    @Query(value = "UPDATE file_blobs SET ref_count = ref_count - 1, updated_at = CURRENT_TIMESTAMP " +
+                   "WHERE sha256 = :sha256 AND ref_count > 0 RETURNING ref_count",
+           nativeQuery = true)
+    Optional<Integer> release(@Param("sha256") String sha256);
+
+    @Modifying
+    @Query("DELETE FROM FileBlob b WHERE b.sha256 = :sha256 AND b.refCount = 0")
+    int deleteIfUnreferenced(@Param("sha256") String sha256);
+}
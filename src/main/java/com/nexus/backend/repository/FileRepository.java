@@ -25,6 +25,19 @@ public interface FileRepository extends JpaRepository<File, UUID> {
         */
        Page<File> findByUserIdAndFileType(UUID userId, FileType fileType, Pageable pageable);
 
+       /**
+        * Find files by user ID and file type with their document/video metadata fetched in the same query.
+        * Both one-to-one sides are inverse (mappedBy) and would otherwise be loaded one row at a time.
+        */
+       @Query(value = "SELECT f FROM File f " +
+                     "LEFT JOIN FETCH f.documentFile " +
+                     "LEFT JOIN FETCH f.videoFile " +
+                     "WHERE f.user.id = :userId AND f.fileType = :fileType",
+              countQuery = "SELECT COUNT(f) FROM File f WHERE f.user.id = :userId AND f.fileType = :fileType")
+       Page<File> findWithDetailsByUserIdAndFileType(@Param("userId") UUID userId,
+                     @Param("fileType") FileType fileType,
+                     Pageable pageable);
+
        /**
         * Find files by user ID (all types, paginated)
         */
@@ -45,6 +58,11 @@ public interface FileRepository extends JpaRepository<File, UUID> {
         */
        boolean existsByIdAndUserId(UUID id, UUID userId);
 
+       /**
+        * Next batch of files not yet moved into the content-addressed blob store (keyset by id)
+        */
+       List<File> findTop200ByBlobSha256IsNullAndIdGreaterThanOrderByIdAsc(UUID id);
+
        /**
         * Search files by filename or type
         */
@@ -2,6 +2,9 @@ package com.nexus.backend.repository;
 
 import com.nexus.backend.entity.GlossaryExtractionJob;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -26,4 +29,26 @@ public interface GlossaryExtractionJobRepository extends JpaRepository<GlossaryE
      * @param fileId the file ID
      */
     void deleteByFileId(UUID fileId);
+
+    /**
+     * Write coalesced progress of a job that has not finished yet.
+     * Progress never moves backwards; started_at / completed_at are set on the first matching state.
+     *
+     * @return 1 if updated, 0 if the job is gone or already COMPLETED / FAILED
+     */
+    @Modifying
+    @Query(value = "UPDATE glossary_extraction_jobs " +
+                   "SET status = :status, " +
+                   "    progress = GREATEST(COALESCE(progress, 0), :progress), " +
+                   "    terms_extracted = :termsExtracted, " +
+                   "    error_message = COALESCE(CAST(:errorMessage AS text), error_message), " +
+                   "    started_at = CASE WHEN :status <> 'PENDING' THEN COALESCE(started_at, now()) ELSE started_at END, " +
+                   "    completed_at = CASE WHEN :status IN ('COMPLETED', 'FAILED') THEN now() ELSE completed_at END " +
+                   "WHERE id = :id AND status NOT IN ('COMPLETED', 'FAILED')",
+           nativeQuery = true)
+    int updateProgress(@Param("id") UUID id,
+                       @Param("status") String status,
+                       @Param("progress") int progress,
+                       @Param("termsExtracted") int termsExtracted,
+                       @Param("errorMessage") String errorMessage);
 }
@@ -0,0 +1,67 @@
+package com.nexus.backend.repository;
+
+import com.nexus.backend.entity.GlossaryTerm;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Keyset (cursor) paging over glossary terms, implemented in {@link GlossaryTermKeysetRepositoryImpl}.
+ * Pages are ordered by (sort key, id) and continue after the last row of the previous page,
+ * so a deep page costs the same as the first one. Every sort column is NOT NULL (V1, enforced again by V49),
+ * so the row comparison skips no rows.
+ */
+public interface GlossaryTermKeysetRepository {
+
+    enum Scope {
+        /** All terms of a user */
+        USER,
+        /** Terms linked to a project's files */
+        PROJECT,
+        /** Terms linked to one file */
+        DOCUMENT
+    }
+
+    enum SortKey {
+        CREATED_AT("createdAt", "created_at", "timestamp"),
+        UPDATED_AT("updatedAt", "updated_at", "timestamp"),
+        KOREAN_TERM("koreanTerm", "korean_term", "varchar");
+
+        private final String property;
+        private final String column;
+        private final String sqlType;
+
+        SortKey(String property, String column, String sqlType) {
+            this.property = property;
+            this.column = column;
+            this.sqlType = sqlType;
+        }
+
+        public String property() {
+            return property;
+        }
+
+        String column() {
+            return column;
+        }
+
+        String sqlType() {
+            return sqlType;
+        }
+    }
+
+    /**
+     * Fetch up to limit terms after the given position (afterId == null starts from the beginning).
+     *
+     * @param afterValue sort key value of the last row of the previous page (LocalDateTime or String)
+     */
+    List<GlossaryTerm> findKeysetPage(Scope scope, UUID scopeId, SortKey sortKey, boolean ascending,
+                                      Object afterValue, UUID afterId, int limit);
+
+    long countInScope(Scope scope, UUID scopeId);
+
+    /**
+     * Planner row estimate for the scope (EXPLAIN), without scanning the terms.
+     */
+    long estimateCountInScope(Scope scope, UUID scopeId);
+}
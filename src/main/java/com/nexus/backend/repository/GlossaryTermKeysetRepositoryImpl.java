@@ -0,0 +1,83 @@
+package com.nexus.backend.repository;
+
+import com.nexus.backend.entity.GlossaryTerm;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Native SQL for {@link GlossaryTermKeysetRepository}. The statement is assembled from fixed fragments
+ * (scope filter, sort column), never from request input; values are always bound.
+ * User-scoped pages walk the V44 (user_id, sort key, id) indexes.
+ */
+class GlossaryTermKeysetRepositoryImpl implements GlossaryTermKeysetRepository {
+
+    private static final Pattern PLAN_ROWS = Pattern.compile("rows=(\\d+)");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<GlossaryTerm> findKeysetPage(Scope scope, UUID scopeId, SortKey sortKey, boolean ascending,
+                                             Object afterValue, UUID afterId, int limit) {
+        String column = "t." + sortKey.column();
+        String direction = ascending ? "ASC" : "DESC";
+
+        StringBuilder sql = new StringBuilder("SELECT t.* FROM glossary_terms t WHERE ").append(scopeFilter(scope));
+        if (afterId != null) {
+            sql.append(" AND (").append(column).append(", t.id) ").append(ascending ? ">" : "<")
+               .append(" (CAST(:afterValue AS ").append(sortKey.sqlType()).append("), CAST(:afterId AS uuid))");
+        }
+        sql.append(" ORDER BY ").append(column).append(' ').append(direction)
+           .append(", t.id ").append(direction)
+           .append(" LIMIT :limit");
+
+        Query query = entityManager.createNativeQuery(sql.toString(), GlossaryTerm.class)
+                .setParameter("scopeId", scopeId)
+                .setParameter("limit", limit);
+        if (afterId != null) {
+            query.setParameter("afterValue", afterValue).setParameter("afterId", afterId);
+        }
+        return query.getResultList();
+    }
+
+    @Override
+    public long countInScope(Scope scope, UUID scopeId) {
+        Object count = entityManager
+                .createNativeQuery("SELECT COUNT(*) FROM glossary_terms t WHERE " + scopeFilter(scope))
+                .setParameter("scopeId", scopeId)
+                .getSingleResult();
+        return ((Number) count).longValue();
+    }
+
+    @Override
+    public long estimateCountInScope(Scope scope, UUID scopeId) {
+        List<?> plan = entityManager
+                .createNativeQuery("EXPLAIN SELECT 1 FROM glossary_terms t WHERE " + scopeFilter(scope))
+                .setParameter("scopeId", scopeId)
+                .getResultList();
+        if (plan.isEmpty()) {
+            return 0;
+        }
+        // The top plan node's estimate is the estimated result size
+        Matcher matcher = PLAN_ROWS.matcher(String.valueOf(plan.get(0)));
+        return matcher.find() ? Long.parseLong(matcher.group(1)) : 0;
+    }
+
+    private static String scopeFilter(Scope scope) {
+        return switch (scope) {
+            case USER -> "t.user_id = :scopeId";
+            case PROJECT -> "EXISTS (SELECT 1 FROM glossary_term_documents gtd " +
+                            "INNER JOIN project_files pf ON gtd.file_id = pf.file_id " +
+                            "WHERE gtd.term_id = t.id AND pf.project_id = :scopeId)";
+            case DOCUMENT -> "EXISTS (SELECT 1 FROM glossary_term_documents gtd " +
+                             "WHERE gtd.term_id = t.id AND gtd.file_id = :scopeId)";
+        };
+    }
+}
@@ -1,39 +1,87 @@
 package com.nexus.backend.repository;
 
 import com.nexus.backend.entity.GlossaryTerm;
+import com.nexus.backend.entity.Project;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface GlossaryTermRepository extends JpaRepository<GlossaryTerm, UUID> {
+public interface GlossaryTermRepository extends JpaRepository<GlossaryTerm, UUID>, GlossaryTermKeysetRepository {
 
     // User-level queries (all terms for a user)
     Page<GlossaryTerm> findByUserId(UUID userId, Pageable pageable);
 
     Page<GlossaryTerm> findByUserIdAndStatus(UUID userId, String status, Pageable pageable);
 
-    @Query("SELECT t FROM GlossaryTerm t WHERE t.user.id = :userId " +
-           "AND (LOWER(t.koreanTerm) LIKE LOWER(CONCAT('%', :query, '%')) " +
-           "OR LOWER(t.englishTerm) LIKE LOWER(CONCAT('%', :query, '%')) " +
-           "OR LOWER(t.definition) LIKE LOWER(CONCAT('%', :query, '%')))")
+    // Indexed search over all language columns (V42 trigram indexes on search_names / definition)
+    // :query is the lower-cased search text, :pattern the LIKE-escaped '%query%' (see GlossaryService)
+    // Ranked exact name > substring > typo-tolerant word similarity, then by similarity score
+    String SEARCH_MATCH =
+            "(t.search_names LIKE :pattern " +
+            "OR lower(t.definition) LIKE :pattern " +
+            "OR :query <% t.search_names)";
+
+    String SEARCH_RANK =
+            "CASE WHEN :query IN (lower(t.korean_term), lower(t.english_term), lower(t.vietnamese_term), " +
+            "lower(t.japanese_term), lower(t.chinese_term), lower(t.abbreviation)) THEN 0 " +
+            "WHEN t.search_names LIKE :pattern THEN 1 " +
+            "WHEN :query <% t.search_names THEN 2 " +
+            "ELSE 3 END, word_similarity(:query, t.search_names) DESC";
+
+    @Query(value = "SELECT t.* FROM glossary_terms t " +
+                   "WHERE t.user_id = :userId AND " + SEARCH_MATCH + " " +
+                   "ORDER BY " + SEARCH_RANK,
+           countQuery = "SELECT COUNT(*) FROM glossary_terms t " +
+                        "WHERE t.user_id = :userId AND " + SEARCH_MATCH,
+           nativeQuery = true)
     Page<GlossaryTerm> searchByUserIdAndQuery(
         @Param("userId") UUID userId,
         @Param("query") String query,
+        @Param("pattern") String pattern,
         Pageable pageable
     );
 
     long countByUserId(UUID userId);
 
-    long countByUserIdAndStatus(UUID userId, String status);
+    // Term names only, for GlossaryTermDetectionService
+    @Query("SELECT t.id AS id, t.koreanTerm AS koreanTerm, t.englishTerm AS englishTerm, " +
+           "t.vietnameseTerm AS vietnameseTerm, t.japaneseTerm AS japaneseTerm, " +
+           "t.chineseTerm AS chineseTerm, t.abbreviation AS abbreviation " +
+           "FROM GlossaryTerm t WHERE t.user.id = :userId")
+    List<DetectableTerm> findDetectableTermsByUserId(@Param("userId") UUID userId);
+
+    @Query(value = "SELECT t.id AS id, t.korean_term AS koreanTerm, t.english_term AS englishTerm, " +
+                   "t.vietnamese_term AS vietnameseTerm, t.japanese_term AS japaneseTerm, " +
+                   "t.chinese_term AS chineseTerm, t.abbreviation AS abbreviation " +
+                   "FROM glossary_terms t " +
+                   "WHERE EXISTS (SELECT 1 FROM glossary_term_documents gtd " +
+                   "INNER JOIN project_files pf ON gtd.file_id = pf.file_id " +
+                   "WHERE gtd.term_id = t.id AND pf.project_id = :projectId)",
+           nativeQuery = true)
+    List<DetectableTerm> findDetectableTermsByProjectFiles(@Param("projectId") UUID projectId);
 
-    long countByUserIdAndIsVerified(UUID userId, boolean isVerified);
+    // Statistics in one aggregate pass (user-level reads normally use glossary_user_term_counts instead)
+    String STATISTICS_COLUMNS =
+            "COUNT(*) AS totalTerms, " +
+            "COUNT(*) FILTER (WHERE t.is_verified = true) AS verifiedTerms, " +
+            "COUNT(*) FILTER (WHERE t.is_verified = false) AS unverifiedTerms, " +
+            "COUNT(*) FILTER (WHERE t.status = 'AUTO_EXTRACTED') AS autoExtractedTerms, " +
+            "COUNT(*) FILTER (WHERE t.status = 'USER_ADDED') AS userAddedTerms, " +
+            "COUNT(*) FILTER (WHERE t.status = 'USER_EDITED') AS userEditedTerms";
+
+    @Query(value = "SELECT " + STATISTICS_COLUMNS + " FROM glossary_terms t WHERE t.user_id = :userId",
+           nativeQuery = true)
+    GlossaryStatistics getStatisticsByUserId(@Param("userId") UUID userId);
 
     boolean existsByUserIdAndKoreanTerm(UUID userId, String koreanTerm);
 
@@ -44,13 +92,43 @@ public interface GlossaryTermRepository extends JpaRepository<GlossaryTerm, UUID
 
     Optional<GlossaryTerm> findByIdAndUserId(UUID id, UUID userId);
 
-    @Query("SELECT t FROM GlossaryTerm t WHERE t.project.id = :projectId " +
-           "AND (LOWER(t.koreanTerm) LIKE LOWER(CONCAT('%', :query, '%')) " +
-           "OR LOWER(t.englishTerm) LIKE LOWER(CONCAT('%', :query, '%')) " +
-           "OR LOWER(t.definition) LIKE LOWER(CONCAT('%', :query, '%')))")
+    // Set-based bulk operations: one statement per call, scoped to the owner.
+    // The returned count is the number of the given ids that belong to the user.
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("DELETE FROM GlossaryTerm t WHERE t.id IN :ids AND t.user.id = :userId")
+    int deleteByIdInAndUserId(@Param("ids") Collection<UUID> ids, @Param("userId") UUID userId);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE GlossaryTerm t SET t.isVerified = :verified, t.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE t.id IN :ids AND t.user.id = :userId")
+    int updateVerifiedByIdInAndUserId(@Param("ids") Collection<UUID> ids,
+                                      @Param("userId") UUID userId,
+                                      @Param("verified") boolean verified);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE GlossaryTerm t SET t.domain = :domain, t.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE t.id IN :ids AND t.user.id = :userId")
+    int updateDomainByIdInAndUserId(@Param("ids") Collection<UUID> ids,
+                                    @Param("userId") UUID userId,
+                                    @Param("domain") String domain);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE GlossaryTerm t SET t.project = :project, t.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE t.id IN :ids AND t.user.id = :userId")
+    int updateProjectByIdInAndUserId(@Param("ids") Collection<UUID> ids,
+                                     @Param("userId") UUID userId,
+                                     @Param("project") Project project);
+
+    @Query(value = "SELECT t.* FROM glossary_terms t " +
+                   "WHERE t.project_id = :projectId AND " + SEARCH_MATCH + " " +
+                   "ORDER BY " + SEARCH_RANK,
+           countQuery = "SELECT COUNT(*) FROM glossary_terms t " +
+                        "WHERE t.project_id = :projectId AND " + SEARCH_MATCH,
+           nativeQuery = true)
     Page<GlossaryTerm> searchByProjectIdAndQuery(
         @Param("projectId") UUID projectId,
         @Param("query") String query,
+        @Param("pattern") String pattern,
         Pageable pageable
     );
 
@@ -62,38 +140,37 @@ public interface GlossaryTermRepository extends JpaRepository<GlossaryTerm, UUID
 
     // NEW: Query terms by project's linked files using native SQL
     // This works even when project_id is NULL (terms extracted before project assignment)
-    @Query(value = "SELECT DISTINCT t.* FROM glossary_terms t " +
-                   "INNER JOIN glossary_term_documents gtd ON t.id = gtd.term_id " +
+    @Query(value = "SELECT t.* FROM glossary_terms t " +
+                   "WHERE EXISTS (SELECT 1 FROM glossary_term_documents gtd " +
                    "INNER JOIN project_files pf ON gtd.file_id = pf.file_id " +
-                   "WHERE pf.project_id = :projectId",
-           countQuery = "SELECT COUNT(DISTINCT t.id) FROM glossary_terms t " +
-                        "INNER JOIN glossary_term_documents gtd ON t.id = gtd.term_id " +
+                   "WHERE gtd.term_id = t.id AND pf.project_id = :projectId)",
+           countQuery = "SELECT COUNT(*) FROM glossary_terms t " +
+                        "WHERE EXISTS (SELECT 1 FROM glossary_term_documents gtd " +
                         "INNER JOIN project_files pf ON gtd.file_id = pf.file_id " +
-                        "WHERE pf.project_id = :projectId",
+                        "WHERE gtd.term_id = t.id AND pf.project_id = :projectId)",
            nativeQuery = true)
     Page<GlossaryTerm> findTermsByProjectFiles(
         @Param("projectId") UUID projectId,
         Pageable pageable
     );
 
-    @Query(value = "SELECT DISTINCT t.* FROM glossary_terms t " +
-                   "INNER JOIN glossary_term_documents gtd ON t.id = gtd.term_id " +
+    // EXISTS instead of DISTINCT so the relevance ORDER BY is allowed
+    @Query(value = "SELECT t.* FROM glossary_terms t " +
+                   "WHERE EXISTS (SELECT 1 FROM glossary_term_documents gtd " +
                    "INNER JOIN project_files pf ON gtd.file_id = pf.file_id " +
-                   "WHERE pf.project_id = :projectId " +
-                   "AND (LOWER(t.korean_term) LIKE LOWER(CONCAT('%', :query, '%')) " +
-                   "OR LOWER(t.english_term) LIKE LOWER(CONCAT('%', :query, '%')) " +
-                   "OR LOWER(t.definition) LIKE LOWER(CONCAT('%', :query, '%')))",
-           countQuery = "SELECT COUNT(DISTINCT t.id) FROM glossary_terms t " +
-                        "INNER JOIN glossary_term_documents gtd ON t.id = gtd.term_id " +
+                   "WHERE gtd.term_id = t.id AND pf.project_id = :projectId) " +
+                   "AND " + SEARCH_MATCH + " " +
+                   "ORDER BY " + SEARCH_RANK,
+           countQuery = "SELECT COUNT(*) FROM glossary_terms t " +
+                        "WHERE EXISTS (SELECT 1 FROM glossary_term_documents gtd " +
                         "INNER JOIN project_files pf ON gtd.file_id = pf.file_id " +
-                        "WHERE pf.project_id = :projectId " +
-                        "AND (LOWER(t.korean_term) LIKE LOWER(CONCAT('%', :query, '%')) " +
-                        "OR LOWER(t.english_term) LIKE LOWER(CONCAT('%', :query, '%')) " +
-                        "OR LOWER(t.definition) LIKE LOWER(CONCAT('%', :query, '%')))",
+                        "WHERE gtd.term_id = t.id AND pf.project_id = :projectId) " +
+                        "AND " + SEARCH_MATCH,
            nativeQuery = true)
     Page<GlossaryTerm> searchTermsByProjectFiles(
         @Param("projectId") UUID projectId,
         @Param("query") String query,
+        @Param("pattern") String pattern,
         Pageable pageable
     );
 
@@ -104,55 +181,97 @@ public interface GlossaryTermRepository extends JpaRepository<GlossaryTerm, UUID
            nativeQuery = true)
     long countTermsByProjectFiles(@Param("projectId") UUID projectId);
 
-    @Query(value = "SELECT COUNT(DISTINCT t.id) FROM glossary_terms t " +
-                   "INNER JOIN glossary_term_documents gtd ON t.id = gtd.term_id " +
-                   "INNER JOIN project_files pf ON gtd.file_id = pf.file_id " +
-                   "WHERE pf.project_id = :projectId AND t.is_verified = :isVerified",
+    /**
+     * Term counts for several projects in one round-trip (same semantics as countTermsByProjectFiles).
+     * Projects without linked terms are not included in the result.
+     */
+    @Query(value = "SELECT pf.project_id AS projectId, COUNT(DISTINCT gtd.term_id) AS termCount " +
+                   "FROM project_files pf " +
+                   "INNER JOIN glossary_term_documents gtd ON gtd.file_id = pf.file_id " +
+                   "WHERE pf.project_id IN (:projectIds) " +
+                   "GROUP BY pf.project_id",
            nativeQuery = true)
-    long countTermsByProjectFilesAndIsVerified(
-        @Param("projectId") UUID projectId,
-        @Param("isVerified") boolean isVerified
-    );
+    List<ProjectTermCount> countTermsByProjectFilesIn(@Param("projectIds") Collection<UUID> projectIds);
 
-    @Query(value = "SELECT COUNT(DISTINCT t.id) FROM glossary_terms t " +
-                   "INNER JOIN glossary_term_documents gtd ON t.id = gtd.term_id " +
+    @Query(value = "SELECT " + STATISTICS_COLUMNS + " FROM glossary_terms t " +
+                   "WHERE EXISTS (SELECT 1 FROM glossary_term_documents gtd " +
                    "INNER JOIN project_files pf ON gtd.file_id = pf.file_id " +
-                   "WHERE pf.project_id = :projectId AND t.status = :status",
+                   "WHERE gtd.term_id = t.id AND pf.project_id = :projectId)",
            nativeQuery = true)
-    long countTermsByProjectFilesAndStatus(
-        @Param("projectId") UUID projectId,
-        @Param("status") String status
-    );
+    GlossaryStatistics getStatisticsByProjectFiles(@Param("projectId") UUID projectId);
 
     // Document-level queries (filtered by source file)
-    @Query(value = "SELECT DISTINCT t.* FROM glossary_terms t " +
-                   "INNER JOIN glossary_term_documents gtd ON t.id = gtd.term_id " +
-                   "WHERE gtd.file_id = :fileId",
-           countQuery = "SELECT COUNT(DISTINCT t.id) FROM glossary_terms t " +
-                        "INNER JOIN glossary_term_documents gtd ON t.id = gtd.term_id " +
-                        "WHERE gtd.file_id = :fileId",
+    @Query(value = "SELECT t.* FROM glossary_terms t " +
+                   "WHERE EXISTS (SELECT 1 FROM glossary_term_documents gtd " +
+                   "WHERE gtd.term_id = t.id AND gtd.file_id = :fileId)",
+           countQuery = "SELECT COUNT(*) FROM glossary_terms t " +
+                        "WHERE EXISTS (SELECT 1 FROM glossary_term_documents gtd " +
+                        "WHERE gtd.term_id = t.id AND gtd.file_id = :fileId)",
            nativeQuery = true)
     Page<GlossaryTerm> findBySourceFileId(
         @Param("fileId") UUID fileId,
         Pageable pageable
     );
 
-    @Query(value = "SELECT DISTINCT t.* FROM glossary_terms t " +
-                   "INNER JOIN glossary_term_documents gtd ON t.id = gtd.term_id " +
-                   "WHERE gtd.file_id = :fileId " +
-                   "AND (LOWER(t.korean_term) LIKE LOWER(CONCAT('%', :query, '%')) " +
-                   "OR LOWER(t.english_term) LIKE LOWER(CONCAT('%', :query, '%')) " +
-                   "OR LOWER(t.definition) LIKE LOWER(CONCAT('%', :query, '%')))",
-           countQuery = "SELECT COUNT(DISTINCT t.id) FROM glossary_terms t " +
-                        "INNER JOIN glossary_term_documents gtd ON t.id = gtd.term_id " +
-                        "WHERE gtd.file_id = :fileId " +
-                        "AND (LOWER(t.korean_term) LIKE LOWER(CONCAT('%', :query, '%')) " +
-                        "OR LOWER(t.english_term) LIKE LOWER(CONCAT('%', :query, '%')) " +
-                        "OR LOWER(t.definition) LIKE LOWER(CONCAT('%', :query, '%')))",
+    @Query(value = "SELECT t.* FROM glossary_terms t " +
+                   "WHERE EXISTS (SELECT 1 FROM glossary_term_documents gtd " +
+                   "WHERE gtd.term_id = t.id AND gtd.file_id = :fileId) " +
+                   "AND " + SEARCH_MATCH + " " +
+                   "ORDER BY " + SEARCH_RANK,
+           countQuery = "SELECT COUNT(*) FROM glossary_terms t " +
+                        "WHERE EXISTS (SELECT 1 FROM glossary_term_documents gtd " +
+                        "WHERE gtd.term_id = t.id AND gtd.file_id = :fileId) " +
+                        "AND " + SEARCH_MATCH,
            nativeQuery = true)
     Page<GlossaryTerm> searchBySourceFileIdAndQuery(
         @Param("fileId") UUID fileId,
         @Param("query") String query,
+        @Param("pattern") String pattern,
         Pageable pageable
     );
+
+    /**
+     * Term names projection for compiling term detectors
+     */
+    interface DetectableTerm {
+        UUID getId();
+
+        String getKoreanTerm();
+
+        String getEnglishTerm();
+
+        String getVietnameseTerm();
+
+        String getJapaneseTerm();
+
+        String getChineseTerm();
+
+        String getAbbreviation();
+    }
+
+    /**
+     * Term count per project projection
+     */
+    interface ProjectTermCount {
+        UUID getProjectId();
+
+        long getTermCount();
+    }
+
+    /**
+     * Aggregate glossary statistics projection
+     */
+    interface GlossaryStatistics {
+        long getTotalTerms();
+
+        long getVerifiedTerms();
+
+        long getUnverifiedTerms();
+
+        long getAutoExtractedTerms();
+
+        long getUserAddedTerms();
+
+        long getUserEditedTerms();
+    }
 }
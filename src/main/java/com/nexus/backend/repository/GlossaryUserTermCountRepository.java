@@ -0,0 +1,64 @@
+package com.nexus.backend.repository;
+
+import com.nexus.backend.entity.GlossaryUserTermCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface GlossaryUserTermCountRepository extends JpaRepository<GlossaryUserTermCount, UUID> {
+
+    /**
+     * Users whose counters row differs from a fresh aggregate over glossary_terms (or is missing).
+     */
+    @Query(value = "SELECT COALESCE(a.user_id, c.user_id) FROM (" +
+                   "SELECT user_id, COUNT(*) AS total, " +
+                   "COUNT(*) FILTER (WHERE is_verified = true) AS verified, " +
+                   "COUNT(*) FILTER (WHERE is_verified = false) AS unverified, " +
+                   "COUNT(*) FILTER (WHERE status = 'AUTO_EXTRACTED') AS auto_extracted, " +
+                   "COUNT(*) FILTER (WHERE status = 'USER_ADDED') AS user_added, " +
+                   "COUNT(*) FILTER (WHERE status = 'USER_EDITED') AS user_edited " +
+                   "FROM glossary_terms GROUP BY user_id) a " +
+                   "FULL JOIN glossary_user_term_counts c ON c.user_id = a.user_id " +
+                   "WHERE (COALESCE(a.total, 0), COALESCE(a.verified, 0), COALESCE(a.unverified, 0), " +
+                   "COALESCE(a.auto_extracted, 0), COALESCE(a.user_added, 0), COALESCE(a.user_edited, 0)) " +
+                   "IS DISTINCT FROM (COALESCE(c.total_terms, 0), COALESCE(c.verified_terms, 0), " +
+                   "COALESCE(c.unverified_terms, 0), COALESCE(c.auto_extracted_terms, 0), " +
+                   "COALESCE(c.user_added_terms, 0), COALESCE(c.user_edited_terms, 0))",
+           nativeQuery = true)
+    List<UUID> findDriftedUserIds();
+
+    /**
+     * Lock a user's counters row, so trigger deltas of in-flight writes wait for the recompute.
+     */
+    @Query(value = "SELECT user_id FROM glossary_user_term_counts WHERE user_id = :userId FOR UPDATE",
+           nativeQuery = true)
+    List<UUID> lockByUserId(@Param("userId") UUID userId);
+
+    /**
+     * Overwrite a user's counters with a fresh aggregate. Call after {@link #lockByUserId} in the same transaction.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO glossary_user_term_counts AS c (user_id, total_terms, verified_terms, " +
+                   "unverified_terms, auto_extracted_terms, user_added_terms, user_edited_terms, updated_at) " +
+                   "SELECT :userId, COUNT(*), " +
+                   "COUNT(*) FILTER (WHERE is_verified = true), " +
+                   "COUNT(*) FILTER (WHERE is_verified = false), " +
+                   "COUNT(*) FILTER (WHERE status = 'AUTO_EXTRACTED'), " +
+                   "COUNT(*) FILTER (WHERE status = 'USER_ADDED'), " +
+                   "COUNT(*) FILTER (WHERE status = 'USER_EDITED'), " +
+                   "CURRENT_TIMESTAMP " +
+                   "FROM glossary_terms WHERE user_id = :userId " +
+                   "ON CONFLICT (user_id) DO UPDATE SET " +
+                   "total_terms = EXCLUDED.total_terms, verified_terms = EXCLUDED.verified_terms, " +
+                   "unverified_terms = EXCLUDED.unverified_terms, auto_extracted_terms = EXCLUDED.auto_extracted_terms, " +
+                   "user_added_terms = EXCLUDED.user_added_terms, user_edited_terms = EXCLUDED.user_edited_terms, " +
+                   "updated_at = EXCLUDED.updated_at",
+           nativeQuery = true)
+    int recompute(@Param("userId") UUID userId);
+}
@@ -0,0 +1,228 @@
+package com.nexus.backend.repository;
+
+import com.nexus.backend.entity.OutlookSyncSchedule;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository for the background Outlook sync schedule.
+ * All transitions are single statements using the database clock; a leased row is only released
+ * or rescheduled by the node holding the lease ({@code locked_by}).
+ */
+@Repository
+public interface OutlookSyncScheduleRepository extends JpaRepository<OutlookSyncSchedule, UUID> {
+
+    /**
+     * Tenant of a connected account: the mailbox domain ('default' when unknown).
+     */
+    String TENANT_KEY_SQL = "COALESCE(NULLIF(lower(split_part(u.outlook_email, '@', 2)), ''), 'default')";
+
+    /**
+     * Serialize claims across nodes for the rest of the transaction, so the per-tenant cap is exact.
+     */
+    @Query(value = "SELECT 1 FROM (SELECT pg_advisory_xact_lock(:key)) AS l", nativeQuery = true)
+    int lockClaims(@Param("key") long key);
+
+    /**
+     * Add schedules for connected users (first sync spread over one interval) and keep tenant keys current.
+     *
+     * @return rows inserted or updated
+     */
+    @Modifying
+    @Query(value = "INSERT INTO outlook_sync_schedules (user_id, tenant_key, next_sync_at) " +
+                   "SELECT u.id, " + TENANT_KEY_SQL + ", now() + (random() * :intervalSeconds * INTERVAL '1 second') " +
+                   "FROM users u WHERE u.outlook_access_token IS NOT NULL " +
+                   "ON CONFLICT (user_id) DO UPDATE SET tenant_key = EXCLUDED.tenant_key, updated_at = now() " +
+                   "WHERE outlook_sync_schedules.tenant_key IS DISTINCT FROM EXCLUDED.tenant_key",
+           nativeQuery = true)
+    int upsertConnectedUsers(@Param("intervalSeconds") long intervalSeconds);
+
+    /**
+     * Add the schedule of one connected user, due now (no-op if it exists).
+     */
+    @Modifying
+    @Query(value = "INSERT INTO outlook_sync_schedules (user_id, tenant_key, next_sync_at) " +
+                   "SELECT u.id, " + TENANT_KEY_SQL + ", now() " +
+                   "FROM users u WHERE u.id = :userId AND u.outlook_access_token IS NOT NULL " +
+                   "ON CONFLICT (user_id) DO NOTHING",
+           nativeQuery = true)
+    int insertIfConnected(@Param("userId") UUID userId);
+
+    @Modifying
+    @Query(value = "DELETE FROM outlook_sync_schedules s USING users u " +
+                   "WHERE u.id = s.user_id AND u.outlook_access_token IS NULL",
+           nativeQuery = true)
+    int deleteDisconnected();
+
+    /**
+     * Lease up to {@code limit} due users for this node.
+     *
+     * Due: next_sync_at passed, no live lease, and the user's access token is still valid.
+     * users.outlook_token_expires_at is a TIMESTAMP written by Hibernate as UTC wall-clock time, so it is
+     * compared with a bound {@code tokenValidAfter} (bound the same way), never with the session's now().
+     * Users of a tenant are only taken while the tenant has fewer than {@code perTenantLimit}
+     * live leases cluster-wide. Rows locked by a concurrent transaction are skipped.
+     *
+     * @return IDs of the leased users
+     */
+    @Query(value = "WITH running AS (" +
+                   "    SELECT tenant_key, COUNT(*) AS n FROM outlook_sync_schedules " +
+                   "    WHERE locked_by IS NOT NULL AND locked_until > now() " +
+                   "    GROUP BY tenant_key" +
+                   "), ranked AS (" +
+                   "    SELECT s.user_id, s.tenant_key, s.next_sync_at, " +
+                   "           ROW_NUMBER() OVER (PARTITION BY s.tenant_key ORDER BY s.next_sync_at, s.user_id) AS rn " +
+                   "    FROM outlook_sync_schedules s " +
+                   "    JOIN users u ON u.id = s.user_id " +
+                   "    WHERE s.next_sync_at <= now() " +
+                   "      AND (s.locked_by IS NULL OR s.locked_until <= now()) " +
+                   "      AND u.outlook_access_token IS NOT NULL AND u.outlook_token_expires_at > :tokenValidAfter" +
+                   "), eligible AS (" +
+                   "    SELECT r.user_id FROM ranked r " +
+                   "    LEFT JOIN running c ON c.tenant_key = r.tenant_key " +
+                   "    WHERE r.rn + COALESCE(c.n, 0) <= :perTenantLimit " +
+                   "    ORDER BY r.next_sync_at, r.user_id " +
+                   "    LIMIT :limit" +
+                   "), locked AS (" +
+                   "    SELECT s.user_id FROM outlook_sync_schedules s " +
+                   "    WHERE s.user_id IN (SELECT user_id FROM eligible) " +
+                   "    FOR UPDATE SKIP LOCKED" +
+                   ") " +
+                   "UPDATE outlook_sync_schedules s " +
+                   "SET locked_by = :node, locked_until = now() + (:leaseSeconds * INTERVAL '1 second'), " +
+                   "    last_started_at = now(), updated_at = now() " +
+                   "FROM locked l " +
+                   "WHERE s.user_id = l.user_id " +
+                   "RETURNING s.user_id",
+           nativeQuery = true)
+    List<UUID> claim(@Param("node") String node,
+                     @Param("limit") int limit,
+                     @Param("perTenantLimit") int perTenantLimit,
+                     @Param("leaseSeconds") long leaseSeconds,
+                     @Param("tokenValidAfter") LocalDateTime tokenValidAfter);
+
+    /**
+     * Lease one user regardless of schedule (manual sync).
+     *
+     * @return 1 if leased, 0 if another sync holds the lease
+     */
+    @Modifying
+    @Query(value = "UPDATE outlook_sync_schedules " +
+                   "SET locked_by = :node, locked_until = now() + (:leaseSeconds * INTERVAL '1 second'), " +
+                   "    last_started_at = now(), updated_at = now() " +
+                   "WHERE user_id = :userId AND (locked_by IS NULL OR locked_until <= now())",
+           nativeQuery = true)
+    int acquire(@Param("userId") UUID userId,
+                @Param("node") String node,
+                @Param("leaseSeconds") long leaseSeconds);
+
+    /**
+     * Extend the leases of syncs this node is still running.
+     */
+    @Modifying
+    @Query(value = "UPDATE outlook_sync_schedules " +
+                   "SET locked_until = now() + (:leaseSeconds * INTERVAL '1 second'), updated_at = now() " +
+                   "WHERE user_id IN (:userIds) AND locked_by = :node",
+           nativeQuery = true)
+    int heartbeat(@Param("userIds") Collection<UUID> userIds,
+                  @Param("node") String node,
+                  @Param("leaseSeconds") long leaseSeconds);
+
+    @Modifying
+    @Query(value = "UPDATE outlook_sync_schedules " +
+                   "SET locked_by = NULL, locked_until = NULL, " +
+                   "    next_sync_at = now() + (:delaySeconds * INTERVAL '1 second'), " +
+                   "    last_succeeded_at = now(), last_duration_ms = :durationMs, last_changed = :changed, " +
+                   "    consecutive_failures = 0, last_error = NULL, updated_at = now() " +
+                   "WHERE user_id = :userId AND locked_by = :node",
+           nativeQuery = true)
+    int complete(@Param("userId") UUID userId,
+                 @Param("node") String node,
+                 @Param("delaySeconds") long delaySeconds,
+                 @Param("durationMs") long durationMs,
+                 @Param("changed") int changed);
+
+    /**
+     * Release a failed sync and push the user's next sync out by the backoff delay.
+     */
+    @Modifying
+    @Query(value = "UPDATE outlook_sync_schedules " +
+                   "SET locked_by = NULL, locked_until = NULL, " +
+                   "    next_sync_at = now() + (:delaySeconds * INTERVAL '1 second'), " +
+                   "    consecutive_failures = consecutive_failures + 1, last_error = :error, updated_at = now() " +
+                   "WHERE user_id = :userId AND locked_by = :node",
+           nativeQuery = true)
+    int fail(@Param("userId") UUID userId,
+             @Param("node") String node,
+             @Param("delaySeconds") long delaySeconds,
+             @Param("error") String error);
+
+    /**
+     * Hold back every user of a throttled tenant until the delay has passed.
+     */
+    @Modifying
+    @Query(value = "UPDATE outlook_sync_schedules " +
+                   "SET next_sync_at = GREATEST(next_sync_at, now() + (:delaySeconds * INTERVAL '1 second')), " +
+                   "    updated_at = now() " +
+                   "WHERE tenant_key = :tenantKey",
+           nativeQuery = true)
+    int deferTenant(@Param("tenantKey") String tenantKey, @Param("delaySeconds") long delaySeconds);
+
+    /**
+     * Release a lease without rescheduling (manual sync finished).
+     */
+    @Modifying
+    @Query(value = "UPDATE outlook_sync_schedules " +
+                   "SET locked_by = NULL, locked_until = NULL, updated_at = now() " +
+                   "WHERE user_id = :userId AND locked_by = :node",
+           nativeQuery = true)
+    int release(@Param("userId") UUID userId, @Param("node") String node);
+
+    /**
+     * Release the leases of a stopping node; the users stay due.
+     */
+    @Modifying
+    @Query(value = "UPDATE outlook_sync_schedules " +
+                   "SET locked_by = NULL, locked_until = NULL, updated_at = now() " +
+                   "WHERE locked_by = :node",
+           nativeQuery = true)
+    int releaseNode(@Param("node") String node);
+
+    /**
+     * Cluster-wide sync lag of scheduled users with a valid access token, and the number of scheduled users
+     * whose token has expired (they are not synced until they reconnect).
+     */
+    @Query(value = "SELECT COUNT(*) FILTER (WHERE u.outlook_token_expires_at > :tokenValidAfter) AS users, " +
+                   "       COUNT(*) FILTER (WHERE u.outlook_token_expires_at > :tokenValidAfter " +
+                   "           AND s.next_sync_at <= now() AND s.locked_by IS NULL) AS overdue, " +
+                   "       COUNT(*) FILTER (WHERE u.outlook_token_expires_at IS NULL " +
+                   "           OR u.outlook_token_expires_at <= :tokenValidAfter) AS tokenExpired, " +
+                   "       COALESCE(MAX(EXTRACT(EPOCH FROM now() - COALESCE(s.last_succeeded_at, s.created_at))) " +
+                   "           FILTER (WHERE u.outlook_token_expires_at > :tokenValidAfter), 0) AS maxLagSeconds " +
+                   "FROM outlook_sync_schedules s " +
+                   "JOIN users u ON u.id = s.user_id " +
+                   "WHERE u.outlook_access_token IS NOT NULL",
+           nativeQuery = true)
+    LagStats lagStats(@Param("tokenValidAfter") LocalDateTime tokenValidAfter);
+
+    /**
+     * Sync lag across connected users
+     */
+    interface LagStats {
+        long getUsers();
+
+        long getOverdue();
+
+        long getTokenExpired();
+
+        double getMaxLagSeconds();
+    }
+}
@@ -2,8 +2,11 @@ package com.nexus.backend.repository;
 
 import com.nexus.backend.entity.Project;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -38,4 +41,22 @@ public interface ProjectRepository extends JpaRepository<Project, UUID> {
      * Find ACTIVE project by user ID and name (excludes DELETED projects)
      */
     Optional<Project> findByUserIdAndNameAndStatusNot(UUID userId, String name, String status);
+
+    /**
+     * Linked file IDs for several projects in one round-trip, read from the join table
+     * instead of initializing each project's files collection.
+     */
+    @Query(value = "SELECT pf.project_id AS projectId, pf.file_id AS fileId FROM project_files pf " +
+                   "WHERE pf.project_id IN (:projectIds)",
+           nativeQuery = true)
+    List<ProjectFileLink> findFileLinksByProjectIdIn(@Param("projectIds") Collection<UUID> projectIds);
+
+    /**
+     * Project-file link projection
+     */
+    interface ProjectFileLink {
+        UUID getProjectId();
+
+        UUID getFileId();
+    }
 }
@@ -0,0 +1,26 @@
+package com.nexus.backend.repository;
+
+import com.nexus.backend.entity.ScheduledTaskRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ScheduledTaskRunRepository extends JpaRepository<ScheduledTaskRun, String> {
+
+    /**
+     * Claim this interval's run of a task: advances last_run_at when the previous run started at least
+     * {@code intervalMs} ago (or never ran). Concurrent claims serialize on the row, so one node wins.
+     *
+     * @return the task name if this node claimed the run, empty if another node already ran it this interval
+     */
+    @Query(value = "INSERT INTO scheduled_task_runs AS r (task_name, last_run_at) VALUES (:taskName, now()) " +
+                   "ON CONFLICT (task_name) DO UPDATE SET last_run_at = EXCLUDED.last_run_at " +
+                   "WHERE r.last_run_at <= now() - :intervalMs * INTERVAL '1 millisecond' " +
+                   "RETURNING r.task_name",
+           nativeQuery = true)
+    List<String> claim(@Param("taskName") String taskName, @Param("intervalMs") long intervalMs);
+}
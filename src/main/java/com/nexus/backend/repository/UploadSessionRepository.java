@@ -0,0 +1,59 @@
+package com.nexus.backend.repository;
+
+import com.nexus.backend.entity.UploadSession;
+import com.nexus.backend.entity.UploadSessionStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface UploadSessionRepository extends JpaRepository<UploadSession, UUID> {
+
+    Optional<UploadSession> findByIdAndUserId(UUID id, UUID userId);
+
+    /**
+     * Load a session and lock its row, so concurrent commits of the same session serialize.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM UploadSession s WHERE s.id = :id AND s.user.id = :userId")
+    Optional<UploadSession> findByIdAndUserIdForUpdate(@Param("id") UUID id, @Param("userId") UUID userId);
+
+    /**
+     * Slide the expiry of an open session forward after a chunk was received.
+     */
+    @Modifying
+    @Query("UPDATE UploadSession s SET s.expiresAt = :expiresAt, s.updatedAt = :now " +
+           "WHERE s.id = :id AND s.status = com.nexus.backend.entity.UploadSessionStatus.OPEN")
+    int touch(@Param("id") UUID id, @Param("expiresAt") LocalDateTime expiresAt, @Param("now") LocalDateTime now);
+
+    /**
+     * Mark every open session past its expiry as expired.
+     */
+    @Modifying
+    @Query("UPDATE UploadSession s SET s.status = com.nexus.backend.entity.UploadSessionStatus.EXPIRED, s.updatedAt = :now " +
+           "WHERE s.status = com.nexus.backend.entity.UploadSessionStatus.OPEN AND s.expiresAt <= :now")
+    int expireOpenSessions(@Param("now") LocalDateTime now);
+
+    @Query("SELECT s.id FROM UploadSession s WHERE s.id IN :ids AND s.status = :status")
+    List<UUID> findIdsByIdInAndStatus(@Param("ids") Collection<UUID> ids, @Param("status") UploadSessionStatus status);
+
+    /**
+     * Remove finished (committed, aborted or expired) sessions last touched before the cutoff.
+     */
+    @Modifying
+    @Query("DELETE FROM UploadSession s WHERE s.status <> com.nexus.backend.entity.UploadSessionStatus.OPEN " +
+           "AND s.updatedAt < :cutoff")
+    int deleteFinishedBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    long countByUserIdAndStatus(UUID userId, UploadSessionStatus status);
+}
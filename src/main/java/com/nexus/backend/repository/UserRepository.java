@@ -1,7 +1,10 @@
 package com.nexus.backend.repository;
 
 import com.nexus.backend.entity.User;
+import com.nexus.backend.security.UserPrincipal;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -17,4 +20,15 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     boolean existsByUsername(String username);
 
     boolean existsByEmail(String email);
+
+    boolean existsByIdAndOutlookAccessTokenIsNotNull(UUID id);
+
+    /**
+     * Load only the identity columns used for request authentication.
+     * Skips the Outlook/Slack token TEXT columns.
+     */
+    @Query("SELECT new com.nexus.backend.security.UserPrincipal(" +
+           "u.id, u.username, u.email, u.fullName, u.avatarUrl, u.role, u.preferredLanguage, u.createdAt, u.updatedAt) " +
+           "FROM User u WHERE u.id = :id")
+    Optional<UserPrincipal> findPrincipalById(@Param("id") UUID id);
 }
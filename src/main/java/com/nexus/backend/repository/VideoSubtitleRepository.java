@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -74,6 +75,45 @@ public interface VideoSubtitleRepository extends JpaRepository<VideoSubtitle, UU
      */
     long countByVideoFileId(UUID videoFileId);
 
+    /**
+     * 영상 목록용 자막 요약 (영상별 첫 번째 자막의 원본 언어 + 번역 언어 목록)
+     *
+     * 영상마다 (video_file_id, sequence_number) 유니크 인덱스로 첫 자막 한 건만 읽으므로
+     * 자막 개수와 무관하게 페이지 크기에 비례하는 비용으로 한 번에 조회한다.
+     * 자막이 없는 영상은 결과에 포함되지 않는다.
+     *
+     * @param videoFileIds 영상 파일 ID 목록
+     * @return 자막이 있는 영상별 요약
+     */
+    @Query(value = "SELECT v.id AS videoFileId, " +
+                   "       s.original_language AS originalLanguage, " +
+                   "       (SELECT string_agg(k, ',' ORDER BY k) " +
+                   "          FROM jsonb_object_keys(CASE WHEN jsonb_typeof(s.translations) = 'object' " +
+                   "                                      THEN s.translations ELSE CAST('{}' AS jsonb) END) AS k) AS translationLanguages " +
+                   "FROM video_files v " +
+                   "CROSS JOIN LATERAL (" +
+                   "    SELECT vs.original_language, vs.translations FROM video_subtitles vs " +
+                   "    WHERE vs.video_file_id = v.id " +
+                   "    ORDER BY vs.sequence_number ASC LIMIT 1" +
+                   ") s " +
+                   "WHERE v.id IN (:videoFileIds)",
+           nativeQuery = true)
+    List<SubtitleSummary> findSubtitleSummaries(@Param("videoFileIds") Collection<UUID> videoFileIds);
+
+    /**
+     * 영상별 자막 요약 프로젝션
+     */
+    interface SubtitleSummary {
+        UUID getVideoFileId();
+
+        String getOriginalLanguage();
+
+        /**
+         * 번역 언어 코드 (쉼표 구분, 번역이 없으면 null)
+         */
+        String getTranslationLanguages();
+    }
+
     /**
      * VideoFile ID로 첫 번째 자막 조회 (원본 언어 확인용)
      *
@@ -1,7 +1,6 @@
 package com.nexus.backend.security;
 
 import com.nexus.backend.entity.User;
-import com.nexus.backend.repository.UserRepository;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -16,14 +15,14 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.UUID;
+import java.util.Optional;
 
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
 
     @Override
     protected void doFilterInternal(
@@ -34,10 +33,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = getJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && jwtTokenProvider.validateToken(jwt)) {
-                UUID userId = jwtTokenProvider.getUserIdFromToken(jwt);
+            Optional<JwtClaims> claims = StringUtils.hasText(jwt)
+                    ? jwtTokenProvider.parseToken(jwt)
+                    : Optional.empty();
 
-                User user = userRepository.findById(userId).orElse(null);
+            if (claims.isPresent()) {
+                User user = userPrincipalCache.get(claims.get().userId())
+                        .map(UserPrincipal::toUser)
+                        .orElse(null);
 
                 if (user != null) {
                     UsernamePasswordAuthenticationToken authentication =
@@ -56,6 +59,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * Signed streaming URLs carry their own credential; skip token parsing and principal loading.
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        return uri.startsWith("/api/videos/") && uri.endsWith("/signed-stream");
+    }
+
     private String getJwtFromRequest(HttpServletRequest request) {
         // First, try to get token from Authorization header
         String bearerToken = request.getHeader("Authorization");
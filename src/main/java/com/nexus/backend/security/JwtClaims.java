@@ -0,0 +1,14 @@
+package com.nexus.backend.security;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Claims of a JWT whose signature and expiry have already been verified.
+ */
+public record JwtClaims(UUID userId, String username, Instant expiresAt) {
+
+    public boolean isExpired(Instant now) {
+        return expiresAt != null && !now.isBefore(expiresAt);
+    }
+}
@@ -1,13 +1,24 @@
 package com.nexus.backend.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Optional;
 import java.util.UUID;
 
 @Component
@@ -15,12 +26,31 @@ public class JwtTokenProvider {
 
     private final SecretKey secretKey;
     private final long jwtExpiration;
+    private final JwtParser jwtParser;
+
+    /**
+     * Verified claims keyed by SHA-256 digest of the token, so raw tokens are never retained.
+     * Each entry expires with the token's own {@code exp} claim.
+     */
+    private final Cache<String, JwtClaims> verifiedTokens;
 
     public JwtTokenProvider(
             @Value("${jwt.secret}") String secret,
-            @Value("${jwt.expiration}") long jwtExpiration) {
+            @Value("${jwt.expiration}") long jwtExpiration,
+            @Value("${jwt.verified-cache.max-size:10000}") long verifiedCacheMaxSize,
+            MeterRegistry meterRegistry) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
         this.jwtExpiration = jwtExpiration;
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaxSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "auth.jwt");
     }
 
     public String generateToken(UUID userId, String username) {
@@ -36,35 +66,102 @@ public class JwtTokenProvider {
                 .compact();
     }
 
-    public UUID getUserIdFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    /**
+     * Verify a token once and return its claims.
+     * Tokens seen before are answered from the verified-token cache without re-checking the signature.
+     *
+     * @param token compact JWT
+     * @return verified claims, or empty if the token is malformed, tampered with or expired
+     */
+    public Optional<JwtClaims> parseToken(String token) {
+        if (token == null || token.isEmpty()) {
+            return Optional.empty();
+        }
+
+        String key = digest(token);
+        JwtClaims cached = verifiedTokens.getIfPresent(key);
+        if (cached != null) {
+            if (!cached.isExpired(Instant.now())) {
+                return Optional.of(cached);
+            }
+            verifiedTokens.invalidate(key);
+        }
 
-        return UUID.fromString(claims.get("userId", String.class));
+        JwtClaims claims = verify(token);
+        if (claims != null) {
+            verifiedTokens.put(key, claims);
+        }
+        return Optional.ofNullable(claims);
     }
 
-    public String getUsernameFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    public UUID getUserIdFromToken(String token) {
+        return parseToken(token)
+                .map(JwtClaims::userId)
+                .orElseThrow(() -> new JwtException("Invalid JWT token"));
+    }
 
-        return claims.get("username", String.class);
+    public String getUsernameFromToken(String token) {
+        return parseToken(token)
+                .map(JwtClaims::username)
+                .orElseThrow(() -> new JwtException("Invalid JWT token"));
     }
 
     public boolean validateToken(String token) {
+        return parseToken(token).isPresent();
+    }
+
+    private JwtClaims verify(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+
+            String userId = claims.get("userId", String.class);
+            if (userId == null) {
+                return null;
+            }
+
+            Date expiration = claims.getExpiration();
+            return new JwtClaims(
+                    UUID.fromString(userId),
+                    claims.get("username", String.class),
+                    expiration != null ? expiration.toInstant() : null);
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return null;
+        }
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Expire each cached entry when the token itself expires.
+     * Tokens without an {@code exp} claim fall back to the configured token lifetime.
+     */
+    private class TokenExpiry implements Expiry<String, JwtClaims> {
+
+        @Override
+        public long expireAfterCreate(String key, JwtClaims claims, long currentTime) {
+            if (claims.expiresAt() == null) {
+                return Duration.ofMillis(jwtExpiration).toNanos();
+            }
+            Duration remaining = Duration.between(Instant.now(), claims.expiresAt());
+            return Math.max(0, remaining.toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, JwtClaims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, JwtClaims claims, long currentTime, long currentDuration) {
+            return currentDuration;
         }
     }
 }
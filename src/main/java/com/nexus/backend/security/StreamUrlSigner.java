@@ -0,0 +1,150 @@
+package com.nexus.backend.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Mints and verifies HMAC-signed, expiring video streaming tokens.
+ *
+ * A token only names the video, the user it was minted for and its expiry, so it can be checked in memory
+ * with no principal load. The streaming path resolves the stored file from the video row (cached briefly)
+ * and requires it to still belong to that user, so deleting a video revokes its URLs; storage paths and
+ * content digests never appear in URLs.
+ * Format: {@code base64url(videoId "|" userId "|" expiresAt) "." base64url(HMAC-SHA256(payload))}.
+ *
+ * The HMAC key is {@code video.stream-url.secret}. When it is not set, a separate key is derived from
+ * {@code jwt.secret} with HKDF-SHA256, so the JWT signing key itself never signs stream URLs.
+ */
+@Component
+public class StreamUrlSigner {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    private static final byte[] HKDF_INFO = "nexus/video-stream-url/v1".getBytes(StandardCharsets.UTF_8);
+
+    private final SecretKeySpec key;
+    private final long ttlSeconds;
+    private final ThreadLocal<Mac> macs;
+
+    public StreamUrlSigner(
+            @Value("${video.stream-url.secret:}") String secret,
+            @Value("${jwt.secret}") String jwtSecret,
+            @Value("${video.stream-url.ttl-seconds:3600}") long ttlSeconds) {
+        byte[] keyBytes = secret.isBlank()
+                ? hkdf(jwtSecret.getBytes(StandardCharsets.UTF_8), HKDF_INFO)
+                : secret.getBytes(StandardCharsets.UTF_8);
+        this.key = new SecretKeySpec(keyBytes, ALGORITHM);
+        this.ttlSeconds = ttlSeconds;
+        this.macs = ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance(ALGORITHM);
+                mac.init(key);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("HmacSHA256 not available", e);
+            }
+        });
+    }
+
+    /**
+     * Grant to stream one stored video.
+     *
+     * @param videoId   video file ID
+     * @param userId    user the URL was minted for
+     * @param expiresAt expiry (epoch seconds)
+     */
+    public record StreamGrant(UUID videoId, UUID userId, long expiresAt) {}
+
+    /**
+     * Sign a grant for a video, valid for the configured TTL.
+     */
+    public String sign(UUID videoId, UUID userId) {
+        long expiresAt = Instant.now().getEpochSecond() + ttlSeconds;
+        String payload = String.join("|",
+                videoId.toString(),
+                userId.toString(),
+                Long.toString(expiresAt));
+
+        byte[] payloadBytes = payload.getBytes(StandardCharsets.UTF_8);
+        return ENCODER.encodeToString(payloadBytes) + "." + ENCODER.encodeToString(hmac(payloadBytes));
+    }
+
+    /**
+     * Verify signature and expiry of a token.
+     *
+     * @return the grant, or empty if the token is malformed, forged or expired
+     */
+    public Optional<StreamGrant> verify(String token) {
+        if (token == null) {
+            return Optional.empty();
+        }
+        int dot = token.indexOf('.');
+        if (dot <= 0 || dot == token.length() - 1) {
+            return Optional.empty();
+        }
+
+        try {
+            byte[] payloadBytes = DECODER.decode(token.substring(0, dot));
+            byte[] signature = DECODER.decode(token.substring(dot + 1));
+            if (!MessageDigest.isEqual(hmac(payloadBytes), signature)) {
+                return Optional.empty();
+            }
+
+            String[] parts = new String(payloadBytes, StandardCharsets.UTF_8).split("\\|", 3);
+            if (parts.length != 3) {
+                return Optional.empty();
+            }
+
+            long expiresAt = Long.parseLong(parts[2]);
+            if (Instant.now().getEpochSecond() >= expiresAt) {
+                return Optional.empty();
+            }
+
+            return Optional.of(new StreamGrant(
+                    UUID.fromString(parts[0]),
+                    UUID.fromString(parts[1]),
+                    expiresAt));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    public long getTtlSeconds() {
+        return ttlSeconds;
+    }
+
+    private byte[] hmac(byte[] payload) {
+        Mac mac = macs.get();
+        mac.reset();
+        return mac.doFinal(payload);
+    }
+
+    /**
+     * HKDF-SHA256 (RFC 5869) with an empty salt, one 32-byte output block.
+     */
+    private static byte[] hkdf(byte[] inputKey, byte[] info) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(new SecretKeySpec(new byte[32], ALGORITHM));
+            byte[] pseudoRandomKey = mac.doFinal(inputKey);
+
+            mac.init(new SecretKeySpec(pseudoRandomKey, ALGORITHM));
+            mac.update(info);
+            mac.update((byte) 1);
+            return mac.doFinal();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.nexus.backend.security;
+
+import com.nexus.backend.entity.User;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Immutable snapshot of the identity fields needed to authenticate a request.
+ *
+ * Loaded with a projection query so the Outlook/Slack token columns never leave the database
+ * on the authentication path. Services that need integration secrets must re-read the user row.
+ */
+public record UserPrincipal(
+        UUID id,
+        String username,
+        String email,
+        String fullName,
+        String avatarUrl,
+        String role,
+        String preferredLanguage,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+
+    /**
+     * Build a detached {@link User} carrying only the principal fields.
+     * A fresh instance is returned on every call so cached state can never be mutated by callers.
+     */
+    public User toUser() {
+        return User.builder()
+                .id(id)
+                .username(username)
+                .email(email)
+                .fullName(fullName)
+                .avatarUrl(avatarUrl)
+                .role(role)
+                .preferredLanguage(preferredLanguage)
+                .createdAt(createdAt)
+                .updatedAt(updatedAt)
+                .build();
+    }
+}
@@ -0,0 +1,93 @@
+package com.nexus.backend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.nexus.backend.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Bounded, TTL-based cache of {@link UserPrincipal}s keyed by user id.
+ *
+ * Saves JwtAuthenticationFilter a users-table lookup on every authenticated request.
+ * Any code that changes a field carried by the principal must call {@link #invalidate(UUID)}.
+ * Hit/miss/eviction counters are published under the {@code cache.*} meters with {@code cache=auth.principal}.
+ */
+@Component
+@Slf4j
+public class UserPrincipalCache {
+
+    private static final String CACHE_NAME = "auth.principal";
+
+    private final UserRepository userRepository;
+    private final Cache<UUID, UserPrincipal> cache;
+
+    public UserPrincipalCache(
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${auth.principal-cache.max-size:10000}") long maxSize,
+            @Value("${auth.principal-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        log.info("Principal cache initialized: maxSize={}, ttlSeconds={}", maxSize, ttlSeconds);
+    }
+
+    /**
+     * Get the principal for a user, loading it on a miss.
+     * Unknown users are not cached so a newly registered account is visible immediately.
+     *
+     * @param userId user ID from the verified token
+     * @return principal, or empty if the user no longer exists
+     */
+    public Optional<UserPrincipal> get(UUID userId) {
+        return Optional.ofNullable(
+                cache.get(userId, id -> userRepository.findPrincipalById(id).orElse(null)));
+    }
+
+    /**
+     * Drop the cached principal for a user.
+     * When called inside a transaction the entry is dropped again after commit,
+     * so a concurrent request cannot re-cache the pre-commit row.
+     *
+     * @param userId user ID
+     */
+    public void invalidate(UUID userId) {
+        cache.invalidate(userId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(userId);
+                }
+            });
+        }
+    }
+
+    /**
+     * Snapshot of hit/miss/eviction counters, for sizing the cache.
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+}
@@ -581,4 +581,11 @@ public class CalendarSyncService {
     public int getOutlookScheduleCount(UUID userId) {
         return scheduleRepository.findByUserIdAndIsFromOutlookTrue(userId).size();
     }
+
+    /**
+     * Outlook 연동 여부 조회
+     */
+    public boolean isOutlookConnected(UUID userId) {
+        return userRepository.existsByIdAndOutlookAccessTokenIsNotNull(userId);
+    }
 }
@@ -0,0 +1,309 @@
+package com.nexus.backend.service;
+
+import com.nexus.backend.dto.request.CreateUploadSessionRequest;
+import com.nexus.backend.dto.response.FileResponse;
+import com.nexus.backend.dto.response.UploadSessionResponse;
+import com.nexus.backend.entity.UploadSession;
+import com.nexus.backend.entity.UploadSessionStatus;
+import com.nexus.backend.entity.User;
+import com.nexus.backend.exception.BadRequestException;
+import com.nexus.backend.exception.ConflictException;
+import com.nexus.backend.exception.ResourceNotFoundException;
+import com.nexus.backend.repository.UploadSessionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Resumable chunked uploads for large videos.
+ *
+ * Flow:
+ * 1. create a session (declares total size and chunk size)
+ * 2. PUT numbered chunks - idempotent, in any order, in parallel
+ * 3. query the session to see which chunks are present and resume after a dropped connection
+ * 4. commit - chunks are concatenated file-to-file and handed to the regular video creation path
+ *
+ * Chunk writes run outside any database transaction, so a slow client never holds a connection.
+ * Sessions expire after a sliding TTL; {@link UploadSessionCleanupJob} removes abandoned chunks.
+ */
+@Service
+@Slf4j
+@Transactional(readOnly = true)
+public class ChunkedUploadService {
+
+    private final UploadSessionRepository uploadSessionRepository;
+    private final FileStorageService fileStorageService;
+    private final FileBlobService fileBlobService;
+    private final FileService fileService;
+    private final TransactionTemplate transactionTemplate;
+
+    private final long maxTotalSize;
+    private final int defaultChunkSize;
+    private final int maxChunkSize;
+    private final int maxChunks;
+    private final int maxOpenSessionsPerUser;
+    private final Duration ttl;
+
+    public ChunkedUploadService(
+            UploadSessionRepository uploadSessionRepository,
+            FileStorageService fileStorageService,
+            FileBlobService fileBlobService,
+            FileService fileService,
+            TransactionTemplate transactionTemplate,
+            @Value("${file.upload-session.max-total-size:10737418240}") long maxTotalSize,
+            @Value("${file.upload-session.default-chunk-size:8388608}") int defaultChunkSize,
+            @Value("${file.upload-session.max-chunk-size:33554432}") int maxChunkSize,
+            @Value("${file.upload-session.max-chunks:10000}") int maxChunks,
+            @Value("${file.upload-session.max-open-per-user:5}") int maxOpenSessionsPerUser,
+            @Value("${file.upload-session.ttl-minutes:1440}") long ttlMinutes) {
+        this.uploadSessionRepository = uploadSessionRepository;
+        this.fileStorageService = fileStorageService;
+        this.fileBlobService = fileBlobService;
+        this.fileService = fileService;
+        this.transactionTemplate = transactionTemplate;
+        this.maxTotalSize = maxTotalSize;
+        this.defaultChunkSize = defaultChunkSize;
+        this.maxChunkSize = maxChunkSize;
+        this.maxChunks = maxChunks;
+        this.maxOpenSessionsPerUser = maxOpenSessionsPerUser;
+        this.ttl = Duration.ofMinutes(ttlMinutes);
+    }
+
+    /**
+     * Open a new upload session.
+     *
+     * @param request declared file metadata
+     * @param user    uploading user
+     * @return session with its chunk layout
+     */
+    @Transactional
+    public UploadSessionResponse createSession(CreateUploadSessionRequest request, User user) {
+        if (!request.getContentType().startsWith("video/")) {
+            throw new BadRequestException("영상 파일만 업로드 가능합니다");
+        }
+        if (request.getTotalSize() > maxTotalSize) {
+            throw new BadRequestException("파일 크기가 허용된 최대 크기를 초과합니다: max=" + maxTotalSize + " bytes");
+        }
+
+        int chunkSize = request.getChunkSize() != null ? request.getChunkSize() : defaultChunkSize;
+        if (chunkSize > maxChunkSize) {
+            throw new BadRequestException("청크 크기가 허용된 최대 크기를 초과합니다: max=" + maxChunkSize + " bytes");
+        }
+
+        long totalChunks = (request.getTotalSize() + chunkSize - 1) / chunkSize;
+        if (totalChunks > maxChunks) {
+            throw new BadRequestException("청크 수가 너무 많습니다. 더 큰 청크 크기를 사용하세요: max=" + maxChunks);
+        }
+
+        if (uploadSessionRepository.countByUserIdAndStatus(user.getId(), UploadSessionStatus.OPEN) >= maxOpenSessionsPerUser) {
+            throw new ConflictException("진행 중인 업로드가 너무 많습니다: max=" + maxOpenSessionsPerUser);
+        }
+
+        UploadSession session = UploadSession.builder()
+                .user(user)
+                .originalFilename(request.getFilename())
+                .contentType(request.getContentType())
+                .totalSize(request.getTotalSize())
+                .chunkSize(chunkSize)
+                .totalChunks((int) totalChunks)
+                .sourceLanguage(request.getSourceLanguage())
+                .targetLanguage(request.getTargetLanguage())
+                .status(UploadSessionStatus.OPEN)
+                .expiresAt(LocalDateTime.now().plus(ttl))
+                .build();
+
+        session = uploadSessionRepository.save(session);
+        log.info("Upload session created: sessionId={}, user={}, totalSize={}, chunkSize={}, totalChunks={}",
+                session.getId(), user.getUsername(), session.getTotalSize(), chunkSize, totalChunks);
+
+        return toResponse(session, Set.of());
+    }
+
+    /**
+     * Store one chunk. Re-sending a chunk replaces it, so clients can safely retry.
+     *
+     * @param sessionId     upload session ID
+     * @param index         zero-based chunk index
+     * @param body          chunk bytes
+     * @param contentLength declared request body length, or -1 if unknown
+     * @param userId        owner ID
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void putChunk(UUID sessionId, int index, InputStream body, long contentLength, UUID userId) {
+        UploadSession session = findOpenSession(sessionId, userId);
+
+        if (index < 0 || index >= session.getTotalChunks()) {
+            throw new BadRequestException("청크 번호가 범위를 벗어났습니다: index=" + index
+                    + ", totalChunks=" + session.getTotalChunks());
+        }
+
+        long expectedLength = session.expectedChunkLength(index);
+        if (contentLength >= 0 && contentLength != expectedLength) {
+            throw new BadRequestException("청크 크기가 올바르지 않습니다: index=" + index
+                    + ", expected=" + expectedLength + " bytes");
+        }
+
+        fileStorageService.writeChunk(sessionId, index, body, expectedLength);
+
+        LocalDateTime now = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status ->
+                uploadSessionRepository.touch(sessionId, now.plus(ttl), now));
+
+        log.debug("Chunk stored: sessionId={}, index={}, bytes={}", sessionId, index, expectedLength);
+    }
+
+    /**
+     * Get a session with the chunks received so far.
+     */
+    public UploadSessionResponse getSession(UUID sessionId, UUID userId) {
+        UploadSession session = uploadSessionRepository.findByIdAndUserId(sessionId, userId)
+                .orElseThrow(() -> new ResourceNotFoundException("UploadSession", "id", sessionId));
+
+        Set<Integer> received = session.getStatus() == UploadSessionStatus.OPEN
+                ? fileStorageService.listChunks(sessionId)
+                : Set.of();
+        return toResponse(session, received);
+    }
+
+    /**
+     * Assemble all chunks into a video file.
+     * Committing an already committed session returns the same video again.
+     *
+     * @param sessionId upload session ID
+     * @param user      owner
+     * @return created video
+     */
+    @Transactional
+    public FileResponse commit(UUID sessionId, User user) {
+        UploadSession session = uploadSessionRepository.findByIdAndUserIdForUpdate(sessionId, user.getId())
+                .orElseThrow(() -> new ResourceNotFoundException("UploadSession", "id", sessionId));
+
+        if (session.getStatus() == UploadSessionStatus.COMMITTED && session.getFileId() != null) {
+            return fileService.getVideo(session.getFileId(), user.getId());
+        }
+        requireOpen(session);
+
+        List<Integer> missing = missingChunks(session, fileStorageService.listChunks(sessionId));
+        if (!missing.isEmpty()) {
+            throw new BadRequestException("누락된 청크가 있습니다: missing=" + missing.size()
+                    + ", first=" + missing.get(0));
+        }
+
+        FileStorageService.StoredFile stored = fileStorageService.assembleChunks(
+                sessionId, session.getTotalChunks(), session.getOriginalFilename());
+
+        if (stored.size() != session.getTotalSize()) {
+            fileStorageService.deleteFile(stored.path());
+            throw new BadRequestException("병합된 파일 크기가 일치하지 않습니다: expected=" + session.getTotalSize()
+                    + ", actual=" + stored.size());
+        }
+
+        FileResponse response;
+        try {
+            stored = fileBlobService.adopt(stored);
+            response = fileService.createVideoFile(stored, session.getOriginalFilename(),
+                    session.getSourceLanguage(), session.getTargetLanguage(), user);
+        } catch (RuntimeException ex) {
+            if (!stored.contentAddressed()) {
+                fileStorageService.deleteFile(stored.path());
+            }
+            throw ex;
+        }
+
+        session.setStatus(UploadSessionStatus.COMMITTED);
+        session.setFileId(response.getId());
+        uploadSessionRepository.save(session);
+
+        deleteChunksAfterCommit(sessionId);
+
+        log.info("Upload session committed: sessionId={}, fileId={}, size={}",
+                sessionId, response.getId(), stored.size());
+        return response;
+    }
+
+    /**
+     * Abort a session and discard its chunks.
+     */
+    @Transactional
+    public void abort(UUID sessionId, UUID userId) {
+        UploadSession session = uploadSessionRepository.findByIdAndUserIdForUpdate(sessionId, userId)
+                .orElseThrow(() -> new ResourceNotFoundException("UploadSession", "id", sessionId));
+        requireOpen(session);
+
+        session.setStatus(UploadSessionStatus.ABORTED);
+        uploadSessionRepository.save(session);
+
+        deleteChunksAfterCommit(sessionId);
+        log.info("Upload session aborted: sessionId={}", sessionId);
+    }
+
+    private UploadSession findOpenSession(UUID sessionId, UUID userId) {
+        UploadSession session = uploadSessionRepository.findByIdAndUserId(sessionId, userId)
+                .orElseThrow(() -> new ResourceNotFoundException("UploadSession", "id", sessionId));
+        requireOpen(session);
+        return session;
+    }
+
+    private void requireOpen(UploadSession session) {
+        if (session.getStatus() != UploadSessionStatus.OPEN) {
+            throw new ConflictException("업로드 세션이 이미 종료되었습니다: status=" + session.getStatus());
+        }
+        if (session.isExpired(LocalDateTime.now())) {
+            throw new ConflictException("업로드 세션이 만료되었습니다");
+        }
+    }
+
+    private void deleteChunksAfterCommit(UUID sessionId) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    fileStorageService.deleteChunks(sessionId);
+                } catch (Exception e) {
+                    // Left for the cleanup job
+                    log.warn("Failed to delete chunks (continuing): sessionId={}, error={}", sessionId, e.getMessage());
+                }
+            }
+        });
+    }
+
+    private static List<Integer> missingChunks(UploadSession session, Set<Integer> received) {
+        List<Integer> missing = new ArrayList<>();
+        for (int i = 0; i < session.getTotalChunks(); i++) {
+            if (!received.contains(i)) {
+                missing.add(i);
+            }
+        }
+        return missing;
+    }
+
+    private UploadSessionResponse toResponse(UploadSession session, Set<Integer> received) {
+        return UploadSessionResponse.builder()
+                .id(session.getId())
+                .status(session.getStatus().name())
+                .originalFilename(session.getOriginalFilename())
+                .totalSize(session.getTotalSize())
+                .chunkSize(session.getChunkSize())
+                .totalChunks(session.getTotalChunks())
+                .receivedChunks(new ArrayList<>(received))
+                .missingChunks(session.getStatus() == UploadSessionStatus.OPEN
+                        ? missingChunks(session, received)
+                        : List.of())
+                .expiresAt(session.getExpiresAt())
+                .fileId(session.getFileId())
+                .build();
+    }
+}
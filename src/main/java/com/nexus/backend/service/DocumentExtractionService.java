@@ -0,0 +1,263 @@
+package com.nexus.backend.service;
+
+import com.nexus.backend.entity.BackgroundJob;
+import com.nexus.backend.entity.DocumentContent;
+import com.nexus.backend.entity.DocumentMetadata;
+import com.nexus.backend.entity.File;
+import com.nexus.backend.repository.DocumentContentRepository;
+import com.nexus.backend.repository.DocumentFileRepository;
+import com.nexus.backend.repository.DocumentMetadataRepository;
+import com.nexus.backend.repository.FileRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Document processing pipeline: optional in-JVM text extraction followed by AI summarization in Python.
+ *
+ * Runs as {@value #JOB_TYPE} jobs on the durable job queue ({@link JobQueueService}), which bounds
+ * concurrency and retries failed Python calls. By default Python is called with the existing
+ * {@code /api/ai/documents/process} payload ({@code file_id}, {@code file_path}) and extracts the document
+ * itself, exactly as before. With {@code document.extraction.send-text} the JVM extracts instead
+ * ({@link DocumentTextExtractor}; pages go to {@code document_content}, counts to {@code document_metadata} /
+ * {@code document_files}) and sends the text ({@code content_extracted=true}, {@code text}) so Python only
+ * has to summarize; enable it only once the Python endpoint accepts those fields. The JVM never extracts a
+ * document Python will extract again.
+ */
+@Service
+@Slf4j
+public class DocumentExtractionService implements JobHandler {
+
+    public static final String JOB_TYPE = "DOCUMENT_PROCESSING";
+
+    private final DocumentTextExtractor documentTextExtractor;
+    private final FileStorageService fileStorageService;
+    private final FileRepository fileRepository;
+    private final DocumentFileRepository documentFileRepository;
+    private final DocumentContentRepository documentContentRepository;
+    private final DocumentMetadataRepository documentMetadataRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final PythonBackendClient pythonBackendClient;
+    private final MeterRegistry meterRegistry;
+
+    private final int summaryTextLimit;
+    private final boolean sendText;
+
+    public DocumentExtractionService(
+            DocumentTextExtractor documentTextExtractor,
+            FileStorageService fileStorageService,
+            FileRepository fileRepository,
+            DocumentFileRepository documentFileRepository,
+            DocumentContentRepository documentContentRepository,
+            DocumentMetadataRepository documentMetadataRepository,
+            TransactionTemplate transactionTemplate,
+            PythonBackendClient pythonBackendClient,
+            MeterRegistry meterRegistry,
+            @Value("${document.extraction.summary-text-limit:200000}") int summaryTextLimit,
+            @Value("${document.extraction.send-text:false}") boolean sendText) {
+        this.documentTextExtractor = documentTextExtractor;
+        this.fileStorageService = fileStorageService;
+        this.fileRepository = fileRepository;
+        this.documentFileRepository = documentFileRepository;
+        this.documentContentRepository = documentContentRepository;
+        this.documentMetadataRepository = documentMetadataRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.pythonBackendClient = pythonBackendClient;
+        this.meterRegistry = meterRegistry;
+        this.summaryTextLimit = summaryTextLimit;
+        this.sendText = sendText;
+    }
+
+    /**
+     * Job payload for processing a stored document.
+     *
+     * @param fileId           file ID
+     * @param filePath         path relative to the upload directory
+     * @param mimeType         sniffed MIME type
+     * @param originalFilename client filename
+     */
+    public static Map<String, Object> payload(UUID fileId, String filePath, String mimeType, String originalFilename) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("fileId", fileId.toString());
+        payload.put("filePath", filePath);
+        payload.put("mimeType", mimeType);
+        payload.put("originalFilename", originalFilename);
+        return payload;
+    }
+
+    @Override
+    public String jobType() {
+        return JOB_TYPE;
+    }
+
+    /**
+     * Extract (when the text is sent and the JVM can read the format), persist and hand the text to Python
+     * for summarization.
+     * A failed Python call throws, so the queue retries the whole job; extraction is idempotent.
+     */
+    @Override
+    public void handle(BackgroundJob job) {
+        UUID fileId = job.getPayloadUuid("fileId");
+        String filePath = job.getPayloadString("filePath");
+        String mimeType = job.getPayloadString("mimeType");
+        String originalFilename = job.getPayloadString("originalFilename");
+
+        if (!fileRepository.existsById(fileId)) {
+            log.info("Document deleted before processing, skipping: fileId={}", fileId);
+            return;
+        }
+
+        String text = null;
+        if (!sendText) {
+            log.debug("Text forwarding disabled, Python extracts the document: fileId={}", fileId);
+        } else if (documentTextExtractor.supports(mimeType, originalFilename)) {
+            text = extract(fileId, filePath, mimeType, originalFilename);
+        } else {
+            log.info("Document type not extractable in JVM, delegating to Python: fileId={}, mimeType={}",
+                    fileId, mimeType);
+        }
+
+        requestProcessing(fileId, filePath, text);
+    }
+
+    /**
+     * Extract and persist the text of a document.
+     *
+     * @return text to summarize, or null if extraction failed (Python extracts itself)
+     */
+    private String extract(UUID fileId, String filePath, String mimeType, String originalFilename) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        String format = "unknown";
+
+        try {
+            DocumentTextExtractor.ExtractedDocument extracted = documentTextExtractor.extract(
+                    fileStorageService.getFilePath(filePath), mimeType, originalFilename);
+            format = extracted.format();
+
+            List<String> pages = extracted.pages().stream().map(DocumentExtractionService::sanitize).toList();
+            TextStats stats = TextStats.of(pages);
+            transactionTemplate.executeWithoutResult(status -> persist(fileId, pages, stats, extracted.encoding()));
+
+            log.info("Document text extracted: fileId={}, format={}, pages={}, words={}, characters={}",
+                    fileId, format, stats.pageCount(), stats.wordCount(), stats.characterCount());
+
+            return summaryText(pages);
+        } catch (Exception e) {
+            outcome = "failure";
+            log.warn("In-JVM extraction failed, delegating to Python: fileId={}, error={}", fileId, e.getMessage());
+            return null;
+        } finally {
+            sample.stop(meterRegistry.timer("document.extraction", "format", format, "outcome", outcome));
+        }
+    }
+
+    private void persist(UUID fileId, List<String> pages, TextStats stats, String encoding) {
+        File file = fileRepository.getReferenceById(fileId);
+
+        // Re-extraction replaces previous pages
+        documentContentRepository.deleteByFileId(fileId);
+        List<DocumentContent> contents = new ArrayList<>(pages.size());
+        for (int i = 0; i < pages.size(); i++) {
+            contents.add(DocumentContent.builder()
+                    .file(file)
+                    .pageNumber(i + 1)
+                    .contentText(pages.get(i))
+                    .build());
+        }
+        documentContentRepository.saveAll(contents);
+
+        DocumentMetadata metadata = documentMetadataRepository.findByFileId(fileId)
+                .orElseGet(() -> DocumentMetadata.builder().file(file).build());
+        metadata.setPageCount(stats.pageCount());
+        metadata.setWordCount(stats.wordCount());
+        metadata.setCharacterCount(stats.characterCount());
+        metadata.setEncoding(encoding);
+        documentMetadataRepository.save(metadata);
+
+        documentFileRepository.findById(fileId).ifPresent(documentFile -> {
+            documentFile.setPageCount(stats.pageCount());
+            documentFile.setWordCount(stats.wordCount());
+            documentFile.setCharacterCount(stats.characterCount());
+        });
+    }
+
+    /**
+     * Call the Python document processing API.
+     *
+     * @param text extracted text to summarize, or null to let Python extract from {@code file_path}
+     */
+    private void requestProcessing(UUID fileId, String filePath, String text) {
+        Map<String, Object> request = new HashMap<>();
+        request.put("file_id", fileId.toString());
+        request.put("file_path", filePath);
+        boolean contentExtracted = text != null;
+        if (sendText) {
+            request.put("content_extracted", contentExtracted);
+        }
+        if (contentExtracted) {
+            request.put("text", text);
+        }
+
+        log.info("Calling Python document processing API: fileId={}, contentExtracted={}", fileId, contentExtracted);
+        pythonBackendClient.post(PythonBackendClient.Lane.LONG, "/api/ai/documents/process", request, Map.class);
+        log.info("Document processing started successfully: fileId={}", fileId);
+    }
+
+    private String summaryText(List<String> pages) {
+        StringBuilder text = new StringBuilder();
+        for (String page : pages) {
+            if (text.length() >= summaryTextLimit) {
+                break;
+            }
+            if (!text.isEmpty()) {
+                text.append("\n\n");
+            }
+            text.append(page, 0, Math.min(page.length(), summaryTextLimit - text.length()));
+        }
+        return text.toString();
+    }
+
+    /**
+     * PostgreSQL TEXT cannot hold NUL characters, which PDF text frequently contains.
+     */
+    private static String sanitize(String text) {
+        return text.indexOf('\u0000') >= 0 ? text.replace("\u0000", "") : text;
+    }
+
+    /**
+     * Page, word and character counts of extracted text. Words are whitespace-separated tokens.
+     */
+    private record TextStats(int pageCount, int wordCount, int characterCount) {
+
+        static TextStats of(List<String> pages) {
+            long words = 0;
+            long characters = 0;
+            for (String page : pages) {
+                boolean inWord = false;
+                for (int i = 0; i < page.length(); ) {
+                    int codePoint = page.codePointAt(i);
+                    i += Character.charCount(codePoint);
+                    characters++;
+                    if (Character.isWhitespace(codePoint)) {
+                        inWord = false;
+                    } else if (!inWord) {
+                        inWord = true;
+                        words++;
+                    }
+                }
+            }
+            return new TextStats(pages.size(), (int) Math.min(words, Integer.MAX_VALUE),
+                    (int) Math.min(characters, Integer.MAX_VALUE));
+        }
+    }
+}
@@ -0,0 +1,286 @@
+package com.nexus.backend.service;
+
+import com.nexus.backend.exception.ServiceException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xwpf.extractor.XWPFWordExtractor;
+import org.apache.poi.xwpf.usermodel.XWPFDocument;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * Extracts plain text per page from stored documents using PDFBox and POI.
+ *
+ * Supported formats:
+ * - PDF: one page per PDF page; large documents are split into page ranges extracted in parallel
+ * - DOCX: the whole document as a single page
+ * - XLSX: one page per sheet (tab-separated cells, cached formula results)
+ * - text/*: a single page, encoding detected from BOM / strict UTF-8 with MS949 fallback
+ */
+@Component
+@Slf4j
+public class DocumentTextExtractor {
+
+    private static final Charset MS949 = Charset.forName("MS949");
+
+    private final ThreadPoolTaskExecutor pageExecutor;
+    private final int pageParallelism;
+    private final int minPagesPerSlice;
+
+    /**
+     * Text of a document split into pages.
+     *
+     * @param format   detected format (pdf, docx, xlsx, text)
+     * @param pages    page texts in order (page number = index + 1)
+     * @param encoding source character encoding for text files, null for binary formats
+     */
+    public record ExtractedDocument(String format, List<String> pages, String encoding) {}
+
+    public DocumentTextExtractor(
+            @Value("${document.extraction.page-parallelism:4}") int pageParallelism,
+            @Value("${document.extraction.min-pages-per-slice:8}") int minPagesPerSlice) {
+        this.pageParallelism = pageParallelism;
+        this.minPagesPerSlice = minPagesPerSlice;
+
+        // Separate from the document pool, so a document worker waiting for its pages cannot starve it
+        this.pageExecutor = new ThreadPoolTaskExecutor();
+        this.pageExecutor.setCorePoolSize(pageParallelism);
+        this.pageExecutor.setMaxPoolSize(pageParallelism);
+        this.pageExecutor.setThreadNamePrefix("doc-page-");
+        this.pageExecutor.initialize();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pageExecutor.shutdown();
+    }
+
+    /**
+     * Whether a document of this type can be extracted in the JVM.
+     */
+    public boolean supports(String mimeType, String filename) {
+        return formatOf(mimeType, filename) != null;
+    }
+
+    /**
+     * Extract the text of a stored document.
+     *
+     * @param file     absolute path of the stored file
+     * @param mimeType sniffed MIME type
+     * @param filename original filename (extension fallback)
+     * @return pages of text
+     * @throws ServiceException if the format is unsupported or the file cannot be parsed
+     */
+    public ExtractedDocument extract(Path file, String mimeType, String filename) {
+        String format = formatOf(mimeType, filename);
+        if (format == null) {
+            throw new ServiceException("Unsupported document type: " + mimeType);
+        }
+
+        try {
+            return switch (format) {
+                case "pdf" -> new ExtractedDocument(format, extractPdf(file), null);
+                case "docx" -> new ExtractedDocument(format, extractDocx(file), null);
+                case "xlsx" -> new ExtractedDocument(format, extractXlsx(file), null);
+                default -> extractText(file);
+            };
+        } catch (IOException | RuntimeException ex) {
+            throw new ServiceException("Failed to extract text: " + ex.getMessage(), ex);
+        }
+    }
+
+    private static String formatOf(String mimeType, String filename) {
+        String type = mimeType != null ? mimeType.toLowerCase(Locale.ROOT) : "";
+        String name = filename != null ? filename.toLowerCase(Locale.ROOT) : "";
+
+        if (type.equals("application/pdf") || name.endsWith(".pdf")) {
+            return "pdf";
+        }
+        if (type.equals("application/vnd.openxmlformats-officedocument.wordprocessingml.document") || name.endsWith(".docx")) {
+            return "docx";
+        }
+        if (type.equals("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet") || name.endsWith(".xlsx")) {
+            return "xlsx";
+        }
+        if (type.startsWith("text/") || name.endsWith(".txt") || name.endsWith(".md") || name.endsWith(".csv")) {
+            return "text";
+        }
+        return null;
+    }
+
+    // ==================== PDF ====================
+
+    /**
+     * Extract PDF pages, splitting large documents into contiguous page ranges on the page pool.
+     * PDDocument is not thread-safe, so every range opens its own instance (scratch data on disk, not heap).
+     */
+    private List<String> extractPdf(Path file) throws IOException {
+        int pageCount;
+        try (PDDocument document = PDDocument.load(file.toFile(), MemoryUsageSetting.setupTempFileOnly())) {
+            pageCount = document.getNumberOfPages();
+            if (sliceCount(pageCount) <= 1) {
+                return extractPdfPages(document, 1, pageCount);
+            }
+        }
+
+        int slices = sliceCount(pageCount);
+        int pagesPerSlice = (pageCount + slices - 1) / slices;
+
+        List<Future<List<String>>> futures = new ArrayList<>();
+        for (int start = 1; start <= pageCount; start += pagesPerSlice) {
+            int from = start;
+            int to = Math.min(pageCount, start + pagesPerSlice - 1);
+            futures.add(pageExecutor.submit(() -> {
+                try (PDDocument document = PDDocument.load(file.toFile(), MemoryUsageSetting.setupTempFileOnly())) {
+                    return extractPdfPages(document, from, to);
+                }
+            }));
+        }
+
+        List<String> pages = new ArrayList<>(pageCount);
+        try {
+            for (Future<List<String>> future : futures) {
+                pages.addAll(future.get());
+            }
+        } catch (InterruptedException ex) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IOException("PDF extraction interrupted", ex);
+        } catch (ExecutionException ex) {
+            futures.forEach(future -> future.cancel(true));
+            Throwable cause = ex.getCause();
+            throw cause instanceof IOException io ? io : new IOException(cause.getMessage(), cause);
+        }
+
+        log.debug("Extracted PDF in {} slices: pages={}, file={}", futures.size(), pageCount, file.getFileName());
+        return pages;
+    }
+
+    /**
+     * Each range re-parses the document, so small documents are not split at all.
+     */
+    private int sliceCount(int pageCount) {
+        return Math.min(pageParallelism, Math.max(1, pageCount / minPagesPerSlice));
+    }
+
+    private static List<String> extractPdfPages(PDDocument document, int from, int to) throws IOException {
+        PDFTextStripper stripper = new PDFTextStripper();
+        stripper.setSortByPosition(true);
+
+        List<String> pages = new ArrayList<>(to - from + 1);
+        for (int page = from; page <= to; page++) {
+            stripper.setStartPage(page);
+            stripper.setEndPage(page);
+            pages.add(stripper.getText(document));
+        }
+        return pages;
+    }
+
+    // ==================== Office ====================
+
+    private static List<String> extractDocx(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file);
+             XWPFDocument document = new XWPFDocument(in);
+             XWPFWordExtractor extractor = new XWPFWordExtractor(document)) {
+            return List.of(extractor.getText());
+        }
+    }
+
+    private static List<String> extractXlsx(Path file) throws IOException {
+        DataFormatter formatter = new DataFormatter();
+        formatter.setUseCachedValuesForFormulaCells(true);
+
+        List<String> pages = new ArrayList<>();
+        try (OPCPackage pkg = OPCPackage.open(file.toFile(), PackageAccess.READ);
+             XSSFWorkbook workbook = new XSSFWorkbook(pkg)) {
+            for (Sheet sheet : workbook) {
+                StringBuilder text = new StringBuilder();
+                for (Row row : sheet) {
+                    boolean first = true;
+                    for (Cell cell : row) {
+                        if (!first) {
+                            text.append('\t');
+                        }
+                        text.append(formatter.formatCellValue(cell));
+                        first = false;
+                    }
+                    text.append('\n');
+                }
+                pages.add(text.toString());
+            }
+        } catch (org.apache.poi.openxml4j.exceptions.InvalidFormatException ex) {
+            throw new IOException("Invalid XLSX file", ex);
+        }
+        return pages;
+    }
+
+    // ==================== Plain text ====================
+
+    private static ExtractedDocument extractText(Path file) throws IOException {
+        byte[] bytes = Files.readAllBytes(file);
+
+        if (startsWith(bytes, 0xEF, 0xBB, 0xBF)) {
+            return text(new String(bytes, 3, bytes.length - 3, StandardCharsets.UTF_8), "UTF-8");
+        }
+        if (startsWith(bytes, 0xFF, 0xFE)) {
+            return text(new String(bytes, 2, bytes.length - 2, StandardCharsets.UTF_16LE), "UTF-16LE");
+        }
+        if (startsWith(bytes, 0xFE, 0xFF)) {
+            return text(new String(bytes, 2, bytes.length - 2, StandardCharsets.UTF_16BE), "UTF-16BE");
+        }
+
+        try {
+            String decoded = StandardCharsets.UTF_8.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPORT)
+                    .onUnmappableCharacter(CodingErrorAction.REPORT)
+                    .decode(ByteBuffer.wrap(bytes))
+                    .toString();
+            return text(decoded, "UTF-8");
+        } catch (CharacterCodingException notUtf8) {
+            // Legacy Korean text files are usually EUC-KR / CP949
+            return text(new String(bytes, MS949), "MS949");
+        }
+    }
+
+    private static ExtractedDocument text(String content, String encoding) {
+        return new ExtractedDocument("text", List.of(content), encoding);
+    }
+
+    private static boolean startsWith(byte[] bytes, int... prefix) {
+        if (bytes.length < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if ((bytes[i] & 0xFF) != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,210 @@
+package com.nexus.backend.service;
+
+import com.microsoft.graph.models.Message;
+import com.microsoft.graph.models.MessageCollectionResponse;
+import com.microsoft.graph.serviceclient.GraphServiceClient;
+import com.microsoft.graph.users.item.mailfolders.item.messages.MessagesRequestBuilder;
+import com.microsoft.kiota.ApiException;
+import com.nexus.backend.dto.response.EmailBackfillStatusResponse;
+import com.nexus.backend.entity.BackgroundJob;
+import com.nexus.backend.entity.Email;
+import com.nexus.backend.entity.EmailSyncState;
+import com.nexus.backend.entity.User;
+import com.nexus.backend.repository.EmailSyncStateRepository;
+import com.nexus.backend.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 메일함 전체 백필 (Inbox, SentItems)
+ *
+ * 폴더의 메일 페이지를 최신순으로 @odata.nextLink 를 따라가며 가져온다.
+ * - 페이지마다 {@link EmailBatchWriter} 로 한 번에 배치 INSERT (이미 있는 메일은 건너뜀) 하고,
+ *   같은 트랜잭션에서 체크포인트 (nextLink, 카운터) 를 email_sync_states 에 저장
+ * - 메모리에는 한 페이지만 유지하며, 재시도된 작업은 마지막으로 커밋된 페이지 다음부터 이어서 진행
+ * - COMPLETED 폴더는 재시도 시 건너뜀
+ * 진행률과 초당 처리량은 로그와 {@link EmailSyncService#getBackfillStatus} 로 확인하며,
+ * {@code email.backfill.messages{folder}} 가 읽은 메일 수를 센다.
+ */
+@Component
+@Slf4j
+public class EmailBackfillJobHandler implements JobHandler {
+
+    public static final String JOB_TYPE = "EMAIL_BACKFILL";
+
+    static final String STATUS_QUEUED = "QUEUED";
+    static final String STATUS_RUNNING = "RUNNING";
+    static final String STATUS_COMPLETED = "COMPLETED";
+    static final String STATUS_FAILED = "FAILED";
+
+    // N 페이지마다 진행률 로그
+    private static final int LOG_EVERY_PAGES = 20;
+
+    private final UserRepository userRepository;
+    private final EmailSyncStateRepository syncStateRepository;
+    private final OutlookAuthService outlookAuthService;
+    private final EmailBatchWriter emailBatchWriter;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int pageSize;
+
+    public EmailBackfillJobHandler(
+            UserRepository userRepository,
+            EmailSyncStateRepository syncStateRepository,
+            OutlookAuthService outlookAuthService,
+            EmailBatchWriter emailBatchWriter,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${outlook.backfill.page-size:100}") int pageSize) {
+        this.userRepository = userRepository;
+        this.syncStateRepository = syncStateRepository;
+        this.outlookAuthService = outlookAuthService;
+        this.emailBatchWriter = emailBatchWriter;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    public String jobType() {
+        return JOB_TYPE;
+    }
+
+    @Override
+    public void handle(BackgroundJob job) throws Exception {
+        UUID userId = job.getUserId();
+        User user = userRepository.findById(userId).orElse(null);
+        if (user == null || user.getOutlookAccessToken() == null) {
+            log.info("Outlook no longer connected, skipping mail backfill: userId={}", userId);
+            markUnfinished(userId, STATUS_FAILED);
+            return;
+        }
+
+        GraphServiceClient graphClient = outlookAuthService.createGraphClient(user);
+        for (String folder : EmailSyncService.SYNC_FOLDERS) {
+            backfillFolder(graphClient, user, folder);
+        }
+    }
+
+    @Override
+    public void onFailure(BackgroundJob job, Exception error, boolean willRetry) {
+        if (!willRetry) {
+            // 체크포인트는 유지: 백필을 다시 시작하면 이어서 진행
+            markUnfinished(job.getUserId(), STATUS_FAILED);
+        }
+    }
+
+    private void backfillFolder(GraphServiceClient graphClient, User user, String folder) {
+        EmailSyncState state = transactionTemplate.execute(status ->
+                syncStateRepository.findByUserIdAndFolder(user.getId(), folder)
+                        .filter(s -> syncStateRepository.startBackfill(s.getId(), LocalDateTime.now()) > 0)
+                        .orElse(null));
+        if (state == null) {
+            return;  // 요청되지 않았거나 이전 시도에서 완료됨
+        }
+
+        var messages = graphClient.me().mailFolders().byMailFolderId(folder).messages();
+        String link = state.getBackfillNextLink();
+        log.info("Mail backfill {} folder '{}' for user: {} (processed so far: {})",
+                link != null ? "resuming" : "starting", folder, user.getId(), state.getBackfillProcessed());
+
+        Counter messageCounter = meterRegistry.counter("email.backfill.messages", "folder", folder);
+        int pages = 0;
+        boolean more = true;
+        while (more) {
+            long pageStartedAt = System.currentTimeMillis();
+
+            var page = fetchPage(messages, link, user.getId(), folder);
+            List<Message> values = page != null && page.getValue() != null ? page.getValue() : List.of();
+            String nextLink = page != null ? page.getOdataNextLink() : null;
+
+            List<Email> emails = new ArrayList<>(values.size());
+            for (Message message : values) {
+                Email email = EmailMessageMapper.toEmail(message, user);
+                email.setFolder(folder);
+                emails.add(email);
+            }
+
+            // 메일 INSERT 와 체크포인트를 한 트랜잭션으로 (체크포인트는 backfill_* 컬럼만 갱신)
+            UUID stateId = state.getId();
+            int[] written = transactionTemplate.execute(status -> {
+                int inserted = emailBatchWriter.insertMissing(user.getId(), emails);
+                long elapsedMs = System.currentTimeMillis() - pageStartedAt;
+                LocalDateTime now = LocalDateTime.now();
+                int updated = syncStateRepository.recordBackfillPage(stateId, nextLink, emails.size(), inserted,
+                        elapsedMs, nextLink == null ? STATUS_COMPLETED : STATUS_RUNNING,
+                        nextLink == null ? now : null, now);
+                if (updated == 0) {
+                    status.setRollbackOnly();  // 실패 처리 / 재시작된 백필: 이 페이지는 버림
+                }
+                return new int[]{updated, inserted, (int) elapsedMs};
+            });
+            if (written == null || written[0] == 0) {
+                log.info("Mail backfill of folder '{}' for user: {} was stopped or restarted, leaving it",
+                        folder, user.getId());
+                return;
+            }
+            messageCounter.increment(emails.size());
+
+            // 로그 / 처리량 계산용 로컬 사본
+            state.setBackfillNextLink(nextLink);
+            state.setBackfillProcessed(state.getBackfillProcessed() + emails.size());
+            state.setBackfillInserted(state.getBackfillInserted() + written[1]);
+            state.setBackfillElapsedMs(state.getBackfillElapsedMs() + written[2]);
+
+            pages++;
+            link = nextLink;
+            more = nextLink != null;
+            if (more && pages % LOG_EVERY_PAGES == 0) {
+                logProgress("progress", user.getId(), state);
+            }
+        }
+        logProgress("complete", user.getId(), state);
+    }
+
+    /**
+     * 첫 페이지 (최신순) 또는 저장된 링크의 페이지 조회
+     * 저장된 링크가 더 이상 유효하지 않으면 첫 페이지부터 다시 시작 (이미 저장된 메일은 INSERT 시 건너뜀)
+     */
+    private MessageCollectionResponse fetchPage(
+            MessagesRequestBuilder messages,
+            String link, UUID userId, String folder) {
+        if (link != null) {
+            try {
+                return messages.withUrl(link).get();
+            } catch (ApiException e) {
+                int status = e.getResponseStatusCode();
+                if (status != 400 && status != 404 && status != 410) {
+                    throw e;
+                }
+                log.warn("Stored backfill link rejected ({}) for user: {} folder: '{}', restarting from the first page",
+                        status, userId, folder);
+            }
+        }
+        return messages.get(requestConfig -> {
+            requestConfig.queryParameters.top = pageSize;
+            requestConfig.queryParameters.orderby = new String[]{"receivedDateTime DESC"};
+            requestConfig.queryParameters.select = EmailSyncService.MESSAGE_FIELDS;
+        });
+    }
+
+    private void logProgress(String phase, UUID userId, EmailSyncState state) {
+        log.info("Mail backfill {} for user: {} folder: '{}' - {} messages read, {} new, {} msg/s",
+                phase, userId, state.getFolder(), state.getBackfillProcessed(), state.getBackfillInserted(),
+                String.format("%.1f", EmailBackfillStatusResponse.from(state).getMessagesPerSecond()));
+    }
+
+    private void markUnfinished(UUID userId, String status) {
+        transactionTemplate.executeWithoutResult(tx ->
+                syncStateRepository.markUnfinishedBackfills(userId, status, LocalDateTime.now()));
+    }
+}
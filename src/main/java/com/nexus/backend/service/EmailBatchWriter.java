@@ -0,0 +1,154 @@
+package com.nexus.backend.service;
+
+import com.nexus.backend.entity.Email;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Writes a page of synced emails as one JDBC batch.
+ *
+ * Rows are keyed by the (message_id, user_id) unique constraint through ON CONFLICT, so there is no
+ * per-message existence check and concurrent syncs of the same mailbox can't fail on the constraint.
+ * Values longer than their column are truncated rather than failing the whole batch.
+ * Timestamps are bound as UTC like Hibernate binds them, so the upsert's IS DISTINCT FROM compares
+ * like with like against rows written through JPA. Runs in the caller's transaction.
+ */
+@Component
+@RequiredArgsConstructor
+public class EmailBatchWriter {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO emails (id, user_id, message_id, subject, from_address, from_name, to_recipients, " +
+            "cc_recipients, body, body_preview, body_type, has_attachments, is_read, conversation_id, folder, " +
+            "received_date_time, sent_date_time, synced_at) " +
+            "VALUES (gen_random_uuid(), ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) ";
+
+    private static final String INSERT_MISSING_SQL = INSERT_SQL +
+            "ON CONFLICT (message_id, user_id) DO NOTHING";
+
+    // Columns Graph owns; project_id and synced_at are never overwritten
+    private static final String SYNCED_COLUMNS =
+            "subject, from_address, from_name, to_recipients, cc_recipients, body, body_preview, body_type, " +
+            "has_attachments, is_read, conversation_id, folder, received_date_time, sent_date_time";
+
+    // Unchanged rows are skipped by the WHERE, so re-syncing a page doesn't rewrite (and bloat) them
+    private static final String UPSERT_SQL = INSERT_SQL +
+            "ON CONFLICT (message_id, user_id) DO UPDATE SET (" + SYNCED_COLUMNS + ") = (" +
+            excluded(SYNCED_COLUMNS) + ") " +
+            "WHERE (" + qualified("emails", SYNCED_COLUMNS) + ") IS DISTINCT FROM (" + excluded(SYNCED_COLUMNS) + ")";
+
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Insert emails that aren't stored yet; existing rows are left untouched.
+     *
+     * @return number of rows inserted
+     */
+    public int insertMissing(UUID userId, List<Email> emails) {
+        return write(INSERT_MISSING_SQL, userId, emails);
+    }
+
+    /**
+     * Insert new emails and update the synced columns (read state, folder, content, ...) of existing ones.
+     *
+     * @return number of rows inserted or changed (rows whose synced columns are unchanged are not counted)
+     */
+    public int upsert(UUID userId, List<Email> emails) {
+        return write(UPSERT_SQL, userId, emails);
+    }
+
+    private int write(String sql, UUID userId, List<Email> emails) {
+        if (emails.isEmpty()) {
+            return 0;
+        }
+
+        int[] results = jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                bindRow(ps, userId, emails.get(i));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return emails.size();
+            }
+        });
+        return countAffected(results);
+    }
+
+    private static void bindRow(PreparedStatement ps, UUID userId, Email email) throws SQLException {
+        int index = 1;
+        ps.setObject(index++, userId);
+        ps.setString(index++, email.getMessageId());
+        ps.setString(index++, truncate(email.getSubject(), 500));
+        ps.setString(index++, truncate(email.getFromAddress(), 255));
+        ps.setString(index++, truncate(email.getFromName(), 255));
+        ps.setString(index++, email.getToRecipients());
+        ps.setString(index++, email.getCcRecipients());
+        ps.setString(index++, email.getBody());
+        ps.setString(index++, truncate(email.getBodyPreview(), 500));
+        ps.setString(index++, truncate(email.getBodyType(), 20));
+        ps.setBoolean(index++, Boolean.TRUE.equals(email.getHasAttachments()));
+        ps.setBoolean(index++, Boolean.TRUE.equals(email.getIsRead()));
+        ps.setString(index++, truncate(email.getConversationId(), 255));
+        ps.setString(index++, truncate(email.getFolder(), 50));
+        setTimestamp(ps, index++, email.getReceivedDateTime());
+        setTimestamp(ps, index++, email.getSentDateTime());
+        setTimestamp(ps, index, email.getSyncedAt() != null ? email.getSyncedAt() : LocalDateTime.now());
+    }
+
+    private static int countAffected(int[] results) {
+        int affected = 0;
+        for (int result : results) {
+            if (result > 0) {
+                affected += result;
+            } else if (result == Statement.SUCCESS_NO_INFO) {
+                affected++;
+            }
+        }
+        return affected;
+    }
+
+    /**
+     * Bind like Hibernate does with {@code hibernate.jdbc.time_zone: UTC}: the JVM-local value is stored as
+     * UTC wall-clock time, so these rows read back the same as rows written through JPA.
+     */
+    private static void setTimestamp(PreparedStatement ps, int index, LocalDateTime value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.TIMESTAMP);
+        } else {
+            ps.setTimestamp(index, Timestamp.valueOf(value), Calendar.getInstance(UTC));
+        }
+    }
+
+    private static String excluded(String columns) {
+        return qualified("EXCLUDED", columns);
+    }
+
+    private static String qualified(String table, String columns) {
+        return Arrays.stream(columns.split(",\\s*"))
+                .map(column -> table + "." + column)
+                .collect(Collectors.joining(", "));
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value != null && value.length() > maxLength ? value.substring(0, maxLength) : value;
+    }
+}
@@ -0,0 +1,100 @@
+package com.nexus.backend.service;
+
+import com.microsoft.graph.models.Message;
+import com.nexus.backend.entity.Email;
+import com.nexus.backend.entity.User;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Microsoft Graph 메시지 -> Email 엔티티 변환 (메일 동기화 / 백필 공통)
+ */
+final class EmailMessageMapper {
+
+    private EmailMessageMapper() {
+    }
+
+    /**
+     * Microsoft Graph 메시지를 Email 엔티티로 변환
+     */
+    static Email toEmail(Message graphMessage, User user) {
+        Email email = new Email();
+        email.setUser(user);
+        email.setMessageId(graphMessage.getId());
+        applyMessageFields(email, graphMessage);
+        email.setSyncedAt(LocalDateTime.now());
+
+        return email;
+    }
+
+    /**
+     * Graph 메시지 내용을 Email 엔티티에 반영
+     */
+    private static void applyMessageFields(Email email, Message graphMessage) {
+        email.setSubject(graphMessage.getSubject() != null ? graphMessage.getSubject() : "");
+
+        // 발신자 정보
+        if (graphMessage.getFrom() != null && graphMessage.getFrom().getEmailAddress() != null) {
+            email.setFromAddress(graphMessage.getFrom().getEmailAddress().getAddress());
+            email.setFromName(graphMessage.getFrom().getEmailAddress().getName());
+        }
+        if (email.getFromAddress() == null) {
+            email.setFromAddress("");  // 발신자 없는 메시지 (NOT NULL 컬럼)
+        }
+
+        // 수신자 정보
+        if (graphMessage.getToRecipients() != null && !graphMessage.getToRecipients().isEmpty()) {
+            StringBuilder toRecipients = new StringBuilder();
+            for (var recipient : graphMessage.getToRecipients()) {
+                if (recipient.getEmailAddress() != null) {
+                    toRecipients.append(recipient.getEmailAddress().getAddress()).append("; ");
+                }
+            }
+            email.setToRecipients(toRecipients.toString());
+        }
+
+        // 참조 정보
+        if (graphMessage.getCcRecipients() != null && !graphMessage.getCcRecipients().isEmpty()) {
+            StringBuilder ccRecipients = new StringBuilder();
+            for (var recipient : graphMessage.getCcRecipients()) {
+                if (recipient.getEmailAddress() != null) {
+                    ccRecipients.append(recipient.getEmailAddress().getAddress()).append("; ");
+                }
+            }
+            email.setCcRecipients(ccRecipients.toString());
+        }
+
+        // 본문
+        if (graphMessage.getBody() != null) {
+            email.setBody(graphMessage.getBody().getContent());
+            email.setBodyType(graphMessage.getBody().getContentType().toString());
+        }
+
+        email.setBodyPreview(graphMessage.getBodyPreview());
+        email.setHasAttachments(graphMessage.getHasAttachments() != null ? graphMessage.getHasAttachments() : false);
+        email.setIsRead(graphMessage.getIsRead() != null ? graphMessage.getIsRead() : false);
+        email.setConversationId(graphMessage.getConversationId());
+
+        // 폴더는 호출하는 쪽에서 설정 (기본값 설정하지 않음)
+
+        // 날짜 정보
+        if (graphMessage.getReceivedDateTime() != null) {
+            email.setReceivedDateTime(
+                    LocalDateTime.ofInstant(
+                            graphMessage.getReceivedDateTime().toInstant(),
+                            ZoneId.systemDefault()
+                    )
+            );
+        }
+
+        if (graphMessage.getSentDateTime() != null) {
+            email.setSentDateTime(
+                    LocalDateTime.ofInstant(
+                            graphMessage.getSentDateTime().toInstant(),
+                            ZoneId.systemDefault()
+                    )
+            );
+        }
+    }
+}
@@ -15,7 +15,6 @@ import com.nexus.backend.repository.ProjectRepository;
 import com.nexus.backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpEntity;
@@ -23,7 +22,6 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -39,10 +37,7 @@ public class EmailService {
     private final UserRepository userRepository;
     private final ProjectRepository projectRepository;
     private final OutlookAuthService outlookAuthService;
-    private final RestTemplate restTemplate;
-
-    @Value("${python.api.url:http://localhost:8000}")
-    private String pythonApiUrl;
+    private final PythonBackendClient pythonBackendClient;
 
     /**
      * 메일 목록 조회
@@ -148,19 +143,19 @@ public class EmailService {
      */
     private void updateQdrantPayload(UUID emailId, UUID projectId) {
         try {
-            String url = pythonApiUrl + "/api/ai/mail/emails/" + emailId + "/project";
-
-            // Query parameter로 projectId 전달
-            if (projectId != null) {
-                url += "?project_id=" + projectId;
-            }
-
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_JSON);
 
             HttpEntity<Void> request = new HttpEntity<>(headers);
 
-            restTemplate.patchForObject(url, request, Map.class);
+            // Query parameter로 projectId 전달
+            if (projectId != null) {
+                pythonBackendClient.patch(PythonBackendClient.Lane.FAST,
+                        "/api/ai/mail/emails/{emailId}/project?project_id={projectId}", request, Map.class, emailId, projectId);
+            } else {
+                pythonBackendClient.patch(PythonBackendClient.Lane.FAST,
+                        "/api/ai/mail/emails/{emailId}/project", request, Map.class, emailId);
+            }
             log.info("Qdrant payload updated for email: {}, projectId: {}", emailId, projectId);
         } catch (Exception e) {
             log.error("Failed to update Qdrant payload for email: {}, error: {}", emailId, e.getMessage());
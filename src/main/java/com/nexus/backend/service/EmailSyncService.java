@@ -1,23 +1,34 @@
 package com.nexus.backend.service;
 
+import com.microsoft.graph.models.Message;
+import com.microsoft.graph.models.odataerrors.ODataError;
+import com.microsoft.graph.serviceclient.GraphServiceClient;
+import com.microsoft.kiota.ApiException;
+import com.nexus.backend.dto.response.EmailBackfillStatusResponse;
 import com.nexus.backend.entity.Email;
+import com.nexus.backend.entity.EmailSyncState;
 import com.nexus.backend.entity.User;
 import com.nexus.backend.repository.EmailRepository;
+import com.nexus.backend.repository.EmailSyncStateRepository;
 import com.nexus.backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.nexus.backend.exception.BadRequestException;
+import com.nexus.backend.exception.ConflictException;
 import com.nexus.backend.exception.ResourceNotFoundException;
 import com.nexus.backend.exception.ServiceException;
 
 import java.time.LocalDateTime;
-import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -31,6 +42,28 @@ public class EmailSyncService {
     private final EmailRepository emailRepository;
     private final UserRepository userRepository;
     private final OutlookAuthService outlookAuthService;
+    private final EmailSyncStateRepository syncStateRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final JobQueueService jobQueueService;
+    private final EmailBatchWriter emailBatchWriter;
+
+    // 동기화 대상 폴더 (Graph well-known folder names)
+    static final List<String> SYNC_FOLDERS = List.of("Inbox", "SentItems");
+
+    static final String[] MESSAGE_FIELDS = {
+            "id", "subject", "from", "toRecipients", "ccRecipients",
+            "body", "bodyPreview", "hasAttachments", "isRead",
+            "conversationId", "receivedDateTime", "sentDateTime",
+            "parentFolderId"
+    };
+
+    private static final int DELTA_PAGE_SIZE = 50;
+
+    // Stale rows are deleted in chunks to keep the IN list bounded
+    private static final int DELETE_CHUNK_SIZE = 1000;
+
+    // 이 시간 동안 진행이 없는 QUEUED / RUNNING 백필은 중단된 것으로 보고 다시 시작 허용
+    private static final int BACKFILL_STALE_MINUTES = 30;
 
     /**
      * 사용자 메일 동기화 (Inbox + SentItems)
@@ -73,8 +106,9 @@ public class EmailSyncService {
 
     /**
      * 보낸편지함만 동기화 (메일 전송 후 호출용)
+     * SentItems 폴더만 delta 동기화하므로 방금 보낸 메일만 가져옴
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public int syncSentItems(UUID userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
@@ -86,15 +120,11 @@ public class EmailSyncService {
         try {
             log.info("Syncing SentItems for user: {}", userId);
 
-            // GraphServiceClient 생성
-            com.microsoft.graph.serviceclient.GraphServiceClient graphClient =
-                    outlookAuthService.createGraphClient(user);
-
-            // SentItems만 동기화
-            int syncedCount = syncFolderMails(graphClient, user, "SentItems");
+            GraphServiceClient graphClient = outlookAuthService.createGraphClient(user);
+            int changedCount = deltaSyncFolder(graphClient, user, "SentItems");
 
-            log.info("Synced {} new emails from SentItems for user: {}", syncedCount, userId);
-            return syncedCount;
+            log.info("Synced {} changed emails from SentItems for user: {}", changedCount, userId);
+            return changedCount;
 
         } catch (ResourceNotFoundException | BadRequestException e) {
             throw e;
@@ -115,39 +145,43 @@ public class EmailSyncService {
         try {
             log.info("Syncing folder: {} for user: {}", folderName, user.getId());
 
-            // [1단계] 모든 메일 ID만 먼저 가져오기 (삭제 감지용, 경량)
+            // [1단계] 모든 메일 ID만 먼저 가져오기 (삭제 감지용, 경량, nextLink 를 끝까지 따라감)
             Set<String> allOutlookMessageIds = new HashSet<>();
+            boolean idListingComplete = false;
             try {
+                var idMessages = graphClient.me()
+                        .mailFolders()
+                        .byMailFolderId(folderName)
+                        .messages();
                 com.microsoft.graph.models.MessageCollectionResponse allIdsResponse =
-                        graphClient.me()
-                                .mailFolders()
-                                .byMailFolderId(folderName)
-                                .messages()
-                                .get(requestConfig -> {
-                                    requestConfig.queryParameters.top = 999;  // 최대한 많이
-                                    requestConfig.queryParameters.select = new String[]{"id", "parentFolderId"};  // ID와 폴더 ID
-                                });
-
-                if (allIdsResponse != null && allIdsResponse.getValue() != null) {
-                    log.info("Raw response from Outlook: {} messages", allIdsResponse.getValue().size());
-
-                    for (var msg : allIdsResponse.getValue()) {
-                        allOutlookMessageIds.add(msg.getId());
+                        idMessages.get(requestConfig -> {
+                            requestConfig.queryParameters.top = 999;  // 최대한 많이
+                            requestConfig.queryParameters.select = new String[]{"id", "parentFolderId"};  // ID와 폴더 ID
+                        });
+
+                while (allIdsResponse != null) {
+                    if (allIdsResponse.getValue() != null) {
+                        for (var msg : allIdsResponse.getValue()) {
+                            allOutlookMessageIds.add(msg.getId());
+                        }
                     }
-
-                    // 처음 3개 ID 샘플 로그
-                    List<String> sampleIds = allOutlookMessageIds.stream()
-                        .limit(3)
-                        .collect(Collectors.toList());
-                    log.info("Retrieved {} total message IDs from Outlook folder: {} (sample: {})",
-                        allOutlookMessageIds.size(), folderName, sampleIds);
+                    String nextLink = allIdsResponse.getOdataNextLink();
+                    allIdsResponse = nextLink != null ? idMessages.withUrl(nextLink).get() : null;
                 }
+                idListingComplete = true;
+
+                // 처음 3개 ID 샘플 로그
+                List<String> sampleIds = allOutlookMessageIds.stream()
+                    .limit(3)
+                    .collect(Collectors.toList());
+                log.info("Retrieved {} total message IDs from Outlook folder: {} (sample: {})",
+                    allOutlookMessageIds.size(), folderName, sampleIds);
             } catch (Exception e) {
                 log.warn("Failed to fetch all message IDs, will skip deletion detection: {}", e.getMessage(), e);
             }
 
-            // [2단계] 삭제된 메일 먼저 제거
-            if (!allOutlookMessageIds.isEmpty()) {
+            // [2단계] 삭제된 메일 먼저 제거 (ID 목록을 끝까지 받은 경우에만: 일부 목록으로 지우면 남은 메일까지 삭제됨)
+            if (idListingComplete) {
                 detectAndDeleteRemovedEmails(user.getId(), folderName, allOutlookMessageIds);
             }
 
@@ -160,12 +194,7 @@ public class EmailSyncService {
                             .get(requestConfig -> {
                                 requestConfig.queryParameters.top = 50;
                                 requestConfig.queryParameters.orderby = new String[]{"receivedDateTime DESC"};
-                                requestConfig.queryParameters.select = new String[]{
-                                        "id", "subject", "from", "toRecipients", "ccRecipients",
-                                        "body", "bodyPreview", "hasAttachments", "isRead",
-                                        "conversationId", "receivedDateTime", "sentDateTime",
-                                        "parentFolderId"
-                                };
+                                requestConfig.queryParameters.select = MESSAGE_FIELDS;
                             });
 
             if (messagesResponse == null || messagesResponse.getValue() == null) {
@@ -173,33 +202,21 @@ public class EmailSyncService {
                 return 0;
             }
 
-            int syncedCount = 0;
-            int skippedCount = 0;
             int totalCount = messagesResponse.getValue().size();
-
             log.info("Retrieved {} recent messages from folder: {}", totalCount, folderName);
 
+            // Graph Message를 Email 엔티티로 변환 후 한 번의 배치로 upsert
+            // (신규는 INSERT, 기존 메일은 읽음 상태 / 폴더 / 내용이 바뀐 경우만 UPDATE)
+            List<Email> emails = new ArrayList<>(totalCount);
             for (com.microsoft.graph.models.Message graphMessage : messagesResponse.getValue()) {
-                // 이미 존재하는 메일인지 확인 (해당 사용자의 메일만)
-                if (emailRepository.existsByMessageIdAndUserId(graphMessage.getId(), user.getId())) {
-                    log.debug("Email already exists for user: {} (folder: {})", graphMessage.getId(), folderName);
-                    skippedCount++;
-                    continue;
-                }
-
-                // Graph Message를 Email 엔티티로 변환
-                Email email = convertToEmail(graphMessage, user);
+                Email email = EmailMessageMapper.toEmail(graphMessage, user);
                 email.setFolder(folderName);  // 폴더 정보 설정
-
-                // DB에 저장
-                emailRepository.save(email);
-                syncedCount++;
-
-                log.debug("Saved email: {} - folder: {}", email.getSubject(), folderName);
+                emails.add(email);
             }
+            int syncedCount = emailBatchWriter.upsert(user.getId(), emails);
 
-            log.info("Folder '{}' sync complete: {} new, {} skipped, {} total in Outlook",
-                folderName, syncedCount, skippedCount, allOutlookMessageIds.size());
+            log.info("Folder '{}' sync complete: {} new or changed, {} unchanged, {} total in Outlook",
+                folderName, syncedCount, totalCount - syncedCount, allOutlookMessageIds.size());
             return syncedCount;
 
         } catch (Exception e) {
@@ -209,80 +226,6 @@ public class EmailSyncService {
         }
     }
 
-    /**
-     * Microsoft Graph 메시지를 Email 엔티티로 변환
-     */
-    private Email convertToEmail(com.microsoft.graph.models.Message graphMessage, User user) {
-        Email email = new Email();
-        email.setUser(user);
-        email.setMessageId(graphMessage.getId());
-        email.setSubject(graphMessage.getSubject());
-
-        // 발신자 정보
-        if (graphMessage.getFrom() != null && graphMessage.getFrom().getEmailAddress() != null) {
-            email.setFromAddress(graphMessage.getFrom().getEmailAddress().getAddress());
-            email.setFromName(graphMessage.getFrom().getEmailAddress().getName());
-        }
-
-        // 수신자 정보
-        if (graphMessage.getToRecipients() != null && !graphMessage.getToRecipients().isEmpty()) {
-            StringBuilder toRecipients = new StringBuilder();
-            for (var recipient : graphMessage.getToRecipients()) {
-                if (recipient.getEmailAddress() != null) {
-                    toRecipients.append(recipient.getEmailAddress().getAddress()).append("; ");
-                }
-            }
-            email.setToRecipients(toRecipients.toString());
-        }
-
-        // 참조 정보
-        if (graphMessage.getCcRecipients() != null && !graphMessage.getCcRecipients().isEmpty()) {
-            StringBuilder ccRecipients = new StringBuilder();
-            for (var recipient : graphMessage.getCcRecipients()) {
-                if (recipient.getEmailAddress() != null) {
-                    ccRecipients.append(recipient.getEmailAddress().getAddress()).append("; ");
-                }
-            }
-            email.setCcRecipients(ccRecipients.toString());
-        }
-
-        // 본문
-        if (graphMessage.getBody() != null) {
-            email.setBody(graphMessage.getBody().getContent());
-            email.setBodyType(graphMessage.getBody().getContentType().toString());
-        }
-
-        email.setBodyPreview(graphMessage.getBodyPreview());
-        email.setHasAttachments(graphMessage.getHasAttachments() != null ? graphMessage.getHasAttachments() : false);
-        email.setIsRead(graphMessage.getIsRead() != null ? graphMessage.getIsRead() : false);
-        email.setConversationId(graphMessage.getConversationId());
-
-        // 폴더는 syncFolderMails에서 설정됨 (기본값 설정하지 않음)
-
-        // 날짜 정보
-        if (graphMessage.getReceivedDateTime() != null) {
-            email.setReceivedDateTime(
-                    LocalDateTime.ofInstant(
-                            graphMessage.getReceivedDateTime().toInstant(),
-                            ZoneId.systemDefault()
-                    )
-            );
-        }
-
-        if (graphMessage.getSentDateTime() != null) {
-            email.setSentDateTime(
-                    LocalDateTime.ofInstant(
-                            graphMessage.getSentDateTime().toInstant(),
-                            ZoneId.systemDefault()
-                    )
-            );
-        }
-
-        email.setSyncedAt(LocalDateTime.now());
-
-        return email;
-    }
-
     /**
      * Outlook에서 삭제된 메일을 DB에서도 제거
      *
@@ -343,29 +286,265 @@ public class EmailSyncService {
     }
 
     /**
-     * Delta 동기화 (변경된 메일만 가져오기)
+     * 메일함 전체 백필 시작 (Inbox + SentItems, 백그라운드 작업)
+     *
+     * 완료된 폴더는 처음부터, 실패한 폴더는 마지막 체크포인트부터 다시 진행한다.
+     * 실제 처리는 {@link EmailBackfillJobHandler} 가 페이지 단위로 수행한다.
      */
     @Transactional
+    public List<EmailBackfillStatusResponse> startBackfill(UUID userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
+
+        if (user.getOutlookAccessToken() == null) {
+            throw new BadRequestException("Outlook 계정이 연동되지 않았습니다");
+        }
+
+        LocalDateTime staleBefore = LocalDateTime.now().minusMinutes(BACKFILL_STALE_MINUTES);
+        List<EmailSyncState> states = new ArrayList<>();
+        for (String folder : SYNC_FOLDERS) {
+            EmailSyncState state = syncStateRepository.findByUserIdAndFolder(userId, folder)
+                    .orElseGet(() -> EmailSyncState.builder().userId(userId).folder(folder).build());
+
+            String status = state.getBackfillStatus();
+            boolean inProgress = EmailBackfillJobHandler.STATUS_QUEUED.equals(status)
+                    || EmailBackfillJobHandler.STATUS_RUNNING.equals(status);
+            if (inProgress && state.getUpdatedAt() != null && state.getUpdatedAt().isAfter(staleBefore)) {
+                throw new ConflictException("메일 백필이 이미 진행 중입니다");
+            }
+            states.add(state);
+        }
+
+        for (EmailSyncState state : states) {
+            // 실패 / 중단된 백필은 체크포인트부터 이어서, 그 외에는 처음부터
+            if (state.getBackfillStatus() == null
+                    || EmailBackfillJobHandler.STATUS_COMPLETED.equals(state.getBackfillStatus())) {
+                state.setBackfillNextLink(null);
+                state.setBackfillProcessed(0L);
+                state.setBackfillInserted(0L);
+                state.setBackfillElapsedMs(0L);
+                state.setBackfillStartedAt(null);
+                state.setBackfillCompletedAt(null);
+            }
+            state.setBackfillStatus(EmailBackfillJobHandler.STATUS_QUEUED);
+            syncStateRepository.save(state);
+        }
+
+        jobQueueService.enqueue(EmailBackfillJobHandler.JOB_TYPE, userId, Map.of());
+        log.info("Mail backfill queued for user: {}", userId);
+
+        return states.stream()
+                .map(EmailBackfillStatusResponse::from)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 메일 백필 진행 상태 조회 (폴더별)
+     */
+    public List<EmailBackfillStatusResponse> getBackfillStatus(UUID userId) {
+        List<EmailBackfillStatusResponse> statuses = new ArrayList<>();
+        for (String folder : SYNC_FOLDERS) {
+            syncStateRepository.findByUserIdAndFolder(userId, folder)
+                    .filter(state -> state.getBackfillStatus() != null)
+                    .map(EmailBackfillStatusResponse::from)
+                    .ifPresent(statuses::add);
+        }
+        return statuses;
+    }
+
+    /**
+     * Delta 동기화 (변경된 메일만 가져오기)
+     *
+     * 폴더별로 Graph /messages/delta 를 따라가며 생성 / 변경 (읽음 상태 등) / 삭제 (@removed)를 반영한다.
+     * 라운드 끝의 deltaLink 를 email_sync_states 에 저장해 다음 동기화는 변경분만 받는다.
+     * - 토큰이 없으면 (첫 동기화) 폴더 전체를 받는 full round 후, Outlook 에 없는 로컬 메일을 정리
+     * - 토큰이 만료되면 (410 Gone / SyncStateNotFound) full round 로 재동기화
+     * - 페이지마다 별도 트랜잭션으로 커밋하며, 중단되면 다음 동기화가 이전 토큰부터 다시 적용 (멱등)
+     * 다른 폴더로 이동한 메일은 원래 폴더에서 @removed, 대상 폴더에서 신규로 보고된다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public int deltaSyncEmails(UUID userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
 
-        if (user.getOutlookDeltaLink() == null) {
-            // 첫 동기화인 경우 전체 동기화
-            return syncUserEmails(userId);
+        if (user.getOutlookAccessToken() == null) {
+            throw new BadRequestException("Outlook 계정이 연동되지 않았습니다");
         }
 
         try {
-            // TODO: Delta link를 사용한 증분 동기화 구현
             log.info("Delta syncing emails for user: {}", userId);
 
-            return 0;
+            GraphServiceClient graphClient = outlookAuthService.createGraphClient(user);
+
+            int totalChanged = 0;
+            for (String folder : SYNC_FOLDERS) {
+                totalChanged += deltaSyncFolder(graphClient, user, folder);
+            }
+
+            log.info("Delta sync applied {} changes for user: {}", totalChanged, userId);
+            return totalChanged;
 
-        } catch (ResourceNotFoundException e) {
+        } catch (ResourceNotFoundException | BadRequestException e) {
             throw e;
         } catch (Exception e) {
             log.error("Failed to delta sync emails for user: {}", userId, e);
             throw new ServiceException("Delta 동기화 실패: " + e.getMessage(), e);
         }
     }
+
+    /**
+     * 한 폴더의 delta 라운드 실행 (만료된 토큰은 full round 로 대체)
+     *
+     * @return 반영된 변경 수 (생성 / 변경 / 삭제)
+     */
+    private int deltaSyncFolder(GraphServiceClient graphClient, User user, String folder) {
+        EmailSyncState state = syncStateRepository.findByUserIdAndFolder(user.getId(), folder)
+                .orElseGet(() -> EmailSyncState.builder().userId(user.getId()).folder(folder).build());
+
+        try {
+            return runDeltaRound(graphClient, user, state);
+        } catch (ApiException e) {
+            if (state.getDeltaLink() == null || !isExpiredDeltaToken(e)) {
+                throw e;
+            }
+            log.warn("Delta token expired for user: {} folder: {} ({}), running a full resync",
+                    user.getId(), folder, e.getMessage());
+            state.setDeltaLink(null);
+            return runDeltaRound(graphClient, user, state);
+        }
+    }
+
+    private int runDeltaRound(GraphServiceClient graphClient, User user, EmailSyncState state) {
+        String folder = state.getFolder();
+        boolean fullRound = state.getDeltaLink() == null;
+        Set<String> seenIds = fullRound ? new HashSet<>() : null;
+        long startedAt = System.currentTimeMillis();
+
+        var deltaBuilder = graphClient.me().mailFolders().byMailFolderId(folder).messages().delta();
+        String preferPageSize = "odata.maxpagesize=" + DELTA_PAGE_SIZE;
+
+        // The deltaLink / nextLink already carry $select
+        var page = fullRound
+                ? deltaBuilder.get(requestConfig -> {
+                    requestConfig.queryParameters.select = MESSAGE_FIELDS;
+                    requestConfig.headers.add("Prefer", preferPageSize);
+                })
+                : deltaBuilder.withUrl(state.getDeltaLink())
+                        .get(requestConfig -> requestConfig.headers.add("Prefer", preferPageSize));
+
+        int changed = 0;
+        int pages = 0;
+        String deltaLink = null;
+        while (page != null) {
+            pages++;
+            changed += applyDeltaPage(user, folder, page.getValue(), seenIds);
+
+            if (page.getOdataNextLink() != null) {
+                page = deltaBuilder.withUrl(page.getOdataNextLink())
+                        .get(requestConfig -> requestConfig.headers.add("Prefer", preferPageSize));
+            } else {
+                deltaLink = page.getOdataDeltaLink();
+                page = null;
+            }
+        }
+
+        if (fullRound) {
+            changed += deleteUnseenEmails(user.getId(), folder, seenIds);
+        }
+
+        // delta 컬럼만 기록 (라운드 시작 시 읽은 state 를 저장하면 그동안 커밋된 백필 체크포인트를 되돌림)
+        String finalDeltaLink = deltaLink;
+        transactionTemplate.executeWithoutResult(status ->
+                syncStateRepository.saveDeltaLink(user.getId(), folder, finalDeltaLink, LocalDateTime.now()));
+
+        log.info("Folder '{}' delta {} complete for user: {} - {} changes in {} pages, {}ms",
+                folder, fullRound ? "full round" : "round", user.getId(), changed, pages,
+                System.currentTimeMillis() - startedAt);
+        return changed;
+    }
+
+    /**
+     * delta 페이지 하나를 한 트랜잭션으로 반영: @removed 는 해당 폴더에서 삭제, 나머지는 upsert
+     */
+    private int applyDeltaPage(User user, String folder, List<Message> messages, Set<String> seenIds) {
+        if (messages == null || messages.isEmpty()) {
+            return 0;
+        }
+
+        List<String> removedIds = new ArrayList<>();
+        Map<String, Message> changedById = new LinkedHashMap<>();
+        for (Message message : messages) {
+            if (message.getAdditionalData() != null && message.getAdditionalData().containsKey("@removed")) {
+                removedIds.add(message.getId());
+            } else {
+                changedById.put(message.getId(), message);
+                if (seenIds != null) {
+                    seenIds.add(message.getId());
+                }
+            }
+        }
+
+        Integer applied = transactionTemplate.execute(status -> {
+            int count = 0;
+            if (!removedIds.isEmpty()) {
+                count += emailRepository.deleteByMessageIdsAndUserIdAndFolder(removedIds, user.getId(), folder);
+            }
+            if (!changedById.isEmpty()) {
+                count += upsertMessages(user, folder, changedById);
+            }
+            return count;
+        });
+        return applied != null ? applied : 0;
+    }
+
+    /**
+     * 페이지의 메일을 한 번의 배치로 upsert (신규 INSERT, 기존 메일은 내용 / 읽음 상태 / 폴더 갱신)
+     */
+    private int upsertMessages(User user, String folder, Map<String, Message> messagesById) {
+        List<Email> emails = new ArrayList<>(messagesById.size());
+        for (Message message : messagesById.values()) {
+            Email email = EmailMessageMapper.toEmail(message, user);
+            email.setFolder(folder);
+            emails.add(email);
+        }
+        return emailBatchWriter.upsert(user.getId(), emails);
+    }
+
+    /**
+     * Full round 후 정리: Outlook 폴더에 더 이상 없는 로컬 메일 삭제
+     */
+    private int deleteUnseenEmails(UUID userId, String folder, Set<String> seenIds) {
+        List<String> staleIds = emailRepository.findMessageIdsByUserIdAndFolder(userId, folder).stream()
+                .filter(messageId -> !seenIds.contains(messageId))
+                .collect(Collectors.toList());
+        if (staleIds.isEmpty()) {
+            return 0;
+        }
+
+        int deleted = 0;
+        for (int from = 0; from < staleIds.size(); from += DELETE_CHUNK_SIZE) {
+            List<String> chunk = staleIds.subList(from, Math.min(from + DELETE_CHUNK_SIZE, staleIds.size()));
+            Integer count = transactionTemplate.execute(status ->
+                    emailRepository.deleteByMessageIdsAndUserIdAndFolder(chunk, userId, folder));
+            deleted += count != null ? count : 0;
+        }
+        log.info("Deleted {} emails from folder '{}' that are no longer in Outlook (user: {})", deleted, folder, userId);
+        return deleted;
+    }
+
+    /**
+     * Graph 는 만료 / 무효화된 delta 토큰에 410 Gone (또는 SyncStateNotFound 계열 오류)을 반환
+     */
+    private static boolean isExpiredDeltaToken(ApiException e) {
+        if (e.getResponseStatusCode() == 410) {
+            return true;
+        }
+        if (e instanceof ODataError odataError && odataError.getError() != null && odataError.getError().getCode() != null) {
+            String code = odataError.getError().getCode();
+            return code.equalsIgnoreCase("SyncStateNotFound")
+                    || code.equalsIgnoreCase("SyncStateInvalid")
+                    || code.equalsIgnoreCase("resyncRequired");
+        }
+        return false;
+    }
 }
@@ -0,0 +1,117 @@
+package com.nexus.backend.service;
+
+import com.nexus.backend.entity.File;
+import com.nexus.backend.repository.FileBlobRepository;
+import com.nexus.backend.repository.FileRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * One-off backfill that moves the existing upload tree into the content-addressed blob store.
+ *
+ * Enabled with {@code file.storage.backfill-on-startup=true}; runs on a background thread so startup
+ * is not blocked. Each file is hashed, linked into {@code blobs/} (hard link, copy as fallback),
+ * re-pointed in its own transaction, and only then is the old copy deleted - a crash at any point
+ * leaves every row pointing at readable bytes. Safe to re-run: processed rows are skipped.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "file.storage.backfill-on-startup", havingValue = "true")
+public class FileBlobBackfillJob implements ApplicationRunner {
+
+    // PostgreSQL orders uuid as unsigned bytes, so the nil UUID sorts first (not Java's signed minimum)
+    static final UUID MIN_UUID = new UUID(0L, 0L);
+
+    private final FileRepository fileRepository;
+    private final FileBlobRepository fileBlobRepository;
+    private final FileStorageService fileStorageService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Thread worker = new Thread(this::backfill, "file-blob-backfill");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Deduplicate every file that is not yet backed by a blob.
+     */
+    public void backfill() {
+        log.info("Starting content-addressed storage backfill");
+
+        long processed = 0;
+        long deduplicated = 0;
+        long skipped = 0;
+        long bytesReclaimed = 0;
+        UUID lastId = MIN_UUID;
+
+        List<File> batch;
+        while (!(batch = fileRepository.findTop200ByBlobSha256IsNullAndIdGreaterThanOrderByIdAsc(lastId)).isEmpty()) {
+            for (File file : batch) {
+                lastId = file.getId();
+                try {
+                    if (!fileStorageService.exists(file.getFilePath())) {
+                        log.warn("Backfill skipped missing file: fileId={}, path={}", file.getId(), file.getFilePath());
+                        skipped++;
+                        continue;
+                    }
+
+                    BackfillResult result = backfillFile(file);
+                    processed++;
+                    if (result.deduplicated()) {
+                        deduplicated++;
+                        bytesReclaimed += result.size();
+                    }
+                } catch (Exception e) {
+                    log.error("Backfill failed for file: fileId={}, error={}", file.getId(), e.getMessage(), e);
+                    skipped++;
+                }
+            }
+            log.info("Backfill progress: processed={}, deduplicated={}, skipped={}, bytesReclaimed={}",
+                    processed, deduplicated, skipped, bytesReclaimed);
+        }
+
+        log.info("Content-addressed storage backfill finished: processed={}, deduplicated={}, skipped={}, bytesReclaimed={}",
+                processed, deduplicated, skipped, bytesReclaimed);
+    }
+
+    private record BackfillResult(boolean deduplicated, long size) {}
+
+    private BackfillResult backfillFile(File file) {
+        String oldPath = file.getFilePath();
+        FileStorageService.ContentDigest digest = fileStorageService.digest(oldPath);
+        String blobPath = fileStorageService.blobPath(digest.sha256());
+
+        Integer refCount = transactionTemplate.execute(status -> {
+            // Same per-digest lock as FileBlobService, so a concurrent release cannot delete the bytes we link
+            fileBlobRepository.lock(digest.sha256());
+            int count = fileBlobRepository.acquire(digest.sha256(), blobPath, digest.size(), digest.mimeType());
+            if (!fileStorageService.exists(blobPath)) {
+                fileStorageService.linkBlob(oldPath, blobPath);
+            }
+
+            File managed = fileRepository.findById(file.getId()).orElseThrow();
+            managed.setFilePath(blobPath);
+            managed.setBlobSha256(digest.sha256());
+            fileRepository.save(managed);
+            return count;
+        });
+
+        // Old copy is removed only after the row points at the blob
+        if (!oldPath.equals(blobPath)) {
+            fileStorageService.deleteFile(oldPath);
+        }
+
+        return new BackfillResult(refCount != null && refCount > 1, digest.size());
+    }
+}
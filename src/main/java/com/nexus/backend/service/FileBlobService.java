@@ -0,0 +1,190 @@
+package com.nexus.backend.service;
+
+import com.nexus.backend.repository.FileBlobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * Optional content-addressed, deduplicated storage on top of {@link FileStorageService}.
+ *
+ * When {@code file.storage.content-addressed} is enabled, uploads are hashed before anything is
+ * written: content already in the blob store only gains a reference, new content is moved into
+ * {@code blobs/ab/cd/<sha256>}. Bytes are removed from disk when the last referencing file is deleted.
+ * When disabled, uploads are stored as private per-file copies exactly as before.
+ *
+ * Every path that changes a blob's references or touches its bytes first takes a transaction-scoped
+ * advisory lock on the digest ({@link FileBlobRepository#lock}). Bytes are deleted in a separate short
+ * transaction under the same lock, after the deleting (or rolled back) transaction has finished, and only
+ * if no row references the digest by then; an upload of the same content either committed first (row
+ * visible, bytes kept) or waits and writes the bytes again.
+ */
+@Service
+@Slf4j
+@Transactional(readOnly = true)
+public class FileBlobService {
+
+    private final FileBlobRepository fileBlobRepository;
+    private final FileStorageService fileStorageService;
+    private final TransactionTemplate cleanupTransactionTemplate;
+    private final boolean contentAddressed;
+
+    public FileBlobService(
+            FileBlobRepository fileBlobRepository,
+            FileStorageService fileStorageService,
+            PlatformTransactionManager transactionManager,
+            @Value("${file.storage.content-addressed:false}") boolean contentAddressed) {
+        this.fileBlobRepository = fileBlobRepository;
+        this.fileStorageService = fileStorageService;
+        this.cleanupTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.cleanupTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.contentAddressed = contentAddressed;
+    }
+
+    public boolean isContentAddressed() {
+        return contentAddressed;
+    }
+
+    /**
+     * Store an upload, deduplicating it against the blob store when enabled.
+     *
+     * @param file uploaded file
+     * @return stored file descriptor
+     */
+    @Transactional
+    public FileStorageService.StoredFile store(MultipartFile file) {
+        if (!contentAddressed) {
+            return fileStorageService.store(file);
+        }
+
+        FileStorageService.ContentDigest digest = fileStorageService.digest(file);
+        String blobPath = fileStorageService.blobPath(digest.sha256());
+
+        fileBlobRepository.lock(digest.sha256());
+        int refCount = fileBlobRepository.acquire(digest.sha256(), blobPath, digest.size(), digest.mimeType());
+        if (refCount == 1 || !fileStorageService.exists(blobPath)) {
+            deleteBytesOnRollback(digest.sha256(), blobPath);
+            fileStorageService.storeBlob(file, blobPath);
+            log.debug("Stored new blob: sha256={}, size={}", digest.sha256(), digest.size());
+        } else {
+            log.info("Deduplicated upload: sha256={}, refCount={}, bytesSaved={}",
+                    digest.sha256(), refCount, digest.size());
+        }
+
+        return new FileStorageService.StoredFile(
+                blobPath,
+                fileStorageService.newStoredFilename(file.getOriginalFilename()),
+                digest.size(),
+                digest.mimeType(),
+                digest.sha256(),
+                true);
+    }
+
+    /**
+     * Bring a file already written to the upload directory (e.g. an assembled chunked upload)
+     * under content-addressed storage when enabled.
+     * The file is read back once for its digest, then moved into the blob store or dropped as a duplicate.
+     *
+     * @param stored privately stored file
+     * @return descriptor pointing at the blob, or {@code stored} unchanged when disabled
+     */
+    @Transactional
+    public FileStorageService.StoredFile adopt(FileStorageService.StoredFile stored) {
+        if (!contentAddressed) {
+            return stored;
+        }
+
+        FileStorageService.ContentDigest digest = fileStorageService.digest(stored.path());
+        String blobPath = fileStorageService.blobPath(digest.sha256());
+
+        fileBlobRepository.lock(digest.sha256());
+        int refCount = fileBlobRepository.acquire(digest.sha256(), blobPath, digest.size(), stored.mimeType());
+        if (refCount == 1 || !fileStorageService.exists(blobPath)) {
+            deleteBytesOnRollback(digest.sha256(), blobPath);
+        }
+        fileStorageService.moveToBlob(stored.path(), blobPath);
+        if (refCount > 1) {
+            log.info("Deduplicated upload: sha256={}, refCount={}, bytesSaved={}",
+                    digest.sha256(), refCount, digest.size());
+        }
+
+        return new FileStorageService.StoredFile(
+                blobPath,
+                stored.storedFilename(),
+                digest.size(),
+                stored.mimeType(),
+                digest.sha256(),
+                true);
+    }
+
+    /**
+     * Drop one reference to a blob.
+     * When no references remain the row is removed and the bytes are deleted after commit.
+     *
+     * @param sha256 blob digest
+     */
+    @Transactional
+    public void release(String sha256) {
+        fileBlobRepository.lock(sha256);
+        Integer remaining = fileBlobRepository.release(sha256).orElse(null);
+        if (remaining == null) {
+            log.warn("Released unknown blob: sha256={}", sha256);
+            return;
+        }
+        if (remaining > 0) {
+            log.debug("Blob still referenced: sha256={}, refCount={}", sha256, remaining);
+            return;
+        }
+
+        fileBlobRepository.deleteIfUnreferenced(sha256);
+        String blobPath = fileStorageService.blobPath(sha256);
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                deleteBlobBytes(sha256, blobPath);
+            }
+        });
+    }
+
+    /**
+     * Remove bytes written by the current transaction if it rolls back, so a failed upload leaves no orphan file.
+     */
+    private void deleteBytesOnRollback(String sha256, String blobPath) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    deleteBlobBytes(sha256, blobPath);
+                }
+            }
+        });
+    }
+
+    /**
+     * Delete the bytes of a blob no row references, under the blob lock.
+     * Runs after the calling transaction has completed and released its lock, so a concurrent upload
+     * of the same content has either committed its row (bytes kept) or has not yet acquired it.
+     */
+    private void deleteBlobBytes(String sha256, String blobPath) {
+        try {
+            cleanupTransactionTemplate.executeWithoutResult(status -> {
+                fileBlobRepository.lock(sha256);
+                if (fileBlobRepository.existsById(sha256)) {
+                    return;
+                }
+                fileStorageService.deleteFile(blobPath);
+                log.debug("Deleted unreferenced blob: {}", blobPath);
+            });
+        } catch (Exception e) {
+            log.warn("Failed to delete blob (continuing): path={}, error={}", blobPath, e.getMessage());
+        }
+    }
+}
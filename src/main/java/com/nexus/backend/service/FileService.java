@@ -4,33 +4,34 @@ import com.nexus.backend.dto.request.VideoUploadRequest;
 import com.nexus.backend.dto.response.ContentPageDto;
 import com.nexus.backend.dto.response.FileDetailResponse;
 import com.nexus.backend.dto.response.FileResponse;
+import com.nexus.backend.dto.response.StreamUrlResponse;
 import com.nexus.backend.entity.*;
 import com.nexus.backend.exception.ResourceNotFoundException;
 import com.nexus.backend.exception.ServiceException;
 import com.nexus.backend.repository.*;
+import com.nexus.backend.security.StreamUrlSigner;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.tika.Tika;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import org.springframework.core.io.Resource;
 
-import java.util.concurrent.CompletableFuture;
 import java.util.Map;
-import java.util.HashMap;
 
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -63,14 +64,18 @@ public class FileService {
 
     // Services
     private final FileStorageService fileStorageService;
-    private final RestTemplate restTemplate;
+    private final FileBlobService fileBlobService;
+    private final JobQueueService jobQueueService;
+    private final StreamUrlSigner streamUrlSigner;
 
-    // Configuration
-    @Value("${python.backend.url:http://localhost:8000}")
-    private String pythonBackendUrl;
-
-    // Utils
-    private final Tika tika = new Tika();
+    /**
+     * Ownership and location of recently streamed videos.
+     * A player issues many range requests per video; this keeps them from repeating findByIdWithFile.
+     */
+    private final Cache<UUID, VideoStreamTarget> videoStreamTargets = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofMinutes(1))
+            .build();
 
     /**
      * Upload a document file.
@@ -84,22 +89,19 @@ public class FileService {
         log.info("Uploading document: user={}, filename={}", user.getUsername(), file.getOriginalFilename());
 
         try {
-            // Detect MIME type
-            String mimeType = tika.detect(file.getInputStream());
-
-            // Store file
-            String filePath = fileStorageService.storeFile(file);
-            String storedFilename = filePath.substring(filePath.lastIndexOf("/") + 1);
+            // Store file (deduplicated against the blob store when content-addressed mode is on)
+            FileStorageService.StoredFile stored = fileBlobService.store(file);
 
             // Create file entity
             File newFile = File.builder()
                     .user(user)
                     .fileType(FileType.DOCUMENT)
                     .originalFilename(file.getOriginalFilename())
-                    .storedFilename(storedFilename)
-                    .filePath(filePath)
-                    .fileSize(file.getSize())
-                    .mimeType(mimeType)
+                    .storedFilename(stored.storedFilename())
+                    .filePath(stored.path())
+                    .fileSize(stored.size())
+                    .mimeType(stored.mimeType())
+                    .blobSha256(stored.contentAddressed() ? stored.sha256() : null)
                     .uploadDate(LocalDateTime.now())
                     .status("PROCESSED")
                     .build();
@@ -115,7 +117,7 @@ public class FileService {
             documentFileRepository.save(documentFile);
 
             // Trigger async document processing (text extraction + AI summarization)
-            triggerDocumentProcessing(newFile.getId(), newFile.getFilePath());
+            triggerDocumentProcessing(newFile);
 
             return mapToResponse(newFile, documentFile);
 
@@ -126,31 +128,15 @@ public class FileService {
     }
 
     /**
-     * Trigger document processing in Python backend.
-     * Extracts text and generates AI summary asynchronously.
+     * Trigger document processing (in-JVM text extraction, then AI summarization in Python).
+     * The job is enqueued in the upload transaction, so it exists exactly when the file does.
      *
-     * @param fileId   the file ID
-     * @param filePath the file path
+     * @param file the stored document
      */
-    private void triggerDocumentProcessing(UUID fileId, String filePath) {
-        CompletableFuture.runAsync(() -> {
-            try {
-                String pythonUrl = pythonBackendUrl + "/api/ai/documents/process";
-
-                Map<String, Object> request = new HashMap<>();
-                request.put("file_id", fileId.toString());
-                request.put("file_path", filePath);
-
-                log.info("Calling Python document processing API: fileId={}", fileId);
-                restTemplate.postForObject(pythonUrl, request, Map.class);
-                log.info("Document processing started successfully: fileId={}", fileId);
-
-            } catch (Exception e) {
-                log.error("Failed to trigger document processing: fileId={}, error={}",
-                        fileId, e.getMessage());
-                // Don't fail the upload - document processing is optional
-            }
-        });
+    private void triggerDocumentProcessing(File file) {
+        jobQueueService.enqueue(DocumentExtractionService.JOB_TYPE, file.getUser().getId(),
+                DocumentExtractionService.payload(file.getId(), file.getFilePath(),
+                        file.getMimeType(), file.getOriginalFilename()));
     }
 
     /**
@@ -166,45 +152,74 @@ public class FileService {
         log.info("Uploading video: user={}, filename={}", user.getUsername(), file.getOriginalFilename());
 
         try {
-            // Detect MIME type
-            String mimeType = tika.detect(file.getInputStream());
+            // Store file (deduplicated against the blob store when content-addressed mode is on)
+            FileStorageService.StoredFile stored = fileBlobService.store(file);
 
-            // Store file
-            String filePath = fileStorageService.storeFile(file);
-            String storedFilename = filePath.substring(filePath.lastIndexOf("/") + 1);
+            return createVideoFile(stored, file.getOriginalFilename(),
+                    request.getSourceLanguage(), request.getTargetLanguage(), user);
 
-            // Create file entity
-            File newFile = File.builder()
-                    .user(user)
-                    .fileType(FileType.VIDEO)
-                    .originalFilename(file.getOriginalFilename())
-                    .storedFilename(storedFilename)
-                    .filePath(filePath)
-                    .fileSize(file.getSize())
-                    .mimeType(mimeType)
-                    .uploadDate(LocalDateTime.now())
-                    .status("PROCESSED")
-                    .build();
+        } catch (Exception ex) {
+            log.error("Failed to upload video", ex);
+            throw new ServiceException("Failed to upload video", ex);
+        }
+    }
 
-            newFile = fileRepository.save(newFile);
+    /**
+     * Create the file and video metadata rows for video content that is already stored.
+     * Shared by single-request uploads and committed chunked upload sessions.
+     *
+     * @param stored           stored content
+     * @param originalFilename client filename
+     * @param sourceLanguage   source language (STT)
+     * @param targetLanguage   target language (translation)
+     * @param user             owner
+     * @return FileResponse
+     */
+    @Transactional
+    public FileResponse createVideoFile(FileStorageService.StoredFile stored, String originalFilename,
+                                        String sourceLanguage, String targetLanguage, User user) {
+        // Create file entity
+        File newFile = File.builder()
+                .user(user)
+                .fileType(FileType.VIDEO)
+                .originalFilename(originalFilename)
+                .storedFilename(stored.storedFilename())
+                .filePath(stored.path())
+                .fileSize(stored.size())
+                .mimeType(stored.mimeType())
+                .blobSha256(stored.contentAddressed() ? stored.sha256() : null)
+                .uploadDate(LocalDateTime.now())
+                .status("PROCESSED")
+                .build();
 
-            // Create video-specific metadata
-            VideoFile videoFile = VideoFile.builder()
-                    .file(newFile)
-                    .sourceLanguage(request.getSourceLanguage())
-                    .targetLanguage(request.getTargetLanguage())
-                    .sttStatus("pending")
-                    .translationStatus("pending")
-                    .build();
+        newFile = fileRepository.save(newFile);
 
-            videoFileRepository.save(videoFile);
+        // Create video-specific metadata
+        VideoFile videoFile = VideoFile.builder()
+                .file(newFile)
+                .sourceLanguage(sourceLanguage)
+                .targetLanguage(targetLanguage)
+                .sttStatus("pending")
+                .translationStatus("pending")
+                .build();
 
-            return mapToVideoResponse(newFile, videoFile);
+        videoFileRepository.save(videoFile);
 
-        } catch (Exception ex) {
-            log.error("Failed to upload video", ex);
-            throw new ServiceException("Failed to upload video", ex);
-        }
+        return mapToVideoResponse(newFile, videoFile);
+    }
+
+    /**
+     * Get a video as a list entry.
+     *
+     * @param fileId file ID
+     * @param userId owner ID
+     * @return FileResponse
+     */
+    public FileResponse getVideo(UUID fileId, UUID userId) {
+        VideoFile videoFile = videoFileRepository.findByIdWithFile(fileId)
+                .filter(video -> video.getFile().getUser().getId().equals(userId))
+                .orElseThrow(() -> new ResourceNotFoundException("Video", "id", fileId));
+        return mapToVideoResponse(videoFile.getFile(), videoFile);
     }
 
     /**
@@ -216,21 +231,42 @@ public class FileService {
      */
     public Page<FileResponse> getDocuments(UUID userId, Pageable pageable) {
         log.debug("Reading documents: userId={}", userId);
-        return fileRepository.findByUserIdAndFileType(userId, FileType.DOCUMENT, pageable)
-                .map(this::mapFileToResponse);
+        return fileRepository.findWithDetailsByUserIdAndFileType(userId, FileType.DOCUMENT, pageable)
+                .map(file -> mapFileToResponse(file, Map.of()));
     }
 
     /**
      * Get videos for a user.
      *
+     * The page is built from a fixed number of queries regardless of page size:
+     * files with video metadata (fetch join), the count, and one batched subtitle summary lookup.
+     *
      * @param userId   user ID
      * @param pageable pagination
      * @return paginated videos
      */
     public Page<FileResponse> getVideos(UUID userId, Pageable pageable) {
         log.debug("Reading videos: userId={}", userId);
-        return fileRepository.findByUserIdAndFileType(userId, FileType.VIDEO, pageable)
-                .map(this::mapFileToResponse);
+        Page<File> files = fileRepository.findWithDetailsByUserIdAndFileType(userId, FileType.VIDEO, pageable);
+        Map<UUID, VideoSubtitleRepository.SubtitleSummary> subtitleSummaries = loadSubtitleSummaries(files.getContent());
+        return files.map(file -> mapFileToResponse(file, subtitleSummaries));
+    }
+
+    /**
+     * Load subtitle summaries for a page of videos in one query.
+     */
+    private Map<UUID, VideoSubtitleRepository.SubtitleSummary> loadSubtitleSummaries(List<File> files) {
+        if (files.isEmpty()) {
+            return Map.of();
+        }
+        List<UUID> videoFileIds = files.stream().map(File::getId).toList();
+        try {
+            return videoSubtitleRepository.findSubtitleSummaries(videoFileIds).stream()
+                    .collect(Collectors.toMap(VideoSubtitleRepository.SubtitleSummary::getVideoFileId, summary -> summary));
+        } catch (Exception e) {
+            log.warn("Failed to load subtitle summaries for {} videos", videoFileIds.size(), e);
+            return Map.of();
+        }
     }
 
     /**
@@ -300,8 +336,9 @@ public class FileService {
             }
 
             // 3. Delete physical file from storage
+            // Shared blobs are released after the row is gone (bytes removed on last reference)
             String filePath = file.getFilePath();
-            if (filePath != null && !filePath.isEmpty()) {
+            if (file.getBlobSha256() == null && filePath != null && !filePath.isEmpty()) {
                 try {
                     fileStorageService.deleteFile(filePath);
                     log.debug("Deleted physical file: {}", filePath);
@@ -316,6 +353,12 @@ public class FileService {
             // 4. Delete File entity (cascades to DocumentFile/VideoFile via CascadeType.ALL)
             // Note: glossary_term_documents is handled by DB-level CASCADE
             fileRepository.delete(file);
+            videoStreamTargets.invalidate(fileId);
+
+            if (file.getBlobSha256() != null) {
+                fileRepository.flush();
+                fileBlobService.release(file.getBlobSha256());
+            }
 
             log.info("Successfully deleted file: fileId={}, filename={}",
                     fileId, file.getOriginalFilename());
@@ -362,7 +405,8 @@ public class FileService {
                 .build();
     }
 
-    private FileResponse mapFileToResponse(File file) {
+    private FileResponse mapFileToResponse(File file,
+                                           Map<UUID, VideoSubtitleRepository.SubtitleSummary> subtitleSummaries) {
         FileResponse.FileResponseBuilder builder = FileResponse.builder()
                 .id(file.getId())
                 .fileType(file.getFileType().name())
@@ -389,8 +433,8 @@ public class FileService {
             builder.duration(vf.getDurationSeconds());  // alias for durationSeconds
             builder.originalLanguage(vf.getSourceLanguage());
 
-            // Check subtitle existence and available languages
-            populateSubtitleInfo(builder, file.getId());
+            // Subtitle existence and available languages (batch-loaded for the whole page)
+            populateSubtitleInfo(builder, subtitleSummaries.get(file.getId()));
         }
 
         return builder.build();
@@ -400,51 +444,34 @@ public class FileService {
      * Populate subtitle information for video response.
      *
      * @param builder FileResponse builder
-     * @param videoFileId Video file ID
+     * @param summary subtitle summary of the video, or null if it has no subtitles
      */
-    private void populateSubtitleInfo(FileResponse.FileResponseBuilder builder, UUID videoFileId) {
-        try {
-            // Check if subtitles exist
-            boolean hasSubtitles = videoSubtitleRepository.existsByVideoFileId(videoFileId);
-            builder.hasSubtitles(hasSubtitles);
-
-            if (hasSubtitles) {
-                // Get first subtitle to determine original language
-                Optional<VideoSubtitle> firstSubtitle = videoSubtitleRepository
-                        .findFirstByVideoFileId(videoFileId);
-
-                if (firstSubtitle.isPresent()) {
-                    VideoSubtitle sub = firstSubtitle.get();
-
-                    // Set original language from subtitle if available
-                    if (sub.getOriginalLanguage() != null) {
-                        builder.originalLanguage(sub.getOriginalLanguage());
-                    }
-
-                    // Collect available languages (original + translations)
-                    List<String> availableLanguages = new ArrayList<>();
-                    availableLanguages.add(sub.getOriginalLanguage() != null
-                            ? sub.getOriginalLanguage() : "ko");
-
-                    // Add translated languages from translations map
-                    if (sub.getTranslations() != null && !sub.getTranslations().isEmpty()) {
-                        availableLanguages.addAll(sub.getTranslations().keySet());
-                    }
-
-                    builder.availableLanguages(availableLanguages);
-                }
-            } else {
-                builder.availableLanguages(new ArrayList<>());
+    private void populateSubtitleInfo(FileResponse.FileResponseBuilder builder,
+                                      VideoSubtitleRepository.SubtitleSummary summary) {
+        builder.hasSubtitles(summary != null);
+
+        if (summary != null) {
+            // Set original language from subtitle if available
+            if (summary.getOriginalLanguage() != null) {
+                builder.originalLanguage(summary.getOriginalLanguage());
             }
 
-            // Thumbnail URL (null for now, can be extended later with FFmpeg)
-            builder.thumbnailUrl(null);
+            // Collect available languages (original + translations)
+            List<String> availableLanguages = new ArrayList<>();
+            availableLanguages.add(summary.getOriginalLanguage() != null
+                    ? summary.getOriginalLanguage() : "ko");
 
-        } catch (Exception e) {
-            log.warn("Failed to populate subtitle info for video: {}", videoFileId, e);
-            builder.hasSubtitles(false);
+            if (summary.getTranslationLanguages() != null && !summary.getTranslationLanguages().isEmpty()) {
+                availableLanguages.addAll(List.of(summary.getTranslationLanguages().split(",")));
+            }
+
+            builder.availableLanguages(availableLanguages);
+        } else {
             builder.availableLanguages(new ArrayList<>());
         }
+
+        // Thumbnail URL (null for now, can be extended later with FFmpeg)
+        builder.thumbnailUrl(null);
     }
 
     private FileDetailResponse mapToDetailResponse(File file) {
@@ -506,9 +533,22 @@ public class FileService {
     // ==================== Video Streaming Methods ====================
 
     /**
-     * Video stream result containing resource and content type.
+     * Video stream result containing the resource and the validators needed for
+     * range and conditional requests.
+     *
+     * @param resource      video resource
+     * @param contentType   MIME type
+     * @param filename      original filename
+     * @param path          absolute path of the stored bytes
+     * @param contentLength size in bytes
+     * @param lastModified  last modification time of the stored bytes
+     * @param etag          strong entity tag (quoted)
      */
-    public record VideoStreamResult(Resource resource, String contentType, String filename) {}
+    public record VideoStreamResult(Resource resource, String contentType, String filename,
+                                    Path path, long contentLength, Instant lastModified, String etag) {}
+
+    private record VideoStreamTarget(UUID ownerId, String filePath, String mimeType, String filename,
+                                     String blobSha256) {}
 
     /**
      * Get video file as streamable resource.
@@ -522,38 +562,116 @@ public class FileService {
     public VideoStreamResult getVideoStreamResource(UUID videoId, UUID userId) {
         log.debug("Getting video stream resource: videoId={}, userId={}", videoId, userId);
 
-        // Find video file with file info
-        VideoFile videoFile = videoFileRepository.findByIdWithFile(videoId)
-                .orElseThrow(() -> new ResourceNotFoundException("Video", "id", videoId));
+        // Find video file with file info (cached briefly per video)
+        VideoStreamTarget target = videoStreamTargets.get(videoId, this::loadVideoStreamTarget);
 
         // Security check: verify user owns this video
-        if (!videoFile.getFile().getUser().getId().equals(userId)) {
+        if (!target.ownerId().equals(userId)) {
             log.warn("Unauthorized video stream attempt: userId={}, videoId={}", userId, videoId);
             throw new ServiceException("이 영상에 대한 접근 권한이 없습니다");
         }
 
+        return openVideoStream(videoId, target);
+    }
+
+    /**
+     * Mint a short-lived signed streaming URL for a video the user owns.
+     * Range requests against that URL skip JWT verification and principal loading.
+     *
+     * @param videoId video file ID
+     * @param userId  user ID for authorization
+     * @return relative URL and expiry
+     */
+    public StreamUrlResponse createSignedStreamUrl(UUID videoId, UUID userId) {
+        VideoStreamTarget target = videoStreamTargets.get(videoId, this::loadVideoStreamTarget);
+
+        if (!target.ownerId().equals(userId)) {
+            log.warn("Unauthorized stream URL request: userId={}, videoId={}", userId, videoId);
+            throw new ServiceException("이 영상에 대한 접근 권한이 없습니다");
+        }
+
+        String token = streamUrlSigner.sign(videoId, userId);
+        long ttlSeconds = streamUrlSigner.getTtlSeconds();
+
+        return StreamUrlResponse.builder()
+                .url("/api/videos/" + videoId + "/signed-stream?sig=" + token)
+                .expiresAt(Instant.now().plusSeconds(ttlSeconds))
+                .expiresIn(ttlSeconds)
+                .build();
+    }
+
+    /**
+     * Resolve a signed streaming URL without a principal.
+     * The video must still exist and belong to the user the URL was minted for; the lookup is cached
+     * for a minute, so a deleted video stops streaming within that time instead of at token expiry.
+     *
+     * @param videoId video file ID from the request path
+     * @param token   signed token from the URL
+     * @return VideoStreamResult for the stored file
+     * @throws ServiceException if the signature is invalid, expired, for another video or the owner changed
+     * @throws ResourceNotFoundException if the video was deleted
+     */
+    public VideoStreamResult getSignedVideoStreamResource(UUID videoId, String token) {
+        StreamUrlSigner.StreamGrant grant = streamUrlSigner.verify(token)
+                .filter(g -> g.videoId().equals(videoId))
+                .orElseThrow(() -> new ServiceException("유효하지 않거나 만료된 스트리밍 URL입니다"));
+
+        VideoStreamTarget target = videoStreamTargets.get(videoId, this::loadVideoStreamTarget);
+        if (!target.ownerId().equals(grant.userId())) {
+            log.warn("Signed stream URL no longer valid for owner: userId={}, videoId={}", grant.userId(), videoId);
+            throw new ServiceException("유효하지 않거나 만료된 스트리밍 URL입니다");
+        }
+        return openVideoStream(videoId, target);
+    }
+
+    private VideoStreamTarget loadVideoStreamTarget(UUID videoId) {
+        VideoFile videoFile = videoFileRepository.findByIdWithFile(videoId)
+                .orElseThrow(() -> new ResourceNotFoundException("Video", "id", videoId));
+
+        File file = videoFile.getFile();
+        return new VideoStreamTarget(
+                file.getUser().getId(),
+                file.getFilePath(),
+                file.getMimeType(),
+                file.getOriginalFilename(),
+                file.getBlobSha256());
+    }
+
+    private VideoStreamResult openVideoStream(UUID videoId, VideoStreamTarget target) {
         try {
             // Load video file as resource
-            String filePath = videoFile.getFile().getFilePath();
+            String filePath = target.filePath();
             Resource resource = fileStorageService.loadFileAsResource(filePath);
+            Path path = fileStorageService.getFilePath(filePath);
 
             // Determine content type
-            String contentType = videoFile.getFile().getMimeType();
+            String contentType = target.mimeType();
             if (contentType == null) {
                 try {
-                    contentType = Files.probeContentType(fileStorageService.getFilePath(filePath));
+                    contentType = Files.probeContentType(path);
                 } catch (IOException e) {
+                    contentType = null;
+                }
+                if (contentType == null) {
                     contentType = "video/mp4";
                 }
             }
 
-            String filename = videoFile.getFile().getOriginalFilename();
+            long contentLength = Files.size(path);
+            Instant lastModified = Files.getLastModifiedTime(path).toInstant();
+
+            // Strong ETag: content digest when known, otherwise size + mtime of the stored file
+            String etag = "\"" + (target.blobSha256() != null
+                    ? target.blobSha256()
+                    : Long.toHexString(contentLength) + "-" + Long.toHexString(lastModified.toEpochMilli())) + "\"";
 
             log.debug("Video stream prepared: path={}, contentType={}", filePath, contentType);
 
-            return new VideoStreamResult(resource, contentType, filename);
+            return new VideoStreamResult(resource, contentType, target.filename(),
+                    path, contentLength, lastModified, etag);
 
         } catch (ResourceNotFoundException e) {
+            videoStreamTargets.invalidate(videoId);
             throw e;
         } catch (Exception e) {
             log.error("Failed to prepare video stream: videoId={}, error={}", videoId, e.getMessage(), e);
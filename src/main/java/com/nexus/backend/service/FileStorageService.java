@@ -1,7 +1,9 @@
 package com.nexus.backend.service;
 
+import com.nexus.backend.exception.BadRequestException;
 import com.nexus.backend.exception.ResourceNotFoundException;
 import com.nexus.backend.exception.ServiceException;
+import org.apache.tika.Tika;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
@@ -9,13 +11,29 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,7 +41,42 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class FileStorageService {
 
+    /**
+     * Fixed I/O buffer size; also the number of leading bytes used for MIME sniffing.
+     */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
     private final Path uploadPath;
+    private final Tika tika = new Tika();
+
+    /**
+     * Sub-directory of the upload directory holding content-addressed blobs.
+     */
+    private static final String BLOB_FOLDER = "blobs";
+
+    /**
+     * Sub-directory of the upload directory holding chunks of open upload sessions.
+     */
+    private static final String SESSION_FOLDER = "upload-sessions";
+    private static final String CHUNK_SUFFIX = ".part";
+
+    /**
+     * Descriptor of a stored upload.
+     *
+     * @param path             path relative to the upload directory
+     * @param storedFilename   unique per-upload filename (uuid.ext)
+     * @param size             number of bytes in the content
+     * @param mimeType         MIME type sniffed from the leading bytes
+     * @param sha256           lowercase hex SHA-256 digest of the content
+     * @param contentAddressed true if {@code path} points at a shared, reference-counted blob
+     */
+    public record StoredFile(String path, String storedFilename, long size, String mimeType, String sha256,
+                             boolean contentAddressed) {}
+
+    /**
+     * Size, MIME type and digest of some content, computed without storing it.
+     */
+    public record ContentDigest(long size, String mimeType, String sha256) {}
 
     public FileStorageService(@Value("${file.upload-dir}") String uploadDir) {
         this.uploadPath = Paths.get(uploadDir).toAbsolutePath().normalize();
@@ -35,33 +88,370 @@ public class FileStorageService {
     }
 
     public String storeFile(MultipartFile file) {
-        try {
-            // Generate UUID-based filename
-            String originalFilename = file.getOriginalFilename();
-            String fileExtension = "";
-            if (originalFilename != null && originalFilename.contains(".")) {
-                fileExtension = originalFilename.substring(originalFilename.lastIndexOf("."));
+        return store(file).path();
+    }
+
+    /**
+     * Store an upload in a single streaming pass.
+     *
+     * The input stream is opened once and read through a fixed-size buffer: the first block is used
+     * for MIME sniffing, every block feeds the SHA-256 digest and is written to the final location
+     * through a {@link FileChannel}. Heap use is constant regardless of the upload size.
+     *
+     * @param file uploaded file
+     * @return descriptor with relative path, size, MIME type and digest
+     */
+    public StoredFile store(MultipartFile file) {
+        String originalFilename = file.getOriginalFilename();
+        String storedFilename = newStoredFilename(originalFilename);
+
+        String dateFolder = dateFolder();
+        Path targetLocation = this.uploadPath.resolve(dateFolder).resolve(storedFilename);
+
+        try (InputStream in = file.getInputStream()) {
+            Files.createDirectories(targetLocation.getParent());
+            try (FileChannel channel = FileChannel.open(targetLocation,
+                    StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                ContentDigest digest = streamTo(in, channel, originalFilename);
+
+                // Return relative path
+                return new StoredFile(dateFolder + "/" + storedFilename, storedFilename,
+                        digest.size(), digest.mimeType(), digest.sha256(), false);
             }
+        } catch (IOException ex) {
+            deleteQuietly(targetLocation);
+            throw new ServiceException("Could not store file. Please try again!", ex);
+        }
+    }
 
-            String storedFilename = UUID.randomUUID().toString() + fileExtension;
+    /**
+     * Compute size, MIME type and digest of an upload without writing it anywhere.
+     * Used by content-addressed storage to find duplicates before a single byte is written.
+     */
+    public ContentDigest digest(MultipartFile file) {
+        try (InputStream in = file.getInputStream()) {
+            return streamTo(in, null, file.getOriginalFilename());
+        } catch (IOException ex) {
+            throw new ServiceException("Could not read uploaded file", ex);
+        }
+    }
 
-            // Create date-based directory structure (yyyy/MM/dd)
-            LocalDate today = LocalDate.now();
-            String dateFolder = today.format(DateTimeFormatter.ofPattern("yyyy/MM/dd"));
-            Path datePath = this.uploadPath.resolve(dateFolder);
-            Files.createDirectories(datePath);
+    /**
+     * Compute size, MIME type and digest of a stored file.
+     *
+     * @param filePath path relative to the upload directory
+     */
+    public ContentDigest digest(String filePath) {
+        Path file = getFilePath(filePath);
+        try (InputStream in = Files.newInputStream(file)) {
+            return streamTo(in, null, file.getFileName().toString());
+        } catch (IOException ex) {
+            throw new ServiceException("Could not read file: " + filePath, ex);
+        }
+    }
 
-            // Store file
-            Path targetLocation = datePath.resolve(storedFilename);
-            Files.copy(file.getInputStream(), targetLocation, StandardCopyOption.REPLACE_EXISTING);
+    /**
+     * Relative path of the blob holding content with the given digest (blobs/ab/cd/abcd...).
+     */
+    public String blobPath(String sha256) {
+        return BLOB_FOLDER + "/" + sha256.substring(0, 2) + "/" + sha256.substring(2, 4) + "/" + sha256;
+    }
 
-            // Return relative path
-            return dateFolder + "/" + storedFilename;
+    /**
+     * Write an upload to a blob path.
+     * Multipart uploads already spooled to disk are moved rather than copied.
+     */
+    public void storeBlob(MultipartFile file, String blobPath) {
+        Path target = getFilePath(blobPath);
+        try {
+            Files.createDirectories(target.getParent());
+            file.transferTo(target.toFile());
         } catch (IOException ex) {
+            deleteQuietly(target);
             throw new ServiceException("Could not store file. Please try again!", ex);
         }
     }
 
+    /**
+     * Make an existing stored file available under a blob path.
+     * A hard link is used when the filesystem supports it, so no bytes are copied.
+     */
+    public void linkBlob(String sourcePath, String blobPath) {
+        Path source = getFilePath(sourcePath);
+        Path target = getFilePath(blobPath);
+        try {
+            Files.createDirectories(target.getParent());
+            if (Files.exists(target)) {
+                return;
+            }
+            try {
+                Files.createLink(target, source);
+            } catch (UnsupportedOperationException | IOException linkFailed) {
+                Files.copy(source, target);
+            }
+        } catch (IOException ex) {
+            throw new ServiceException("Could not create blob: " + blobPath, ex);
+        }
+    }
+
+    /**
+     * Move a stored file to a blob path, or drop it when the blob already exists.
+     */
+    public void moveToBlob(String sourcePath, String blobPath) {
+        Path source = getFilePath(sourcePath);
+        Path target = getFilePath(blobPath);
+        try {
+            if (Files.exists(target)) {
+                Files.deleteIfExists(source);
+                return;
+            }
+            Files.createDirectories(target.getParent());
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException ex) {
+            throw new ServiceException("Could not create blob: " + blobPath, ex);
+        }
+    }
+
+    /**
+     * Write one chunk of an upload session.
+     *
+     * The body is streamed to a temporary file and atomically renamed to {@code <index>.part}, so a chunk
+     * is either fully present or absent; re-sending a chunk simply replaces it, and chunks of the same
+     * session may be written concurrently.
+     *
+     * @param sessionId      upload session ID
+     * @param index          zero-based chunk index
+     * @param in             chunk body
+     * @param expectedLength exact number of bytes the chunk must contain
+     * @throws BadRequestException if the body is shorter or longer than expected
+     */
+    public void writeChunk(UUID sessionId, int index, InputStream in, long expectedLength) {
+        Path sessionDir = sessionDirectory(sessionId);
+        Path temp = null;
+        try {
+            Files.createDirectories(sessionDir);
+            temp = Files.createTempFile(sessionDir, index + ".", ".tmp");
+
+            long written = 0;
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE);
+                 ReadableByteChannel source = Channels.newChannel(in)) {
+                // Read at most one byte past the expected length to detect oversized bodies
+                long limit = expectedLength + 1;
+                long transferred;
+                while (written < limit
+                        && (transferred = channel.transferFrom(source, written, limit - written)) > 0) {
+                    written += transferred;
+                }
+            }
+
+            if (written != expectedLength) {
+                throw new BadRequestException("청크 크기가 올바르지 않습니다: index=" + index
+                        + ", expected=" + expectedLength + " bytes");
+            }
+
+            Files.move(temp, sessionDir.resolve(index + CHUNK_SUFFIX),
+                    StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            temp = null;
+        } catch (IOException ex) {
+            throw new ServiceException("Could not store chunk. Please try again!", ex);
+        } finally {
+            if (temp != null) {
+                deleteQuietly(temp);
+            }
+        }
+    }
+
+    /**
+     * Indexes of the chunks already received for an upload session.
+     */
+    public Set<Integer> listChunks(UUID sessionId) {
+        Set<Integer> chunks = new TreeSet<>();
+        Path sessionDir = sessionDirectory(sessionId);
+        if (!Files.isDirectory(sessionDir)) {
+            return chunks;
+        }
+
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(sessionDir, "*" + CHUNK_SUFFIX)) {
+            for (Path chunk : stream) {
+                String name = chunk.getFileName().toString();
+                try {
+                    chunks.add(Integer.parseInt(name.substring(0, name.length() - CHUNK_SUFFIX.length())));
+                } catch (NumberFormatException ignored) {
+                    // Not a chunk written by writeChunk
+                }
+            }
+        } catch (IOException ex) {
+            throw new ServiceException("Could not list chunks of upload session: " + sessionId, ex);
+        }
+        return chunks;
+    }
+
+    /**
+     * Concatenate all chunks of an upload session into a new stored file.
+     *
+     * Chunks are copied with {@link FileChannel#transferTo}, so the bytes move file-to-file inside
+     * the kernel without passing through the heap. The MIME type is sniffed from the head of chunk 0.
+     * No digest is computed; {@link StoredFile#sha256()} is {@code null}.
+     *
+     * @param sessionId        upload session ID
+     * @param totalChunks      number of chunks (all must be present)
+     * @param originalFilename client filename (extension and MIME hint)
+     * @return descriptor of the assembled file
+     */
+    public StoredFile assembleChunks(UUID sessionId, int totalChunks, String originalFilename) {
+        Path sessionDir = sessionDirectory(sessionId);
+        String storedFilename = newStoredFilename(originalFilename);
+        String dateFolder = dateFolder();
+        Path targetLocation = this.uploadPath.resolve(dateFolder).resolve(storedFilename);
+
+        try {
+            Files.createDirectories(targetLocation.getParent());
+            String mimeType = sniff(sessionDir.resolve(0 + CHUNK_SUFFIX), originalFilename);
+
+            long size = 0;
+            try (FileChannel target = FileChannel.open(targetLocation,
+                    StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                for (int i = 0; i < totalChunks; i++) {
+                    try (FileChannel chunk = FileChannel.open(sessionDir.resolve(i + CHUNK_SUFFIX), StandardOpenOption.READ)) {
+                        long length = chunk.size();
+                        long position = 0;
+                        while (position < length) {
+                            position += chunk.transferTo(position, length - position, target);
+                        }
+                        size += length;
+                    }
+                }
+                target.force(false);
+            }
+
+            return new StoredFile(dateFolder + "/" + storedFilename, storedFilename, size, mimeType, null, false);
+        } catch (IOException ex) {
+            deleteQuietly(targetLocation);
+            throw new ServiceException("Could not assemble upload. Please try again!", ex);
+        }
+    }
+
+    /**
+     * Delete all chunks of an upload session.
+     */
+    public void deleteChunks(UUID sessionId) {
+        deleteTree(sessionDirectory(sessionId));
+    }
+
+    /**
+     * IDs of all upload sessions that currently have a chunk directory.
+     */
+    public List<UUID> listChunkSessions() {
+        List<UUID> sessionIds = new ArrayList<>();
+        Path root = this.uploadPath.resolve(SESSION_FOLDER);
+        if (!Files.isDirectory(root)) {
+            return sessionIds;
+        }
+
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(root, Files::isDirectory)) {
+            for (Path dir : stream) {
+                try {
+                    sessionIds.add(UUID.fromString(dir.getFileName().toString()));
+                } catch (IllegalArgumentException ignored) {
+                    // Not a session directory
+                }
+            }
+        } catch (IOException ex) {
+            throw new ServiceException("Could not list upload sessions", ex);
+        }
+        return sessionIds;
+    }
+
+    public boolean exists(String filePath) {
+        return Files.exists(getFilePath(filePath));
+    }
+
+    /**
+     * Generate a unique UUID-based filename keeping the original extension.
+     */
+    public String newStoredFilename(String originalFilename) {
+        String fileExtension = "";
+        if (originalFilename != null && originalFilename.contains(".")) {
+            fileExtension = originalFilename.substring(originalFilename.lastIndexOf("."));
+        }
+        return UUID.randomUUID().toString() + fileExtension;
+    }
+
+    /**
+     * Read a stream through a fixed-size buffer, sniffing the MIME type and hashing the content,
+     * and write it to {@code channel} when one is given.
+     */
+    private ContentDigest streamTo(InputStream in, FileChannel channel, String originalFilename) throws IOException {
+        MessageDigest digest = newSha256();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        ByteBuffer byteBuffer = ByteBuffer.wrap(buffer);
+        long size = 0;
+
+        // First block: fill as much as possible so the sniffer sees a full header
+        int read = in.readNBytes(buffer, 0, buffer.length);
+        byte[] prefix = new byte[read];
+        System.arraycopy(buffer, 0, prefix, 0, read);
+        String mimeType = tika.detect(prefix, originalFilename);
+
+        while (read > 0) {
+            digest.update(buffer, 0, read);
+            if (channel != null) {
+                byteBuffer.clear().limit(read);
+                while (byteBuffer.hasRemaining()) {
+                    channel.write(byteBuffer);
+                }
+            }
+            size += read;
+            read = in.read(buffer);
+        }
+
+        return new ContentDigest(size, mimeType, HexFormat.of().formatHex(digest.digest()));
+    }
+
+    private String sniff(Path file, String originalFilename) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return tika.detect(in.readNBytes(BUFFER_SIZE), originalFilename);
+        }
+    }
+
+    private Path sessionDirectory(UUID sessionId) {
+        return this.uploadPath.resolve(SESSION_FOLDER).resolve(sessionId.toString());
+    }
+
+    /**
+     * Date-based directory for new uploads (yyyy/MM/dd).
+     */
+    private static String dateFolder() {
+        return LocalDate.now().format(DateTimeFormatter.ofPattern("yyyy/MM/dd"));
+    }
+
+    private static void deleteTree(Path root) {
+        if (!Files.exists(root)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(root)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(FileStorageService::deleteQuietly);
+        } catch (IOException ex) {
+            throw new ServiceException("Could not delete directory: " + root, ex);
+        }
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            // Best effort cleanup of a partially written file
+        }
+    }
+
     public Resource loadFileAsResource(String filePath) {
         try {
             Path file = this.uploadPath.resolve(filePath).normalize();
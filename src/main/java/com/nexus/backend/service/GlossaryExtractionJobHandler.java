@@ -0,0 +1,170 @@
+package com.nexus.backend.service;
+
+import com.nexus.backend.dto.request.PythonExtractionRequest;
+import com.nexus.backend.entity.BackgroundJob;
+import com.nexus.backend.entity.File;
+import com.nexus.backend.entity.GlossaryExtractionJob;
+import com.nexus.backend.repository.GlossaryExtractionJobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Hands a glossary extraction job to the Python extractor.
+ *
+ * The job stays PENDING until Python picks it up (Python sets PROCESSING / COMPLETED itself),
+ * so a retried attempt for a job Python already accepted is skipped. Failed attempts are recorded
+ * on the extraction job; it is marked FAILED only once the queue gives up.
+ *
+ * How the document reaches Python is set by {@code python.glossary.transfer-mode}:
+ * - multipart (default): the file is streamed from disk to {@code python.glossary.upload-uri}
+ *   ({@code /api/ai/glossary/extract/upload}), heap use independent of file size
+ * - base64: fallback for extractors without the upload endpoint, the whole file Base64-encoded in
+ *   {@code file_content} (~4x the file size in heap)
+ * - reference: only {@code file_path} is sent; needs a Python extractor that reads the shared upload storage
+ */
+@Component
+@Slf4j
+public class GlossaryExtractionJobHandler implements JobHandler {
+
+    public static final String JOB_TYPE = "GLOSSARY_EXTRACTION";
+
+    enum TransferMode {
+        REFERENCE, MULTIPART, BASE64
+    }
+
+    private final GlossaryExtractionJobRepository extractionJobRepository;
+    private final FileStorageService fileStorageService;
+    private final TransactionTemplate transactionTemplate;
+    private final PythonBackendClient pythonBackendClient;
+    private final GlossaryExtractionProgressService extractionProgressService;
+    private final TransferMode transferMode;
+    private final String uploadUri;
+
+    public GlossaryExtractionJobHandler(
+            GlossaryExtractionJobRepository extractionJobRepository,
+            FileStorageService fileStorageService,
+            TransactionTemplate transactionTemplate,
+            PythonBackendClient pythonBackendClient,
+            GlossaryExtractionProgressService extractionProgressService,
+            @Value("${python.glossary.transfer-mode:multipart}") String transferMode,
+            @Value("${python.glossary.upload-uri:/api/ai/glossary/extract/upload}") String uploadUri) {
+        this.extractionJobRepository = extractionJobRepository;
+        this.fileStorageService = fileStorageService;
+        this.transactionTemplate = transactionTemplate;
+        this.pythonBackendClient = pythonBackendClient;
+        this.extractionProgressService = extractionProgressService;
+        this.transferMode = TransferMode.valueOf(transferMode.trim().toUpperCase(Locale.ROOT));
+        this.uploadUri = uploadUri.trim();
+        if (this.transferMode == TransferMode.MULTIPART && this.uploadUri.isEmpty()) {
+            throw new IllegalStateException(
+                    "python.glossary.transfer-mode=multipart requires python.glossary.upload-uri");
+        }
+    }
+
+    @Override
+    public String jobType() {
+        return JOB_TYPE;
+    }
+
+    @Override
+    public void handle(BackgroundJob job) throws Exception {
+        UUID extractionJobId = job.getPayloadUuid("extractionJobId");
+
+        PythonExtractionRequest request = transactionTemplate.execute(status ->
+                extractionJobRepository.findById(extractionJobId)
+                        .filter(extractionJob -> "PENDING".equals(extractionJob.getStatus()))
+                        .map(this::toRequest)
+                        .orElse(null));
+
+        if (request == null) {
+            log.info("Extraction job no longer pending, skipping: {}", extractionJobId);
+            return;
+        }
+
+        Path filePath = fileStorageService.getFilePath(request.getFilePath());
+        String uri = "/api/ai/glossary/extract";
+
+        switch (transferMode) {
+            case MULTIPART -> {
+                // FileSystemResource is copied to the (unbuffered) request stream in small blocks
+                HttpHeaders jsonHeaders = new HttpHeaders();
+                jsonHeaders.setContentType(MediaType.APPLICATION_JSON);
+
+                MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
+                body.add("request", new HttpEntity<>(request, jsonHeaders));
+                body.add("file", new FileSystemResource(filePath));
+
+                HttpHeaders headers = new HttpHeaders();
+                headers.setContentType(MediaType.MULTIPART_FORM_DATA);
+
+                log.info("Calling Python API (multipart, {} bytes): {}", Files.size(filePath), uploadUri);
+                pythonBackendClient.post(PythonBackendClient.Lane.STANDARD, uploadUri, new HttpEntity<>(body, headers), Void.class);
+            }
+            case REFERENCE -> {
+                if (!Files.isReadable(filePath)) {
+                    throw new IOException("File not found in storage: " + request.getFilePath());
+                }
+                log.info("Calling Python API (file reference): {}", uri);
+                pythonBackendClient.post(PythonBackendClient.Lane.STANDARD, uri, request, Void.class);
+            }
+            default -> {
+                // 파일 내용을 읽어서 Base64로 인코딩
+                byte[] fileBytes = Files.readAllBytes(filePath);
+                request.setFileContent(Base64.getEncoder().encodeToString(fileBytes));
+                log.info("Calling Python API (base64, {} bytes): {}", fileBytes.length, uri);
+                pythonBackendClient.post(PythonBackendClient.Lane.STANDARD, uri, request, Void.class);
+            }
+        }
+        log.info("Python API called successfully: jobId={}", extractionJobId);
+    }
+
+    @Override
+    public void onFailure(BackgroundJob job, Exception error, boolean willRetry) {
+        UUID extractionJobId = job.getPayloadUuid("extractionJobId");
+
+        if (!willRetry) {
+            // Written immediately and pushed to the owner like any other final state
+            extractionProgressService.report(extractionJobId, "FAILED", null, null, error.getMessage());
+            return;
+        }
+
+        transactionTemplate.executeWithoutResult(status ->
+                extractionJobRepository.findById(extractionJobId)
+                        .filter(extractionJob -> "PENDING".equals(extractionJob.getStatus()))
+                        .ifPresent(extractionJob -> extractionJob.setErrorMessage(error.getMessage())));
+    }
+
+    private PythonExtractionRequest toRequest(GlossaryExtractionJob extractionJob) {
+        File file = extractionJob.getFile();
+
+        // Get first project if file has projects
+        UUID projectId = null;
+        if (file.getProjects() != null && !file.getProjects().isEmpty()) {
+            projectId = file.getProjects().get(0).getId();
+        }
+
+        return PythonExtractionRequest.builder()
+                .jobId(extractionJob.getId())
+                .fileId(file.getId())
+                .filePath(file.getFilePath())
+                .fileName(file.getOriginalFilename())
+                .userId(extractionJob.getUser().getId())
+                .projectId(projectId)
+                .build();
+    }
+}
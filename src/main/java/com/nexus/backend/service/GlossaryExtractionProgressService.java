@@ -0,0 +1,227 @@
+package com.nexus.backend.service;
+
+import com.nexus.backend.dto.response.ExtractionJobResponse;
+import com.nexus.backend.entity.GlossaryExtractionJob;
+import com.nexus.backend.exception.ResourceNotFoundException;
+import com.nexus.backend.repository.GlossaryExtractionJobRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Live progress of glossary extraction jobs reported by the Python extractor.
+ *
+ * Every report is pushed right away to the owner over STOMP ({@code /user/queue/glossary/extraction}),
+ * but only coalesced into memory: dirty jobs are written to {@code glossary_extraction_jobs} at most
+ * once per {@code glossary.extraction.progress.flush-interval-ms}. COMPLETED / FAILED are written
+ * immediately; a job is only forgotten once its state is written, failed writes are retried by the
+ * next flush. Status polling reads the in-memory state first, so polling clients cost no DB reads
+ * while a job is running on this node.
+ *
+ * Metrics: {@code glossary.extraction.progress.reports} vs {@code glossary.extraction.progress.writes}.
+ */
+@Service
+@Slf4j
+public class GlossaryExtractionProgressService {
+
+    public static final String DESTINATION = "/queue/glossary/extraction";
+
+    private static final Set<String> FINISHED = Set.of("COMPLETED", "FAILED");
+
+    private final GlossaryExtractionJobRepository extractionJobRepository;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final GlossaryTermDetectionService detectionService;
+    private final long staleAfterMs;
+    private final Counter reports;
+    private final Counter writes;
+
+    private final Map<UUID, TrackedJob> trackedJobs = new ConcurrentHashMap<>();
+
+    public GlossaryExtractionProgressService(
+            GlossaryExtractionJobRepository extractionJobRepository,
+            SimpMessagingTemplate messagingTemplate,
+            TransactionTemplate transactionTemplate,
+            GlossaryTermDetectionService detectionService,
+            MeterRegistry meterRegistry,
+            @Value("${glossary.extraction.progress.stale-after-ms:600000}") long staleAfterMs) {
+        this.extractionJobRepository = extractionJobRepository;
+        this.messagingTemplate = messagingTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.detectionService = detectionService;
+        this.staleAfterMs = staleAfterMs;
+        this.reports = meterRegistry.counter("glossary.extraction.progress.reports");
+        this.writes = meterRegistry.counter("glossary.extraction.progress.writes");
+    }
+
+    /**
+     * Record a progress report and push it to the job owner.
+     *
+     * @param jobId          extraction job ID
+     * @param status         PROCESSING, COMPLETED or FAILED (null = unchanged)
+     * @param progress       0-100 (null = unchanged, never moves backwards)
+     * @param termsExtracted terms saved so far (null = unchanged)
+     * @param errorMessage   failure reason (null = unchanged)
+     * @return the job state after the report
+     */
+    public ExtractionJobResponse report(UUID jobId, String status, Integer progress, Integer termsExtracted,
+                                        String errorMessage) {
+        reports.increment();
+
+        TrackedJob tracked = trackedJobs.get(jobId);
+        if (tracked == null) {
+            TrackedJob loaded = load(jobId);
+            if (FINISHED.contains(loaded.state.getStatus())) {
+                // Late report for a finished job: nothing to do, and nothing to keep in memory
+                return loaded.state;
+            }
+            tracked = Optional.ofNullable(trackedJobs.putIfAbsent(jobId, loaded)).orElse(loaded);
+        }
+
+        ExtractionJobResponse snapshot;
+        synchronized (tracked) {
+            ExtractionJobResponse state = tracked.state;
+            if (FINISHED.contains(state.getStatus())) {
+                return copy(state);
+            }
+            if (status != null) {
+                state.setStatus(status);
+                if (state.getStartedAt() == null) {
+                    state.setStartedAt(LocalDateTime.now());
+                }
+            }
+            if (progress != null) {
+                state.setProgress(Math.max(state.getProgress() != null ? state.getProgress() : 0, progress));
+            }
+            if (termsExtracted != null) {
+                state.setTermsExtracted(termsExtracted);
+            }
+            if (errorMessage != null) {
+                state.setErrorMessage(errorMessage);
+            }
+            if (FINISHED.contains(state.getStatus())) {
+                state.setCompletedAt(LocalDateTime.now());
+                if ("COMPLETED".equals(state.getStatus())) {
+                    state.setProgress(100);
+                }
+            }
+            tracked.dirty = true;
+            tracked.lastReportAt = System.currentTimeMillis();
+            snapshot = copy(state);
+        }
+
+        messagingTemplate.convertAndSendToUser(tracked.userId.toString(), DESTINATION, snapshot);
+
+        if (FINISHED.contains(snapshot.getStatus())) {
+            if (write(jobId, tracked)) {
+                trackedJobs.remove(jobId, tracked);
+            }
+            if ("COMPLETED".equals(snapshot.getStatus())) {
+                detectionService.invalidateUser(tracked.userId);  // extracted terms are written by Python
+            }
+            log.info("Extraction job finished: jobId={}, status={}, termsExtracted={}",
+                    jobId, snapshot.getStatus(), snapshot.getTermsExtracted());
+        }
+        return snapshot;
+    }
+
+    /**
+     * Current state of a job running on this node, without touching the database.
+     */
+    public Optional<ExtractionJobResponse> snapshot(UUID jobId) {
+        TrackedJob tracked = trackedJobs.get(jobId);
+        if (tracked == null) {
+            return Optional.empty();
+        }
+        synchronized (tracked) {
+            return Optional.of(copy(tracked.state));
+        }
+    }
+
+    /**
+     * Write coalesced progress and forget finished jobs and jobs that stopped reporting, once written.
+     */
+    @Scheduled(fixedDelayString = "${glossary.extraction.progress.flush-interval-ms:2000}")
+    public void flush() {
+        long staleBefore = System.currentTimeMillis() - staleAfterMs;
+        trackedJobs.forEach((jobId, tracked) -> {
+            if (!write(jobId, tracked)) {
+                return;  // kept dirty, retried next time
+            }
+            boolean finished;
+            synchronized (tracked) {
+                finished = FINISHED.contains(tracked.state.getStatus());
+            }
+            if (finished || tracked.lastReportAt < staleBefore) {
+                trackedJobs.remove(jobId, tracked);
+            }
+        });
+    }
+
+    /**
+     * @return true if the job's state is in the database (written now or nothing pending)
+     */
+    private boolean write(UUID jobId, TrackedJob tracked) {
+        ExtractionJobResponse state;
+        synchronized (tracked) {
+            if (!tracked.dirty) {
+                return true;
+            }
+            tracked.dirty = false;
+            state = copy(tracked.state);
+        }
+
+        try {
+            transactionTemplate.execute(status -> extractionJobRepository.updateProgress(
+                    jobId,
+                    state.getStatus(),
+                    state.getProgress() != null ? state.getProgress() : 0,
+                    state.getTermsExtracted() != null ? state.getTermsExtracted() : 0,
+                    state.getErrorMessage()));
+            writes.increment();
+            return true;
+        } catch (Exception e) {
+            synchronized (tracked) {
+                tracked.dirty = true;
+            }
+            log.warn("Failed to write extraction progress: jobId={}, error={}", jobId, e.getMessage());
+            return false;
+        }
+    }
+
+    private TrackedJob load(UUID jobId) {
+        return transactionTemplate.execute(status -> {
+            GlossaryExtractionJob job = extractionJobRepository.findById(jobId)
+                    .orElseThrow(() -> new ResourceNotFoundException("ExtractionJob", "id", jobId));
+            return new TrackedJob(job.getUser().getId(), ExtractionJobResponse.from(job));
+        });
+    }
+
+    private static ExtractionJobResponse copy(ExtractionJobResponse state) {
+        return state.toBuilder().build();
+    }
+
+    private static final class TrackedJob {
+        private final UUID userId;
+        private final ExtractionJobResponse state;
+        private boolean dirty;
+        private long lastReportAt = System.currentTimeMillis();
+
+        private TrackedJob(UUID userId, ExtractionJobResponse state) {
+            this.userId = userId;
+            this.state = state;
+        }
+    }
+}
@@ -1,19 +1,26 @@
 package com.nexus.backend.service;
 
 import com.nexus.backend.dto.request.GlossaryTermRequest;
-import com.nexus.backend.dto.request.PythonExtractionRequest;
+import com.nexus.backend.dto.response.CursorPageResponse;
 import com.nexus.backend.dto.response.ExtractionJobResponse;
+import com.nexus.backend.dto.response.GlossaryBulkResponse;
 import com.nexus.backend.dto.response.GlossaryStatisticsResponse;
 import com.nexus.backend.dto.response.GlossaryTermResponse;
 import com.nexus.backend.entity.File;
 import com.nexus.backend.entity.GlossaryExtractionJob;
 import com.nexus.backend.entity.GlossaryTerm;
+import com.nexus.backend.entity.GlossaryUserTermCount;
+import com.nexus.backend.entity.Project;
 import com.nexus.backend.entity.User;
+import com.nexus.backend.exception.BadRequestException;
 import com.nexus.backend.exception.ConflictException;
 import com.nexus.backend.exception.ResourceNotFoundException;
 import com.nexus.backend.repository.FileRepository;
 import com.nexus.backend.repository.GlossaryExtractionJobRepository;
+import com.nexus.backend.repository.GlossaryTermKeysetRepository;
 import com.nexus.backend.repository.GlossaryTermRepository;
+import com.nexus.backend.repository.GlossaryUserTermCountRepository;
+import com.nexus.backend.repository.ProjectRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -21,15 +28,15 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
 
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.util.Base64;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
@@ -42,11 +49,19 @@ public class GlossaryService {
     private final GlossaryTermRepository glossaryTermRepository;
     private final GlossaryExtractionJobRepository extractionJobRepository;
     private final FileRepository fileRepository;
-    private final FileStorageService fileStorageService;
-    private final RestTemplate restTemplate;
+    private final JobQueueService jobQueueService;
+    private final GlossaryExtractionProgressService extractionProgressService;
+    private final GlossaryUserTermCountRepository userTermCountRepository;
+    private final GlossaryTermDetectionService detectionService;
+    private final ProjectRepository projectRepository;
 
-    @Value("${python.backend.url:http://localhost:8000}")
-    private String pythonBackendUrl;
+    // Bulk operations bind one parameter per id (PostgreSQL allows 32767 per statement)
+    private static final int MAX_BULK_TERMS = 10000;
+
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
+    @Value("${glossary.statistics.counters-enabled:true}")
+    private boolean statisticsCountersEnabled;
 
     @Transactional
     public ExtractionJobResponse startExtraction(UUID fileId, User user) {
@@ -81,59 +96,21 @@ public class GlossaryService {
         job = extractionJobRepository.save(job);
         log.info("Created extraction job: {}", job.getId());
 
-        // Call Python API asynchronously
-        final GlossaryExtractionJob savedJob = job;
-        final File fileEntity = file;
-        CompletableFuture.runAsync(() -> {
-            try {
-                String pythonUrl = pythonBackendUrl + "/api/ai/glossary/extract";
-
-                // Get first project if file has projects
-                UUID projectId = null;
-                if (fileEntity.getProjects() != null && !fileEntity.getProjects().isEmpty()) {
-                    projectId = fileEntity.getProjects().get(0).getId();
-                }
-
-                // 파일 내용을 읽어서 Base64로 인코딩
-                String fileContent = null;
-                try {
-                    Path filePath = fileStorageService.getFilePath(fileEntity.getFilePath());
-                    byte[] fileBytes = Files.readAllBytes(filePath);
-                    fileContent = Base64.getEncoder().encodeToString(fileBytes);
-                    log.info("파일 읽기 완료: {} bytes", fileBytes.length);
-                } catch (IOException e) {
-                    log.error("파일 읽기 실패: {}", fileEntity.getFilePath(), e);
-                    throw new RuntimeException("용어 추출을 위한 파일 읽기 실패", e);
-                }
-
-                PythonExtractionRequest request = PythonExtractionRequest.builder()
-                        .jobId(savedJob.getId())
-                        .fileId(fileId)
-                        .filePath(fileEntity.getFilePath())
-                        .fileContent(fileContent)
-                        .fileName(fileEntity.getOriginalFilename())
-                        .userId(user.getId())
-                        .projectId(projectId)
-                        .build();
-
-                log.info("Calling Python API: {}", pythonUrl);
-                restTemplate.postForObject(pythonUrl, request, Void.class);
-                log.info("Python API called successfully");
-
-            } catch (Exception e) {
-                log.error("Failed to call Python API", e);
-                // Update job status to FAILED
-                savedJob.setStatus("FAILED");
-                savedJob.setErrorMessage(e.getMessage());
-                extractionJobRepository.save(savedJob);
-            }
-        });
+        // Hand off to the Python extractor via the job queue (enqueued in this transaction)
+        jobQueueService.enqueue(GlossaryExtractionJobHandler.JOB_TYPE, user.getId(),
+                Map.of("extractionJobId", job.getId().toString()));
 
         return ExtractionJobResponse.from(job);
     }
 
     @Transactional(readOnly = true)
     public ExtractionJobResponse getExtractionStatus(UUID jobId) {
+        // Running jobs are served from the live progress state (pushed over WebSocket as well)
+        Optional<ExtractionJobResponse> live = extractionProgressService.snapshot(jobId);
+        if (live.isPresent()) {
+            return live.get();
+        }
+
         GlossaryExtractionJob job = extractionJobRepository.findById(jobId)
                 .orElseThrow(() -> new ResourceNotFoundException("ExtractionJob", "id", jobId));
 
@@ -149,7 +126,10 @@ public class GlossaryService {
 
     @Transactional(readOnly = true)
     public Page<GlossaryTermResponse> searchAllTerms(User user, String query, Pageable pageable) {
-        return glossaryTermRepository.searchByUserIdAndQuery(user.getId(), query, pageable)
+        String normalized = normalizeSearchQuery(query);
+        Pageable nativePageable = convertToNativePageable(pageable);
+        return glossaryTermRepository.searchByUserIdAndQuery(
+                        user.getId(), normalized, toLikePattern(normalized), nativePageable)
                 .map(GlossaryTermResponse::from);
     }
 
@@ -166,7 +146,9 @@ public class GlossaryService {
     @Transactional(readOnly = true)
     public Page<GlossaryTermResponse> searchTermsByProject(UUID projectId, String query, Pageable pageable) {
         Pageable nativePageable = convertToNativePageable(pageable);
-        return glossaryTermRepository.searchTermsByProjectFiles(projectId, query, nativePageable)
+        String normalized = normalizeSearchQuery(query);
+        return glossaryTermRepository.searchTermsByProjectFiles(
+                        projectId, normalized, toLikePattern(normalized), nativePageable)
                 .map(GlossaryTermResponse::from);
     }
 
@@ -182,10 +164,119 @@ public class GlossaryService {
     @Transactional(readOnly = true)
     public Page<GlossaryTermResponse> searchTermsByDocument(UUID documentId, String query, Pageable pageable) {
         Pageable nativePageable = convertToNativePageable(pageable);
-        return glossaryTermRepository.searchBySourceFileIdAndQuery(documentId, query, nativePageable)
+        String normalized = normalizeSearchQuery(query);
+        return glossaryTermRepository.searchBySourceFileIdAndQuery(
+                        documentId, normalized, toLikePattern(normalized), nativePageable)
                 .map(GlossaryTermResponse::from);
     }
 
+    /**
+     * Total count options for cursor paging
+     */
+    public enum CountMode {
+        /** Don't count */
+        NONE,
+        /** COUNT(*) over the listing */
+        EXACT,
+        /** Counters row for user listings, planner estimate otherwise */
+        ESTIMATED
+    }
+
+    /**
+     * Keyset-paged listing of the user's terms, or of a project's / document's terms.
+     * Without a cursor the first page is returned in the requested sort; with a cursor the listing
+     * continues in the cursor's own sort (sort / direction are ignored). The total is only
+     * computed for the first page.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<GlossaryTermResponse> findTermsByCursor(
+            User user, UUID projectId, UUID documentId,
+            String cursor, int size, String sort, String direction, CountMode countMode) {
+        GlossaryTermKeysetRepository.Scope scope;
+        UUID scopeId;
+        if (documentId != null) {
+            if (!fileRepository.existsByIdAndUserId(documentId, user.getId())) {
+                throw new ResourceNotFoundException("File", "id", documentId);
+            }
+            scope = GlossaryTermKeysetRepository.Scope.DOCUMENT;
+            scopeId = documentId;
+        } else if (projectId != null) {
+            if (!projectRepository.existsByIdAndUserId(projectId, user.getId())) {
+                throw new ResourceNotFoundException("Project", "id", projectId);
+            }
+            scope = GlossaryTermKeysetRepository.Scope.PROJECT;
+            scopeId = projectId;
+        } else {
+            scope = GlossaryTermKeysetRepository.Scope.USER;
+            scopeId = user.getId();
+        }
+
+        GlossaryTermCursor after = cursor != null && !cursor.isBlank() ? GlossaryTermCursor.decode(cursor) : null;
+        GlossaryTermKeysetRepository.SortKey sortKey = after != null ? after.sortKey() : toSortKey(sort);
+        boolean ascending = after != null ? after.ascending() : "asc".equalsIgnoreCase(direction);
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+
+        // One extra row tells whether there is a next page
+        List<GlossaryTerm> rows = glossaryTermRepository.findKeysetPage(scope, scopeId, sortKey, ascending,
+                after != null ? after.sortValue() : null, after != null ? after.id() : null, pageSize + 1);
+        boolean hasNext = rows.size() > pageSize;
+        List<GlossaryTerm> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        Long total = null;
+        Boolean totalExact = null;
+        if (after == null && countMode != CountMode.NONE) {
+            if (countMode == CountMode.EXACT) {
+                total = glossaryTermRepository.countInScope(scope, scopeId);
+                totalExact = true;
+            } else if (scope == GlossaryTermKeysetRepository.Scope.USER && statisticsCountersEnabled) {
+                total = userTermCountRepository.findById(user.getId())
+                        .map(GlossaryUserTermCount::getTotalTerms)
+                        .orElse(0L);
+                totalExact = true;
+            } else {
+                total = glossaryTermRepository.estimateCountInScope(scope, scopeId);
+                totalExact = false;
+            }
+        }
+
+        return CursorPageResponse.<GlossaryTermResponse>builder()
+                .content(page.stream().map(GlossaryTermResponse::from).collect(Collectors.toList()))
+                .size(pageSize)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? GlossaryTermCursor.after(page.get(page.size() - 1), sortKey, ascending).encode() : null)
+                .totalElements(total)
+                .totalExact(totalExact)
+                .build();
+    }
+
+    private static GlossaryTermKeysetRepository.SortKey toSortKey(String sort) {
+        for (GlossaryTermKeysetRepository.SortKey key : GlossaryTermKeysetRepository.SortKey.values()) {
+            if (key.property().equals(sort)) {
+                return key;
+            }
+        }
+        throw new BadRequestException("Unsupported sort: " + sort + " (createdAt, updatedAt or koreanTerm)");
+    }
+
+    /**
+     * Search queries are ranked by relevance first; the requested sort only breaks ties.
+     * Input is matched against lower-cased columns, so normalize it the same way.
+     */
+    private String normalizeSearchQuery(String query) {
+        return query == null ? "" : query.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Build a '%query%' LIKE pattern with the LIKE metacharacters escaped.
+     */
+    private String toLikePattern(String normalizedQuery) {
+        String escaped = normalizedQuery
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+
     /**
      * Convert Pageable with camelCase property names to snake_case column names for native queries.
      * e.g., "createdAt" -> "created_at"
@@ -248,6 +339,7 @@ public class GlossaryService {
                 .build();
 
         term = glossaryTermRepository.save(term);
+        detectionService.invalidateUser(user.getId());
         log.info("Created glossary term: {}", term.getId());
 
         return GlossaryTermResponse.from(term);
@@ -270,6 +362,7 @@ public class GlossaryService {
         term.setStatus("USER_EDITED");
 
         term = glossaryTermRepository.save(term);
+        detectionService.invalidateUser(user.getId());
         log.info("Updated glossary term: {}", term.getId());
 
         return GlossaryTermResponse.from(term);
@@ -281,25 +374,83 @@ public class GlossaryService {
                 .orElseThrow(() -> new ResourceNotFoundException("GlossaryTerm", "id", termId));
 
         glossaryTermRepository.delete(term);
+        detectionService.invalidateUser(user.getId());
         log.info("Deleted glossary term: {}", termId);
     }
 
+    /**
+     * Delete terms in one statement. Rows linked to the terms (documents, translations) go with the
+     * FK cascades, and the statistics counters with the statement trigger (V43).
+     */
+    @Transactional
+    public GlossaryBulkResponse deleteTerms(Collection<UUID> termIds, User user) {
+        Set<UUID> ids = toBulkIds(termIds);
+        int affected = glossaryTermRepository.deleteByIdInAndUserId(ids, user.getId());
+        return bulkResult("delete", ids, affected, user);
+    }
+
+    @Transactional
+    public GlossaryBulkResponse verifyTerms(Collection<UUID> termIds, User user) {
+        Set<UUID> ids = toBulkIds(termIds);
+        int affected = glossaryTermRepository.updateVerifiedByIdInAndUserId(ids, user.getId(), true);
+        return bulkResult("verify", ids, affected, user);
+    }
+
+    @Transactional
+    public GlossaryBulkResponse unverifyTerms(Collection<UUID> termIds, User user) {
+        Set<UUID> ids = toBulkIds(termIds);
+        int affected = glossaryTermRepository.updateVerifiedByIdInAndUserId(ids, user.getId(), false);
+        return bulkResult("unverify", ids, affected, user);
+    }
+
+    @Transactional
+    public GlossaryBulkResponse updateTermsDomain(Collection<UUID> termIds, String domain, User user) {
+        Set<UUID> ids = toBulkIds(termIds);
+        String newDomain = domain != null && !domain.isBlank() ? domain.trim() : null;
+        int affected = glossaryTermRepository.updateDomainByIdInAndUserId(ids, user.getId(), newDomain);
+        return bulkResult("set domain", ids, affected, user);
+    }
+
     @Transactional
-    public void deleteTerms(java.util.List<UUID> termIds, User user) {
-        log.info("Deleting {} terms for user: {}", termIds.size(), user.getId());
-
-        for (UUID termId : termIds) {
-            try {
-                GlossaryTerm term = glossaryTermRepository.findByIdAndUserId(termId, user.getId())
-                        .orElseThrow(() -> new ResourceNotFoundException("GlossaryTerm", "id", termId));
-                glossaryTermRepository.delete(term);
-            } catch (Exception e) {
-                log.error("Failed to delete term {}: {}", termId, e.getMessage());
-                // Continue with other deletions
+    public GlossaryBulkResponse updateTermsProject(Collection<UUID> termIds, UUID projectId, User user) {
+        Set<UUID> ids = toBulkIds(termIds);
+        Project project = null;
+        if (projectId != null) {
+            if (!projectRepository.existsByIdAndUserId(projectId, user.getId())) {
+                throw new ResourceNotFoundException("Project", "id", projectId);
             }
+            project = projectRepository.getReferenceById(projectId);
+        }
+        int affected = glossaryTermRepository.updateProjectByIdInAndUserId(ids, user.getId(), project);
+        return bulkResult("set project", ids, affected, user);
+    }
+
+    private static Set<UUID> toBulkIds(Collection<UUID> termIds) {
+        if (termIds == null || termIds.isEmpty()) {
+            throw new BadRequestException("Term IDs are required");
+        }
+        Set<UUID> ids = new LinkedHashSet<>(termIds);
+        ids.remove(null);
+        if (ids.isEmpty()) {
+            throw new BadRequestException("Term IDs are required");
+        }
+        if (ids.size() > MAX_BULK_TERMS) {
+            throw new BadRequestException("At most " + MAX_BULK_TERMS + " terms per request");
         }
+        return ids;
+    }
 
-        log.info("Completed batch deletion of glossary terms");
+    private GlossaryBulkResponse bulkResult(String action, Set<UUID> ids, int affected, User user) {
+        if (affected > 0) {
+            detectionService.invalidateUser(user.getId());
+        }
+        log.info("Bulk {} of glossary terms for user {}: requested={}, affected={}",
+                action, user.getId(), ids.size(), affected);
+        return GlossaryBulkResponse.builder()
+                .requested(ids.size())
+                .affected(affected)
+                .notFound(ids.size() - affected)
+                .build();
     }
 
     @Transactional
@@ -330,41 +481,45 @@ public class GlossaryService {
         return GlossaryTermResponse.from(term);
     }
 
+    /**
+     * Project statistics are one aggregate pass over the project's linked terms.
+     * User statistics are read from the trigger-maintained counters row (O(1)),
+     * or aggregated when counters are disabled.
+     */
+    @Transactional(readOnly = true)
     public GlossaryStatisticsResponse getStatistics(User user, UUID projectId) {
-        long totalTerms;
-        long verifiedTerms;
-        long unverifiedTerms;
-        long autoExtractedTerms;
-        long userAddedTerms;
-        long userEditedTerms;
+        GlossaryStatisticsResponse statistics;
 
         if (projectId != null) {
-            // Project-level statistics (use project files approach)
-            totalTerms = glossaryTermRepository.countTermsByProjectFiles(projectId);
-            verifiedTerms = glossaryTermRepository.countTermsByProjectFilesAndIsVerified(projectId, true);
-            unverifiedTerms = glossaryTermRepository.countTermsByProjectFilesAndIsVerified(projectId, false);
-            autoExtractedTerms = glossaryTermRepository.countTermsByProjectFilesAndStatus(projectId, "AUTO_EXTRACTED");
-            userAddedTerms = glossaryTermRepository.countTermsByProjectFilesAndStatus(projectId, "USER_ADDED");
-            userEditedTerms = glossaryTermRepository.countTermsByProjectFilesAndStatus(projectId, "USER_EDITED");
+            statistics = toStatisticsResponse(glossaryTermRepository.getStatisticsByProjectFiles(projectId));
+        } else if (statisticsCountersEnabled) {
+            statistics = userTermCountRepository.findById(user.getId())
+                    .map(counts -> GlossaryStatisticsResponse.builder()
+                            .totalTerms(counts.getTotalTerms())
+                            .verifiedTerms(counts.getVerifiedTerms())
+                            .unverifiedTerms(counts.getUnverifiedTerms())
+                            .autoExtractedTerms(counts.getAutoExtractedTerms())
+                            .userAddedTerms(counts.getUserAddedTerms())
+                            .userEditedTerms(counts.getUserEditedTerms())
+                            .build())
+                    .orElseGet(() -> toStatisticsResponse(glossaryTermRepository.getStatisticsByUserId(user.getId())));
         } else {
-            // User-level statistics
-            totalTerms = glossaryTermRepository.countByUserId(user.getId());
-            verifiedTerms = glossaryTermRepository.countByUserIdAndIsVerified(user.getId(), true);
-            unverifiedTerms = glossaryTermRepository.countByUserIdAndIsVerified(user.getId(), false);
-            autoExtractedTerms = glossaryTermRepository.countByUserIdAndStatus(user.getId(), "AUTO_EXTRACTED");
-            userAddedTerms = glossaryTermRepository.countByUserIdAndStatus(user.getId(), "USER_ADDED");
-            userEditedTerms = glossaryTermRepository.countByUserIdAndStatus(user.getId(), "USER_EDITED");
+            statistics = toStatisticsResponse(glossaryTermRepository.getStatisticsByUserId(user.getId()));
         }
 
         log.info("Retrieved glossary statistics for user: {} (projectId: {})", user.getId(), projectId);
 
+        return statistics;
+    }
+
+    private GlossaryStatisticsResponse toStatisticsResponse(GlossaryTermRepository.GlossaryStatistics statistics) {
         return GlossaryStatisticsResponse.builder()
-                .totalTerms(totalTerms)
-                .verifiedTerms(verifiedTerms)
-                .unverifiedTerms(unverifiedTerms)
-                .autoExtractedTerms(autoExtractedTerms)
-                .userAddedTerms(userAddedTerms)
-                .userEditedTerms(userEditedTerms)
+                .totalTerms(statistics.getTotalTerms())
+                .verifiedTerms(statistics.getVerifiedTerms())
+                .unverifiedTerms(statistics.getUnverifiedTerms())
+                .autoExtractedTerms(statistics.getAutoExtractedTerms())
+                .userAddedTerms(statistics.getUserAddedTerms())
+                .userEditedTerms(statistics.getUserEditedTerms())
                 .build();
     }
 }
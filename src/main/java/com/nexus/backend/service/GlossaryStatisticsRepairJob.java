@@ -0,0 +1,83 @@
+package com.nexus.backend.service;
+
+import com.nexus.backend.repository.GlossaryUserTermCountRepository;
+import com.nexus.backend.repository.ScheduledTaskRunRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Periodic consistency repair of the trigger-maintained glossary counters (glossary_user_term_counts).
+ *
+ * - runs once per interval across the cluster: every node wakes up on the schedule, but only the node
+ *   whose claim advances the task's last_run_at row (scheduled_task_runs) repairs, the others skip
+ * - one aggregate pass finds users whose counters differ from glossary_terms (or have no row)
+ * - each drifted user is recomputed in its own transaction, holding the counters row lock,
+ *   so deltas of concurrent writes are applied after the recompute instead of being overwritten
+ *
+ * The counters row is also what concurrent writers of one user's glossary wait on: each statement's trigger
+ * updates it and keeps the row lock until that transaction commits. Writes of different users never contend,
+ * and bulk imports commit every batch, so the wait is bounded by one batch.
+ */
+@Component
+@Slf4j
+public class GlossaryStatisticsRepairJob {
+
+    static final String TASK_NAME = "glossary-statistics-repair";
+
+    private final GlossaryUserTermCountRepository userTermCountRepository;
+    private final ScheduledTaskRunRepository scheduledTaskRunRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long repairIntervalMs;
+
+    public GlossaryStatisticsRepairJob(
+            GlossaryUserTermCountRepository userTermCountRepository,
+            ScheduledTaskRunRepository scheduledTaskRunRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${glossary.statistics.repair-interval-ms:3600000}") long repairIntervalMs) {
+        this.userTermCountRepository = userTermCountRepository;
+        this.scheduledTaskRunRepository = scheduledTaskRunRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.repairIntervalMs = repairIntervalMs;
+    }
+
+    @Scheduled(initialDelayString = "${glossary.statistics.repair-interval-ms:3600000}",
+               fixedDelayString = "${glossary.statistics.repair-interval-ms:3600000}")
+    public void repair() {
+        // The claim commits on its own, so no connection or lock is held for the length of the pass
+        List<String> claimed = transactionTemplate.execute(status ->
+                scheduledTaskRunRepository.claim(TASK_NAME, repairIntervalMs));
+        if (claimed == null || claimed.isEmpty()) {
+            log.debug("Glossary counter repair already ran this interval, skipping");
+            return;
+        }
+        repairDrifted();
+    }
+
+    private void repairDrifted() {
+        List<UUID> driftedUserIds = userTermCountRepository.findDriftedUserIds();
+
+        int repaired = 0;
+        for (UUID userId : driftedUserIds) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    userTermCountRepository.lockByUserId(userId);
+                    userTermCountRepository.recompute(userId);
+                });
+                repaired++;
+            } catch (Exception e) {
+                log.warn("Failed to repair glossary counters (continuing): userId={}, error={}", userId, e.getMessage());
+            }
+        }
+
+        if (!driftedUserIds.isEmpty()) {
+            log.info("Glossary counter repair: drifted={}, repaired={}", driftedUserIds.size(), repaired);
+        }
+    }
+}
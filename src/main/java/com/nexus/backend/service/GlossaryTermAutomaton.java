@@ -0,0 +1,225 @@
+package com.nexus.backend.service;
+
+import java.util.Arrays;
+
+/**
+ * Immutable Aho-Corasick automaton over a set of glossary patterns.
+ *
+ * - matching is case-insensitive ({@link #normalize} lower-cases per char, the scanner does the same)
+ * - patterns starting / ending with a Latin letter or digit only match on word boundaries ("API" not in "rapid");
+ *   Hangul and CJK edges match anywhere, since Korean particles attach directly to nouns ("데이터베이스를")
+ * - the trie is built breadth-first from the sorted patterns, so every state's transitions are one sorted
+ *   slice of flat arrays (binary search per char) and failure links are resolved while building
+ * - {@link #scan} reports matches through a primitive callback: scanning allocates nothing
+ */
+public final class GlossaryTermAutomaton {
+
+    /**
+     * Receives every match as (pattern index, start, end) with end exclusive.
+     */
+    @FunctionalInterface
+    public interface MatchHandler {
+        void onMatch(int patternIndex, int start, int end);
+    }
+
+    private static final int ROOT = 0;
+
+    private final int[] edgeStart;       // transitions of state s: [edgeStart[s], edgeStart[s + 1])
+    private final char[] edgeChars;
+    private final int[] edgeTargets;
+    private final int[] fail;
+    private final int[] output;          // pattern ending in this state, or -1
+    private final int[] outputLink;      // nearest state on the failure chain with an output, or -1
+    private final int[] patternLengths;
+    private final boolean[] boundedStart;
+    private final boolean[] boundedEnd;
+
+    private GlossaryTermAutomaton(int[] edgeStart, char[] edgeChars, int[] edgeTargets, int[] fail,
+                                  int[] output, int[] outputLink, int[] patternLengths,
+                                  boolean[] boundedStart, boolean[] boundedEnd) {
+        this.edgeStart = edgeStart;
+        this.edgeChars = edgeChars;
+        this.edgeTargets = edgeTargets;
+        this.fail = fail;
+        this.output = output;
+        this.outputLink = outputLink;
+        this.patternLengths = patternLengths;
+        this.boundedStart = boundedStart;
+        this.boundedEnd = boundedEnd;
+    }
+
+    /**
+     * Normalize a pattern the way the scanner normalizes text.
+     */
+    public static String normalize(String value) {
+        String trimmed = value.trim();
+        char[] chars = new char[trimmed.length()];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(trimmed.charAt(i));
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Compile an automaton.
+     *
+     * @param patterns distinct, non-empty patterns produced by {@link #normalize}, sorted with {@link Arrays#sort}
+     *                 (pattern indices in matches refer to this array)
+     */
+    public static GlossaryTermAutomaton compile(String[] patterns) {
+        int patternCount = patterns.length;
+        int[] patternLengths = new int[patternCount];
+        boolean[] boundedStart = new boolean[patternCount];
+        boolean[] boundedEnd = new boolean[patternCount];
+        int totalChars = 0;
+        for (int p = 0; p < patternCount; p++) {
+            String pattern = patterns[p];
+            patternLengths[p] = pattern.length();
+            boundedStart[p] = isWordChar(pattern.charAt(0));
+            boundedEnd[p] = isWordChar(pattern.charAt(pattern.length() - 1));
+            totalChars += pattern.length();
+        }
+
+        // Upper bound on states / edges: one per pattern char, plus the root
+        int capacity = totalChars + 1;
+        int[] rangeLo = new int[capacity];
+        int[] rangeHi = new int[capacity];
+        int[] depth = new int[capacity];
+        int[] edgeStart = new int[capacity + 1];
+        char[] edgeChars = new char[totalChars];
+        int[] edgeTargets = new int[totalChars];
+        int[] fail = new int[capacity];
+        int[] output = new int[capacity];
+        int[] outputLink = new int[capacity];
+
+        rangeLo[ROOT] = 0;
+        rangeHi[ROOT] = patternCount;
+        fail[ROOT] = ROOT;
+        outputLink[ROOT] = -1;
+        int stateCount = 1;
+        int edgeCount = 0;
+
+        // States are created and processed in BFS order, so each state's edges are contiguous and
+        // every state on a failure chain already has its edges when a deeper state needs them.
+        for (int state = 0; state < stateCount; state++) {
+            int lo = rangeLo[state];
+            int hi = rangeHi[state];
+            int d = depth[state];
+
+            output[state] = -1;
+            if (lo < hi && patterns[lo].length() == d) {
+                output[state] = lo;  // the prefix itself sorts first; patterns are distinct
+                lo++;
+            }
+            if (state != ROOT) {
+                int f = fail[state];
+                outputLink[state] = output[f] >= 0 ? f : outputLink[f];
+            }
+
+            edgeStart[state] = edgeCount;
+            while (lo < hi) {
+                char c = patterns[lo].charAt(d);
+                int end = lo + 1;
+                while (end < hi && patterns[end].charAt(d) == c) {
+                    end++;
+                }
+
+                int child = stateCount++;
+                rangeLo[child] = lo;
+                rangeHi[child] = end;
+                depth[child] = d + 1;
+                fail[child] = state == ROOT ? ROOT : failTarget(fail[state], c, edgeStart, edgeChars, edgeTargets, fail);
+
+                edgeChars[edgeCount] = c;
+                edgeTargets[edgeCount] = child;
+                edgeCount++;
+                lo = end;
+            }
+        }
+        edgeStart[stateCount] = edgeCount;
+
+        return new GlossaryTermAutomaton(
+                Arrays.copyOf(edgeStart, stateCount + 1),
+                Arrays.copyOf(edgeChars, edgeCount),
+                Arrays.copyOf(edgeTargets, edgeCount),
+                Arrays.copyOf(fail, stateCount),
+                Arrays.copyOf(output, stateCount),
+                Arrays.copyOf(outputLink, stateCount),
+                patternLengths, boundedStart, boundedEnd);
+    }
+
+    /**
+     * Scan text and report every pattern occurrence (overlapping matches included), in order of end offset.
+     */
+    public void scan(CharSequence text, MatchHandler handler) {
+        int state = ROOT;
+        for (int i = 0, n = text.length(); i < n; i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+
+            int next = transition(state, c, edgeStart, edgeChars, edgeTargets);
+            while (next < 0 && state != ROOT) {
+                state = fail[state];
+                next = transition(state, c, edgeStart, edgeChars, edgeTargets);
+            }
+            state = next < 0 ? ROOT : next;
+
+            int end = i + 1;
+            for (int s = output[state] >= 0 ? state : outputLink[state]; s >= 0; s = outputLink[s]) {
+                int pattern = output[s];
+                int start = end - patternLengths[pattern];
+                if (boundedStart[pattern] && start > 0 && isWordChar(text.charAt(start - 1))) {
+                    continue;
+                }
+                if (boundedEnd[pattern] && end < n && isWordChar(text.charAt(end))) {
+                    continue;
+                }
+                handler.onMatch(pattern, start, end);
+            }
+        }
+    }
+
+    public int patternCount() {
+        return patternLengths.length;
+    }
+
+    public int stateCount() {
+        return fail.length;
+    }
+
+    private static int failTarget(int state, char c, int[] edgeStart, char[] edgeChars, int[] edgeTargets, int[] fail) {
+        while (true) {
+            int next = transition(state, c, edgeStart, edgeChars, edgeTargets);
+            if (next >= 0) {
+                return next;
+            }
+            if (state == ROOT) {
+                return ROOT;
+            }
+            state = fail[state];
+        }
+    }
+
+    private static int transition(int state, char c, int[] edgeStart, char[] edgeChars, int[] edgeTargets) {
+        int lo = edgeStart[state];
+        int hi = edgeStart[state + 1] - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            char midChar = edgeChars[mid];
+            if (midChar < c) {
+                lo = mid + 1;
+            } else if (midChar > c) {
+                hi = mid - 1;
+            } else {
+                return edgeTargets[mid];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Latin-range letters and digits form words; Hangul, kana and CJK (U+3000 and up) never need boundaries.
+     */
+    private static boolean isWordChar(char c) {
+        return c < 0x3000 && Character.isLetterOrDigit(c);
+    }
+}
@@ -0,0 +1,60 @@
+package com.nexus.backend.service;
+
+import com.nexus.backend.entity.GlossaryTerm;
+import com.nexus.backend.exception.BadRequestException;
+import com.nexus.backend.repository.GlossaryTermKeysetRepository.SortKey;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque position in a keyset-paged glossary listing: the sort of the listing plus the
+ * (sort value, id) of the last row returned. Encoded as URL-safe Base64 of "SORT|DIR|id|value".
+ */
+record GlossaryTermCursor(SortKey sortKey, boolean ascending, UUID id, String value) {
+
+    static GlossaryTermCursor after(GlossaryTerm term, SortKey sortKey, boolean ascending) {
+        String value = switch (sortKey) {
+            case CREATED_AT -> term.getCreatedAt().toString();
+            case UPDATED_AT -> term.getUpdatedAt().toString();
+            case KOREAN_TERM -> term.getKoreanTerm();
+        };
+        return new GlossaryTermCursor(sortKey, ascending, term.getId(), value);
+    }
+
+    static GlossaryTermCursor decode(String encoded) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\|", 4);  // the value may itself contain '|'
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("malformed cursor");
+            }
+            return new GlossaryTermCursor(
+                    SortKey.valueOf(parts[0]), "ASC".equals(parts[1]), UUID.fromString(parts[2]), parts[3]);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+
+    String encode() {
+        String raw = sortKey.name() + "|" + (ascending ? "ASC" : "DESC") + "|" + id + "|" + value;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * The sort value typed for binding (timestamps as LocalDateTime).
+     */
+    Object sortValue() {
+        if (sortKey == SortKey.KOREAN_TERM) {
+            return value;
+        }
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,329 @@
+package com.nexus.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nexus.backend.dto.response.DetectedTermResponse;
+import com.nexus.backend.exception.BadRequestException;
+import com.nexus.backend.exception.ResourceNotFoundException;
+import com.nexus.backend.repository.GlossaryTermRepository;
+import com.nexus.backend.repository.ProjectRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Detects which glossary terms appear in a text.
+ *
+ * A user's glossary (or a project's, through its linked files) is compiled into a {@link GlossaryTermAutomaton}
+ * over every language column plus the abbreviation. Compiled glossaries are cached per scope, weighted by
+ * pattern count, and dropped when terms change: {@link #invalidateUser} is called by term and project writes on
+ * this node, and the TTL bounds staleness for writes made elsewhere (other nodes, the Python extractor).
+ * A project glossary is only compiled after the project's ownership is checked, so a cached entry also stands
+ * for that check.
+ * Overlapping matches are resolved leftmost-longest, so "데이터베이스" wins over "데이터".
+ * Metrics: {@code cache.*} meters with {@code cache=glossary.detector}.
+ */
+@Service
+@Slf4j
+public class GlossaryTermDetectionService {
+
+    private static final String CACHE_NAME = "glossary.detector";
+
+    // Shorter patterns (single letters / syllables) would match nearly everywhere
+    private static final int MIN_PATTERN_LENGTH = 2;
+
+    // Match sort key layout: start (23 bits) | 255 - length (8 bits) | pattern index (32 bits)
+    // Occurrence sort key layout: term index (32 bits) | start (23 bits) | length (8 bits)
+    private static final int MAX_PATTERN_LENGTH = 255;
+    private static final int MAX_TEXT_LENGTH = 1 << 23;
+
+    private final GlossaryTermRepository glossaryTermRepository;
+    private final ProjectRepository projectRepository;
+    private final Cache<Scope, CompiledGlossary> cache;
+    private final long maxBatchCharacters;
+
+    public GlossaryTermDetectionService(
+            GlossaryTermRepository glossaryTermRepository,
+            ProjectRepository projectRepository,
+            MeterRegistry meterRegistry,
+            @Value("${glossary.detector.max-patterns:5000000}") long maxPatterns,
+            @Value("${glossary.detector.ttl-seconds:600}") long ttlSeconds,
+            @Value("${glossary.detector.max-batch-characters:2000000}") long maxBatchCharacters) {
+        this.glossaryTermRepository = glossaryTermRepository;
+        this.projectRepository = projectRepository;
+        this.maxBatchCharacters = maxBatchCharacters;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxPatterns)
+                .weigher((Scope scope, CompiledGlossary glossary) -> Math.max(1, glossary.automaton().patternCount()))
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        log.info("Glossary detector cache initialized: maxPatterns={}, ttlSeconds={}", maxPatterns, ttlSeconds);
+    }
+
+    /**
+     * Detect glossary terms in one text.
+     *
+     * @param userId    owner of the glossary
+     * @param projectId restrict to the project's glossary (null = all of the user's terms)
+     * @param text      text to scan
+     * @return detected terms in order of first occurrence
+     */
+    public List<DetectedTermResponse> detect(UUID userId, UUID projectId, String text) {
+        return detect(compiled(userId, projectId), text);
+    }
+
+    /**
+     * Detect glossary terms in several texts with the same compiled glossary.
+     *
+     * @return one result list per input text, in input order
+     * @throws BadRequestException if the texts together exceed {@code glossary.detector.max-batch-characters}
+     */
+    public List<List<DetectedTermResponse>> detectBatch(UUID userId, UUID projectId, List<String> texts) {
+        long totalCharacters = 0;
+        for (String text : texts) {
+            totalCharacters += text.length();
+        }
+        if (totalCharacters > maxBatchCharacters) {
+            throw new BadRequestException("Texts exceed " + maxBatchCharacters + " characters in total");
+        }
+
+        CompiledGlossary glossary = compiled(userId, projectId);
+        List<List<DetectedTermResponse>> results = new ArrayList<>(texts.size());
+        for (String text : texts) {
+            results.add(detect(glossary, text));
+        }
+        return results;
+    }
+
+    /**
+     * Drop every compiled glossary of a user (user-wide and per project).
+     * When called inside a transaction the entries are dropped again after commit,
+     * so a concurrent detection cannot re-cache the pre-commit terms.
+     */
+    public void invalidateUser(UUID userId) {
+        evictUser(userId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictUser(userId);
+                }
+            });
+        }
+    }
+
+    private void evictUser(UUID userId) {
+        cache.asMap().keySet().removeIf(scope -> scope.userId().equals(userId));
+    }
+
+    private CompiledGlossary compiled(UUID userId, UUID projectId) {
+        return cache.get(new Scope(userId, projectId), this::compile);
+    }
+
+    private CompiledGlossary compile(Scope scope) {
+        // Checked on cache miss only: the entry is dropped with the user's other glossaries
+        if (scope.projectId() != null && !projectRepository.existsByIdAndUserId(scope.projectId(), scope.userId())) {
+            throw new ResourceNotFoundException("Project", "id", scope.projectId());
+        }
+
+        long startedAt = System.nanoTime();
+
+        List<GlossaryTermRepository.DetectableTerm> terms = scope.projectId() != null
+                ? glossaryTermRepository.findDetectableTermsByProjectFiles(scope.projectId())
+                : glossaryTermRepository.findDetectableTermsByUserId(scope.userId());
+
+        // pattern -> term indices (usually one; the same name may appear in several terms)
+        Map<String, int[]> termsByPattern = new HashMap<>();
+        for (int termIndex = 0; termIndex < terms.size(); termIndex++) {
+            GlossaryTermRepository.DetectableTerm term = terms.get(termIndex);
+            addPattern(termsByPattern, term.getKoreanTerm(), termIndex);
+            addPattern(termsByPattern, term.getEnglishTerm(), termIndex);
+            addPattern(termsByPattern, term.getVietnameseTerm(), termIndex);
+            addPattern(termsByPattern, term.getJapaneseTerm(), termIndex);
+            addPattern(termsByPattern, term.getChineseTerm(), termIndex);
+            addPattern(termsByPattern, term.getAbbreviation(), termIndex);
+        }
+
+        String[] patterns = termsByPattern.keySet().toArray(new String[0]);
+        Arrays.sort(patterns);
+
+        int[] patternTermStart = new int[patterns.length + 1];
+        int totalLinks = 0;
+        for (int p = 0; p < patterns.length; p++) {
+            patternTermStart[p] = totalLinks;
+            totalLinks += termsByPattern.get(patterns[p]).length;
+        }
+        patternTermStart[patterns.length] = totalLinks;
+
+        int[] patternTerms = new int[totalLinks];
+        for (int p = 0; p < patterns.length; p++) {
+            int[] termIndices = termsByPattern.get(patterns[p]);
+            System.arraycopy(termIndices, 0, patternTerms, patternTermStart[p], termIndices.length);
+        }
+
+        GlossaryTermAutomaton automaton = GlossaryTermAutomaton.compile(patterns);
+        log.info("Compiled glossary detector: userId={}, projectId={}, terms={}, patterns={}, states={}, tookMs={}",
+                scope.userId(), scope.projectId(), terms.size(), patterns.length, automaton.stateCount(),
+                (System.nanoTime() - startedAt) / 1_000_000);
+
+        // Copy out of the projection proxies: compiled glossaries are long-lived
+        TermNames[] termNames = terms.stream()
+                .map(term -> new TermNames(term.getId(), term.getKoreanTerm(), term.getEnglishTerm(),
+                        term.getVietnameseTerm(), term.getJapaneseTerm(), term.getChineseTerm(), term.getAbbreviation()))
+                .toArray(TermNames[]::new);
+
+        return new CompiledGlossary(automaton, termNames, patternTermStart, patternTerms);
+    }
+
+    private static void addPattern(Map<String, int[]> termsByPattern, String name, int termIndex) {
+        if (name == null) {
+            return;
+        }
+        String pattern = GlossaryTermAutomaton.normalize(name);
+        if (pattern.length() < MIN_PATTERN_LENGTH || pattern.length() > MAX_PATTERN_LENGTH) {
+            return;
+        }
+        termsByPattern.merge(pattern, new int[]{termIndex}, (existing, added) ->
+                existing[existing.length - 1] == termIndex ? existing : appendInt(existing, termIndex));
+    }
+
+    private static int[] appendInt(int[] values, int value) {
+        int[] grown = Arrays.copyOf(values, values.length + 1);
+        grown[values.length] = value;
+        return grown;
+    }
+
+    private List<DetectedTermResponse> detect(CompiledGlossary glossary, String text) {
+        if (text == null || text.isEmpty() || glossary.automaton().patternCount() == 0) {
+            return List.of();
+        }
+        if (text.length() > MAX_TEXT_LENGTH) {
+            throw new BadRequestException("Text too long for term detection: " + text.length());
+        }
+
+        // Raw matches as sortable keys: by start, then longest first
+        MatchBuffer matches = new MatchBuffer();
+        glossary.automaton().scan(text, (pattern, start, end) -> matches.add(
+                ((long) start << 40) | ((long) (MAX_PATTERN_LENGTH - (end - start)) << 32) | pattern));
+        matches.sort();
+
+        // Accepted occurrences as sortable keys: by term, then start
+        MatchBuffer occurrences = new MatchBuffer();
+        int coveredUntil = 0;
+        for (int i = 0; i < matches.size; i++) {
+            long key = matches.keys[i];
+            int start = (int) (key >>> 40);
+            if (start < coveredUntil) {
+                continue;  // overlaps a longer / earlier match
+            }
+            int length = MAX_PATTERN_LENGTH - (int) ((key >>> 32) & 0xFF);
+            int pattern = (int) key;
+            coveredUntil = start + length;
+
+            for (int link = glossary.patternTermStart()[pattern]; link < glossary.patternTermStart()[pattern + 1]; link++) {
+                occurrences.add(((long) glossary.patternTerms()[link] << 32) | ((long) start << 8) | length);
+            }
+        }
+        if (occurrences.size == 0) {
+            return List.of();
+        }
+        occurrences.sort();
+
+        // One key per distinct term, in order of first occurrence: first start (32 bits) | offset of its run
+        MatchBuffer firstOccurrences = new MatchBuffer();
+        for (int i = 0; i < occurrences.size; i++) {
+            if (i == 0 || occurrenceTerm(occurrences.keys[i]) != occurrenceTerm(occurrences.keys[i - 1])) {
+                firstOccurrences.add(((long) occurrenceStart(occurrences.keys[i]) << 32) | i);
+            }
+        }
+        firstOccurrences.sort();
+
+        List<DetectedTermResponse> detected = new ArrayList<>(firstOccurrences.size);
+        for (int t = 0; t < firstOccurrences.size; t++) {
+            int from = (int) firstOccurrences.keys[t];
+            int termIndex = occurrenceTerm(occurrences.keys[from]);
+            int to = from + 1;
+            while (to < occurrences.size && occurrenceTerm(occurrences.keys[to]) == termIndex) {
+                to++;
+            }
+
+            List<DetectedTermResponse.Span> spans = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                int start = occurrenceStart(occurrences.keys[i]);
+                spans.add(new DetectedTermResponse.Span(start, start + (int) (occurrences.keys[i] & 0xFF)));
+            }
+            detected.add(toResponse(glossary.terms()[termIndex], spans));
+        }
+        return detected;
+    }
+
+    private static int occurrenceTerm(long key) {
+        return (int) (key >>> 32);
+    }
+
+    private static int occurrenceStart(long key) {
+        return (int) ((key >>> 8) & 0xFFFFFF);
+    }
+
+    private static DetectedTermResponse toResponse(TermNames term, List<DetectedTermResponse.Span> spans) {
+        return DetectedTermResponse.builder()
+                .termId(term.id())
+                .koreanTerm(term.koreanTerm())
+                .englishTerm(term.englishTerm())
+                .vietnameseTerm(term.vietnameseTerm())
+                .japaneseTerm(term.japaneseTerm())
+                .chineseTerm(term.chineseTerm())
+                .abbreviation(term.abbreviation())
+                .count(spans.size())
+                .spans(spans)
+                .build();
+    }
+
+    private record Scope(UUID userId, UUID projectId) {
+    }
+
+    private record CompiledGlossary(GlossaryTermAutomaton automaton,
+                                    TermNames[] terms,
+                                    int[] patternTermStart,
+                                    int[] patternTerms) {
+    }
+
+    private record TermNames(UUID id, String koreanTerm, String englishTerm, String vietnameseTerm,
+                             String japaneseTerm, String chineseTerm, String abbreviation) {
+    }
+
+    /**
+     * Growable primitive buffer, so collecting matches and occurrences does not box per match.
+     */
+    private static final class MatchBuffer {
+        private long[] keys = new long[64];
+        private int size;
+
+        void add(long key) {
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+            }
+            keys[size++] = key;
+        }
+
+        void sort() {
+            Arrays.sort(keys, 0, size);
+        }
+    }
+}
@@ -0,0 +1,671 @@
+package com.nexus.backend.service;
+
+import com.nexus.backend.dto.response.GlossaryImportResponse;
+import com.nexus.backend.exception.BadRequestException;
+import com.nexus.backend.exception.ResourceNotFoundException;
+import com.nexus.backend.repository.ProjectRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.UnsupportedFileFormatException;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.UUID;
+
+/**
+ * Streaming bulk import / export of glossary terms (CSV and XLSX).
+ *
+ * Import
+ * - CSV is parsed record by record; XLSX goes through POI's SAX event model (first sheet), so memory is
+ *   bounded by one batch of rows plus the workbook's shared strings, whatever the row count
+ * - the first non-blank row is the header; columns are matched by name (see {@link Column}), in any order
+ * - rows are written in JDBC batches of {@link #BATCH_SIZE} with INSERT ... ON CONFLICT (user_id, korean_term),
+ *   one transaction per batch; a failing batch is retried row by row to report the offending rows
+ * - a file that turns unreadable after data rows were read (truncated upload, broken quoting) keeps the
+ *   batches already written: the rows read so far are still written and the error is returned as
+ *   {@code fileError} with the partial counts
+ *
+ * Export
+ * - rows are read through a server-side cursor and written straight to the response
+ *   (SXSSF keeps a small window of XLSX rows in memory)
+ */
+@Service
+@Slf4j
+public class GlossaryTransferService {
+
+    public enum Format { CSV, XLSX }
+
+    public enum ImportMode {
+        /** Update existing terms (blank cells keep the current value) */
+        UPSERT,
+        /** Leave existing terms untouched */
+        SKIP_EXISTING
+    }
+
+    /**
+     * Transfer columns. Header names match case-insensitively, ignoring spaces / underscores,
+     * against the export name, the database column and Korean labels.
+     */
+    enum Column {
+        KOREAN_TERM("koreanTerm", "korean_term", 255, "한국어", "용어"),
+        ENGLISH_TERM("englishTerm", "english_term", 255, "영어"),
+        VIETNAMESE_TERM("vietnameseTerm", "vietnamese_term", 255, "베트남어"),
+        JAPANESE_TERM("japaneseTerm", "japanese_term", 255, "일본어"),
+        CHINESE_TERM("chineseTerm", "chinese_term", 255, "중국어"),
+        ABBREVIATION("abbreviation", "abbreviation", 100, "약어"),
+        DEFINITION("definition", "definition", 0, "정의"),
+        CONTEXT("context", "context", 0, "문맥"),
+        EXAMPLE_SENTENCE("exampleSentence", "example_sentence", 0, "예문"),
+        NOTE("note", "note", 0, "메모"),
+        DOMAIN("domain", "domain", 100, "도메인", "분야"),
+        IS_VERIFIED("isVerified", "is_verified", 0, "검증"),
+        STATUS("status", "status", 0);  // export only: the source of imported rows is always USER_ADDED / USER_EDITED
+
+        final String header;
+        final String dbColumn;
+        final int maxLength;  // 0 = unbounded
+        final String[] aliases;
+
+        Column(String header, String dbColumn, int maxLength, String... aliases) {
+            this.header = header;
+            this.dbColumn = dbColumn;
+            this.maxLength = maxLength;
+            this.aliases = aliases;
+        }
+    }
+
+    private static final int BATCH_SIZE = 500;
+    private static final int MAX_REPORTED_ERRORS = 1000;
+    private static final int EXPORT_FETCH_SIZE = 1000;
+    private static final int XLSX_WINDOW_ROWS = 100;
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+
+    // Text columns bound by the import statements, in parameter order (after user_id)
+    private static final Column[] IMPORT_TEXT_COLUMNS = {
+            Column.KOREAN_TERM, Column.ENGLISH_TERM, Column.VIETNAMESE_TERM, Column.JAPANESE_TERM,
+            Column.CHINESE_TERM, Column.ABBREVIATION, Column.DEFINITION, Column.CONTEXT,
+            Column.EXAMPLE_SENTENCE, Column.NOTE, Column.DOMAIN
+    };
+
+    private static final String INSERT_SQL =
+            "INSERT INTO glossary_terms (id, user_id, korean_term, english_term, vietnamese_term, japanese_term, " +
+            "chinese_term, abbreviation, definition, context, example_sentence, note, domain, status, is_verified, " +
+            "usage_count, created_at, updated_at) " +
+            "VALUES (gen_random_uuid(), ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 'USER_ADDED', COALESCE(?, true), 0, ?, ?) ";
+
+    private static final String UPSERT_SQL = INSERT_SQL +
+            "ON CONFLICT (user_id, korean_term) DO UPDATE SET " +
+            "english_term = COALESCE(EXCLUDED.english_term, glossary_terms.english_term), " +
+            "vietnamese_term = COALESCE(EXCLUDED.vietnamese_term, glossary_terms.vietnamese_term), " +
+            "japanese_term = COALESCE(EXCLUDED.japanese_term, glossary_terms.japanese_term), " +
+            "chinese_term = COALESCE(EXCLUDED.chinese_term, glossary_terms.chinese_term), " +
+            "abbreviation = COALESCE(EXCLUDED.abbreviation, glossary_terms.abbreviation), " +
+            "definition = EXCLUDED.definition, " +
+            "context = COALESCE(EXCLUDED.context, glossary_terms.context), " +
+            "example_sentence = COALESCE(EXCLUDED.example_sentence, glossary_terms.example_sentence), " +
+            "note = COALESCE(EXCLUDED.note, glossary_terms.note), " +
+            "domain = COALESCE(EXCLUDED.domain, glossary_terms.domain), " +
+            "is_verified = COALESCE(?, glossary_terms.is_verified), " +
+            "status = 'USER_EDITED', " +
+            "updated_at = EXCLUDED.updated_at";
+
+    private static final String SKIP_EXISTING_SQL = INSERT_SQL +
+            "ON CONFLICT (user_id, korean_term) DO NOTHING";
+
+    private static final String EXPORT_COLUMNS =
+            "t.korean_term, t.english_term, t.vietnamese_term, t.japanese_term, t.chinese_term, t.abbreviation, " +
+            "t.definition, t.context, t.example_sentence, t.note, t.domain, t.is_verified, t.status";
+
+    private static final Column[] EXPORT_ORDER = {
+            Column.KOREAN_TERM, Column.ENGLISH_TERM, Column.VIETNAMESE_TERM, Column.JAPANESE_TERM,
+            Column.CHINESE_TERM, Column.ABBREVIATION, Column.DEFINITION, Column.CONTEXT,
+            Column.EXAMPLE_SENTENCE, Column.NOTE, Column.DOMAIN, Column.IS_VERIFIED, Column.STATUS
+    };
+
+    private static final Map<String, Column> COLUMNS_BY_KEY = new HashMap<>();
+
+    static {
+        for (Column column : Column.values()) {
+            if (column == Column.STATUS) {
+                continue;
+            }
+            COLUMNS_BY_KEY.put(headerKey(column.header), column);
+            COLUMNS_BY_KEY.put(headerKey(column.dbColumn), column);
+            for (String alias : column.aliases) {
+                COLUMNS_BY_KEY.put(headerKey(alias), column);
+            }
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ProjectRepository projectRepository;
+    private final GlossaryTermDetectionService detectionService;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    public GlossaryTransferService(
+            JdbcTemplate jdbcTemplate,
+            ProjectRepository projectRepository,
+            GlossaryTermDetectionService detectionService,
+            PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.projectRepository = projectRepository;
+        this.detectionService = detectionService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+    }
+
+    public static Format parseFormat(String value) {
+        try {
+            return Format.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Unsupported format: " + value + " (csv or xlsx)");
+        }
+    }
+
+    public static ImportMode parseMode(String value) {
+        try {
+            return ImportMode.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Unsupported import mode: " + value + " (upsert or skip_existing)");
+        }
+    }
+
+    /**
+     * Import terms from an uploaded CSV or XLSX file into the user's glossary.
+     *
+     * @param userId glossary owner
+     * @param file   CSV (UTF-8) or XLSX upload; format is taken from the extension
+     * @param mode   how to treat terms that already exist (same korean_term)
+     * @return row counts, per-row errors and, if reading stopped after data rows, the file-level error
+     * @throws BadRequestException if the file can't be read before any data row (nothing is written)
+     */
+    public GlossaryImportResponse importTerms(UUID userId, MultipartFile file, ImportMode mode) {
+        Format format = detectFormat(file);
+        ImportSession session = new ImportSession(userId, mode);
+        long startedAt = System.currentTimeMillis();
+
+        try {
+            if (format == Format.CSV) {
+                try (InputStream in = file.getInputStream()) {
+                    CsvRowReader reader = new CsvRowReader(in);
+                    long rowNumber = 0;
+                    List<String> record;
+                    while ((record = reader.next()) != null) {
+                        session.onRow(++rowNumber, record);
+                    }
+                }
+            } else {
+                // OPCPackage reads the zip's central directory from disk instead of buffering the upload
+                Path temp = Files.createTempFile("glossary-import-", ".xlsx");
+                try {
+                    file.transferTo(temp);
+                    readXlsx(temp, session);
+                } finally {
+                    Files.deleteIfExists(temp);
+                }
+            }
+        } catch (IOException | BadRequestException e) {
+            String message = e instanceof IOException
+                    ? "Failed to read " + format + " file: " + e.getMessage()
+                    : e.getMessage();
+            if (session.totalRows == 0) {
+                throw e instanceof BadRequestException badRequest ? badRequest : new BadRequestException(message);
+            }
+            // Earlier batches are committed: keep them and report how far the file was read
+            log.warn("Glossary import stopped after {} rows: userId={}, error={}", session.totalRows, userId, message);
+            session.fileError = message;
+        }
+
+        session.flush();
+        if (session.imported > 0) {
+            detectionService.invalidateUser(userId);
+        }
+
+        log.info("Glossary import finished: userId={}, format={}, mode={}, rows={}, imported={}, skipped={}, failed={}, tookMs={}",
+                userId, format, mode, session.totalRows, session.imported, session.skipped, session.failed,
+                System.currentTimeMillis() - startedAt);
+        return session.toResponse();
+    }
+
+    /**
+     * Check the export scope before the response is committed (errors can't be reported once streaming).
+     */
+    public void verifyExportScope(UUID userId, UUID projectId) {
+        if (projectId != null && !projectRepository.existsByIdAndUserId(projectId, userId)) {
+            throw new ResourceNotFoundException("Project", "id", projectId);
+        }
+    }
+
+    /**
+     * Stream the user's (or a project's) glossary to the output, ordered by Korean term.
+     */
+    public void exportTerms(UUID userId, UUID projectId, Format format, OutputStream out) throws IOException {
+        String sql = "SELECT " + EXPORT_COLUMNS + " FROM glossary_terms t " +
+                (projectId != null
+                        ? "WHERE EXISTS (SELECT 1 FROM glossary_term_documents gtd " +
+                          "INNER JOIN project_files pf ON gtd.file_id = pf.file_id " +
+                          "WHERE gtd.term_id = t.id AND pf.project_id = ?) "
+                        : "WHERE t.user_id = ? ") +
+                "ORDER BY t.korean_term";
+        UUID scopeId = projectId != null ? projectId : userId;
+
+        if (format == Format.CSV) {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            writer.write('\uFEFF');  // lets Excel detect UTF-8
+            writeCsvRecord(writer, Arrays.stream(EXPORT_ORDER).map(column -> column.header).toArray(String[]::new));
+            String[] values = new String[EXPORT_ORDER.length];
+            streamRows(sql, scopeId, rs -> {
+                for (int i = 0; i < EXPORT_ORDER.length; i++) {
+                    values[i] = rs.getString(i + 1);
+                }
+                writeCsvRecord(writer, values);
+            });
+            writer.flush();
+        } else {
+            SXSSFWorkbook workbook = new SXSSFWorkbook(XLSX_WINDOW_ROWS);
+            workbook.setCompressTempFiles(true);
+            try {
+                Sheet sheet = workbook.createSheet("Glossary");
+                Row header = sheet.createRow(0);
+                for (int i = 0; i < EXPORT_ORDER.length; i++) {
+                    header.createCell(i).setCellValue(EXPORT_ORDER[i].header);
+                }
+                int[] rowIndex = {1};
+                streamRows(sql, scopeId, rs -> {
+                    Row row = sheet.createRow(rowIndex[0]++);
+                    for (int i = 0; i < EXPORT_ORDER.length; i++) {
+                        if (EXPORT_ORDER[i] == Column.IS_VERIFIED) {
+                            boolean verified = rs.getBoolean(i + 1);
+                            if (!rs.wasNull()) {
+                                row.createCell(i).setCellValue(verified);
+                            }
+                            continue;
+                        }
+                        String value = rs.getString(i + 1);
+                        if (value != null) {
+                            Cell cell = row.createCell(i);
+                            cell.setCellValue(value);
+                        }
+                    }
+                });
+                workbook.write(out);
+            } finally {
+                workbook.dispose();
+                workbook.close();
+            }
+        }
+        out.flush();
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(java.sql.ResultSet rs) throws SQLException, IOException;
+    }
+
+    /**
+     * Run the export query with a server-side cursor (PostgreSQL only honours fetchSize outside autocommit).
+     */
+    private void streamRows(String sql, UUID scopeId, RowWriter rowWriter) throws IOException {
+        try {
+            readOnlyTransactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(
+                    con -> {
+                        PreparedStatement ps = con.prepareStatement(sql);
+                        ps.setFetchSize(EXPORT_FETCH_SIZE);
+                        ps.setObject(1, scopeId);
+                        return ps;
+                    },
+                    rs -> {
+                        try {
+                            rowWriter.write(rs);
+                        } catch (IOException e) {
+                            throw new ExportWriteException(e);
+                        }
+                    }));
+        } catch (ExportWriteException e) {
+            throw (IOException) e.getCause();  // client went away
+        }
+    }
+
+    private static final class ExportWriteException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        ExportWriteException(IOException cause) {
+            super(cause);
+        }
+    }
+
+    private static void writeCsvRecord(Writer writer, String[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            String value = values[i];
+            if (value == null) {
+                continue;
+            }
+            if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+                writer.write('"');
+                writer.write(value.replace("\"", "\"\""));
+                writer.write('"');
+            } else {
+                writer.write(value);
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    private void readXlsx(Path path, ImportSession session) throws IOException {
+        try (OPCPackage pkg = OPCPackage.open(path.toFile(), PackageAccess.READ)) {
+            XSSFReader xssfReader = new XSSFReader(pkg);
+            ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg);
+            XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) xssfReader.getSheetsData();
+            if (!sheets.hasNext()) {
+                throw new BadRequestException("XLSX file has no sheets");
+            }
+
+            try (InputStream sheet = sheets.next()) {
+                XMLReader parser = XMLHelper.newXMLReader();
+                parser.setContentHandler(new XSSFSheetXMLHandler(
+                        xssfReader.getStylesTable(), strings, new SheetRowCollector(session),
+                        new DataFormatter(), false));
+                parser.parse(new InputSource(sheet));
+            }
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException | UnsupportedFileFormatException e) {
+            throw new BadRequestException("Invalid XLSX file: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Turns SAX cell events into row lists (empty cells are skipped by POI, so fill the gaps by column index).
+     */
+    private static final class SheetRowCollector implements XSSFSheetXMLHandler.SheetContentsHandler {
+
+        private final ImportSession session;
+        private final List<String> cells = new ArrayList<>();
+        private int nextColumn;
+
+        private SheetRowCollector(ImportSession session) {
+            this.session = session;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            cells.clear();
+            nextColumn = 0;
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            session.onRow(rowNum + 1L, cells);
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            int column = cellReference != null ? new CellReference(cellReference).getCol() : nextColumn;
+            while (cells.size() < column) {
+                cells.add(null);
+            }
+            cells.add(formattedValue);
+            nextColumn = column + 1;
+        }
+    }
+
+    private static Format detectFormat(MultipartFile file) {
+        String filename = file.getOriginalFilename() != null ? file.getOriginalFilename().toLowerCase(Locale.ROOT) : "";
+        if (filename.endsWith(".csv")) {
+            return Format.CSV;
+        }
+        if (filename.endsWith(".xlsx")) {
+            return Format.XLSX;
+        }
+        throw new BadRequestException("Only .csv and .xlsx files can be imported");
+    }
+
+    private static String headerKey(String name) {
+        return name.toLowerCase(Locale.ROOT).replaceAll("[^\\p{L}\\p{N}]", "");
+    }
+
+    /**
+     * State of one import: header mapping, the pending batch and the counters.
+     */
+    private final class ImportSession {
+
+        private final UUID userId;
+        private final ImportMode mode;
+        private Column[] columnsByIndex;
+
+        private final List<ImportRow> batch = new ArrayList<>(BATCH_SIZE);
+        private final List<GlossaryImportResponse.RowError> errors = new ArrayList<>();
+        private long totalRows;
+        private long imported;
+        private long skipped;
+        private long failed;
+        private String fileError;
+
+        private ImportSession(UUID userId, ImportMode mode) {
+            this.userId = userId;
+            this.mode = mode;
+        }
+
+        void onRow(long rowNumber, List<String> cells) {
+            if (cells.stream().allMatch(cell -> cell == null || cell.isBlank())) {
+                return;
+            }
+            if (columnsByIndex == null) {
+                readHeader(cells);
+                return;
+            }
+
+            totalRows++;
+            String[] values = new String[Column.values().length];
+            for (int i = 0; i < cells.size() && i < columnsByIndex.length; i++) {
+                Column column = columnsByIndex[i];
+                String cell = cells.get(i);
+                if (column != null && cell != null && !cell.isBlank()) {
+                    values[column.ordinal()] = cell.trim();
+                }
+            }
+
+            String error = validate(values);
+            if (error != null) {
+                reject(rowNumber, error);
+                return;
+            }
+
+            Boolean verified = null;
+            String verifiedValue = values[Column.IS_VERIFIED.ordinal()];
+            if (verifiedValue != null) {
+                verified = parseBoolean(verifiedValue);
+                if (verified == null) {
+                    reject(rowNumber, "Invalid isVerified value: " + verifiedValue);
+                    return;
+                }
+            }
+
+            batch.add(new ImportRow(rowNumber, values, verified));
+            if (batch.size() >= BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        private void readHeader(List<String> cells) {
+            columnsByIndex = new Column[cells.size()];
+            for (int i = 0; i < cells.size(); i++) {
+                String cell = cells.get(i);
+                columnsByIndex[i] = cell != null ? COLUMNS_BY_KEY.get(headerKey(cell)) : null;
+            }
+            List<Column> mapped = Arrays.asList(columnsByIndex);
+            if (!mapped.contains(Column.KOREAN_TERM) || !mapped.contains(Column.DEFINITION)) {
+                throw new BadRequestException("Header row must contain koreanTerm and definition columns");
+            }
+        }
+
+        private String validate(String[] values) {
+            if (values[Column.KOREAN_TERM.ordinal()] == null) {
+                return "koreanTerm is required";
+            }
+            if (values[Column.DEFINITION.ordinal()] == null) {
+                return "definition is required";
+            }
+            for (Column column : IMPORT_TEXT_COLUMNS) {
+                String value = values[column.ordinal()];
+                if (column.maxLength > 0 && value != null && value.length() > column.maxLength) {
+                    return column.header + " must be at most " + column.maxLength + " characters";
+                }
+            }
+            return null;
+        }
+
+        void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            String sql = mode == ImportMode.UPSERT ? UPSERT_SQL : SKIP_EXISTING_SQL;
+            List<ImportRow> rows = List.copyOf(batch);
+            batch.clear();
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+            try {
+                int[] results = transactionTemplate.execute(status -> jdbcTemplate.batchUpdate(sql,
+                        new BatchPreparedStatementSetter() {
+                            @Override
+                            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                                bind(ps, rows.get(i), now);
+                            }
+
+                            @Override
+                            public int getBatchSize() {
+                                return rows.size();
+                            }
+                        }));
+                for (int result : results) {
+                    count(result);
+                }
+            } catch (DataAccessException e) {
+                // Isolate the failing rows; each row commits on its own
+                log.debug("Import batch failed, retrying row by row: {}", e.getMessage());
+                for (ImportRow row : rows) {
+                    try {
+                        Integer result = transactionTemplate.execute(status ->
+                                jdbcTemplate.update(sql, ps -> bind(ps, row, now)));
+                        count(result != null ? result : 0);
+                    } catch (DataAccessException rowError) {
+                        reject(row.rowNumber, NestedExceptionUtils.getMostSpecificCause(rowError).getMessage());
+                    }
+                }
+            }
+        }
+
+        /**
+         * Timestamps are bound as UTC wall-clock time like Hibernate writes them ({@code hibernate.jdbc.time_zone}),
+         * not taken from CURRENT_TIMESTAMP, which would be in the session's Asia/Seoul zone.
+         */
+        private void bind(PreparedStatement ps, ImportRow row, Timestamp now) throws SQLException {
+            int index = 1;
+            ps.setObject(index++, userId);
+            for (Column column : IMPORT_TEXT_COLUMNS) {
+                ps.setString(index++, row.values[column.ordinal()]);
+            }
+            setBoolean(ps, index++, row.verified);
+            ps.setTimestamp(index++, now, Calendar.getInstance(UTC));
+            ps.setTimestamp(index++, now, Calendar.getInstance(UTC));
+            if (mode == ImportMode.UPSERT) {
+                setBoolean(ps, index, row.verified);
+            }
+        }
+
+        private void count(int result) {
+            if (result == 0) {
+                skipped++;
+            } else if (result > 0 || result == Statement.SUCCESS_NO_INFO) {
+                imported++;
+            }
+        }
+
+        private void reject(long rowNumber, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new GlossaryImportResponse.RowError(rowNumber, message));
+            }
+        }
+
+        GlossaryImportResponse toResponse() {
+            return GlossaryImportResponse.builder()
+                    .totalRows(totalRows)
+                    .importedRows(imported)
+                    .skippedRows(skipped)
+                    .failedRows(failed)
+                    .errors(errors)
+                    .errorsTruncated(failed > errors.size())
+                    .fileError(fileError)
+                    .build();
+        }
+    }
+
+    private record ImportRow(long rowNumber, String[] values, Boolean verified) {
+    }
+
+    private static void setBoolean(PreparedStatement ps, int index, Boolean value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.BOOLEAN);
+        } else {
+            ps.setBoolean(index, value);
+        }
+    }
+
+    private static Boolean parseBoolean(String value) {
+        return switch (value.trim().toLowerCase(Locale.ROOT)) {
+            case "true", "1", "y", "yes", "o", "예", "검증" -> Boolean.TRUE;
+            case "false", "0", "n", "no", "x", "아니오", "미검증" -> Boolean.FALSE;
+            default -> null;
+        };
+    }
+}
@@ -0,0 +1,32 @@
+package com.nexus.backend.service;
+
+import com.nexus.backend.entity.BackgroundJob;
+
+/**
+ * Executes one type of {@link BackgroundJob} from the durable job queue.
+ *
+ * Handlers run on queue worker threads, outside any transaction. A job may run more than once
+ * (retries, a node dying mid-job), so {@link #handle} must be idempotent.
+ */
+public interface JobHandler {
+
+    /**
+     * Job type this handler executes (stored in {@code background_jobs.job_type}).
+     */
+    String jobType();
+
+    /**
+     * Execute the job. Throwing schedules a retry with backoff until attempts are exhausted.
+     */
+    void handle(BackgroundJob job) throws Exception;
+
+    /**
+     * Called after a failed attempt.
+     *
+     * @param job       the job
+     * @param error     failure cause
+     * @param willRetry true if the job goes back to the queue, false if it failed permanently
+     */
+    default void onFailure(BackgroundJob job, Exception error, boolean willRetry) {
+    }
+}
@@ -0,0 +1,394 @@
+package com.nexus.backend.service;
+
+import com.nexus.backend.entity.BackgroundJob;
+import com.nexus.backend.entity.BackgroundJobStatus;
+import com.nexus.backend.repository.BackgroundJobRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Durable, database-backed job queue shared by all app nodes.
+ *
+ * - {@link #enqueue} inserts a row in the caller's transaction, so a job exists if and only if the
+ *   business change that requested it committed
+ * - a dispatcher thread claims due jobs with {@code FOR UPDATE SKIP LOCKED} up to the number of free
+ *   local workers, the per-user cap and the cluster-wide cap
+ * - claimed jobs hold a lease ({@code locked_until}) that a heartbeat extends; if a node dies the
+ *   lease expires and another node picks the job up
+ * - failures are retried with exponential backoff and jitter until {@code max_attempts}
+ *
+ * Metrics: {@code jobs.queue.depth{type}}, {@code jobs.queue.wait{type}},
+ * {@code jobs.execution{type,outcome}} and {@code jobs.running}.
+ */
+@Service
+@Slf4j
+public class JobQueueService {
+
+    /**
+     * Advisory lock key serializing claims across nodes ("nexusjob").
+     */
+    private static final long CLAIM_LOCK_KEY = 0x6e657875736a6f62L;
+    private static final int MAX_ERROR_LENGTH = 4000;
+
+    private final BackgroundJobRepository backgroundJobRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, JobHandler> handlers = new HashMap<>();
+
+    private final String nodeId;
+    private final int workers;
+    private final int perUserLimit;
+    private final int globalLimit;
+    private final int defaultMaxAttempts;
+    private final long visibilitySeconds;
+    private final long pollIntervalMs;
+    private final long retryBaseDelaySeconds;
+    private final long retryMaxDelaySeconds;
+    private final Duration retention;
+
+    private final ExecutorService workerPool;
+    private final Semaphore freeWorkers;
+    private final Semaphore wakeUp = new Semaphore(0);
+    private final Set<UUID> runningJobs = ConcurrentHashMap.newKeySet();
+    private final Map<String, AtomicInteger> queueDepth = new ConcurrentHashMap<>();
+    private volatile boolean running;
+    private Thread dispatcher;
+
+    public JobQueueService(
+            BackgroundJobRepository backgroundJobRepository,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            List<JobHandler> jobHandlers,
+            @Value("${jobs.workers:4}") int workers,
+            @Value("${jobs.per-user-limit:2}") int perUserLimit,
+            @Value("${jobs.global-limit:16}") int globalLimit,
+            @Value("${jobs.max-attempts:5}") int defaultMaxAttempts,
+            @Value("${jobs.visibility-timeout-seconds:300}") long visibilitySeconds,
+            @Value("${jobs.poll-interval-ms:2000}") long pollIntervalMs,
+            @Value("${jobs.retry.base-delay-seconds:10}") long retryBaseDelaySeconds,
+            @Value("${jobs.retry.max-delay-seconds:900}") long retryMaxDelaySeconds,
+            @Value("${jobs.retention-days:7}") long retentionDays) {
+        this.backgroundJobRepository = backgroundJobRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+        this.workers = workers;
+        this.perUserLimit = perUserLimit;
+        this.globalLimit = globalLimit;
+        this.defaultMaxAttempts = defaultMaxAttempts;
+        this.visibilitySeconds = visibilitySeconds;
+        this.pollIntervalMs = pollIntervalMs;
+        this.retryBaseDelaySeconds = retryBaseDelaySeconds;
+        this.retryMaxDelaySeconds = retryMaxDelaySeconds;
+        this.retention = Duration.ofDays(retentionDays);
+        this.nodeId = resolveNodeId();
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.workerPool = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "job-worker-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.freeWorkers = new Semaphore(workers);
+
+        for (JobHandler handler : jobHandlers) {
+            handlers.put(handler.jobType(), handler);
+            AtomicInteger depth = queueDepth.computeIfAbsent(handler.jobType(), type -> new AtomicInteger());
+            Gauge.builder("jobs.queue.depth", depth, AtomicInteger::get)
+                    .description("Queued background jobs (cluster-wide)")
+                    .tag("type", handler.jobType())
+                    .register(meterRegistry);
+        }
+        Gauge.builder("jobs.running", runningJobs, Set::size)
+                .description("Background jobs running on this node")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Enqueue a job in the current transaction.
+     *
+     * @param jobType handler key
+     * @param userId  owner, used for the per-user concurrency cap (null = uncapped system job)
+     * @param payload JSON-serializable arguments
+     * @return the queued job
+     */
+    public BackgroundJob enqueue(String jobType, UUID userId, Map<String, Object> payload) {
+        BackgroundJob job = backgroundJobRepository.save(BackgroundJob.builder()
+                .jobType(jobType)
+                .userId(userId)
+                .payload(new HashMap<>(payload))
+                .status(BackgroundJobStatus.QUEUED)
+                .attempts(0)
+                .maxAttempts(defaultMaxAttempts)
+                .runAt(LocalDateTime.now())
+                .build());
+
+        log.info("Job enqueued: jobId={}, type={}, userId={}", job.getId(), jobType, userId);
+
+        // Wake the local dispatcher once the row is visible instead of waiting for the next poll
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    wakeUp.release();
+                }
+            });
+        } else {
+            wakeUp.release();
+        }
+        return job;
+    }
+
+    /**
+     * Identity of this node, used as lease owner.
+     */
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        running = true;
+        dispatcher = new Thread(this::dispatchLoop, "job-dispatcher");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+        log.info("Job queue started: node={}, workers={}, perUserLimit={}, globalLimit={}, handlers={}",
+                nodeId, workers, perUserLimit, globalLimit, handlers.keySet());
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        wakeUp.release();
+        workerPool.shutdown();
+        try {
+            if (!workerPool.awaitTermination(30, TimeUnit.SECONDS)) {
+                workerPool.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            workerPool.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+
+        try {
+            Integer released = transactionTemplate.execute(status -> backgroundJobRepository.releaseNode(nodeId));
+            if (released != null && released > 0) {
+                log.info("Released {} unfinished jobs back to the queue", released);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to release jobs on shutdown (leases will expire): {}", e.getMessage());
+        }
+    }
+
+    private void dispatchLoop() {
+        while (running) {
+            int claimed = 0;
+            try {
+                int free = freeWorkers.availablePermits();
+                if (free > 0) {
+                    List<UUID> jobIds = transactionTemplate.execute(status -> {
+                        backgroundJobRepository.lockClaims(CLAIM_LOCK_KEY);
+                        return backgroundJobRepository.claim(nodeId, free, perUserLimit, globalLimit, visibilitySeconds);
+                    });
+                    if (jobIds != null) {
+                        for (UUID jobId : jobIds) {
+                            freeWorkers.acquireUninterruptibly();
+                            runningJobs.add(jobId);
+                            workerPool.execute(() -> execute(jobId));
+                            claimed++;
+                        }
+                    }
+                }
+            } catch (Exception e) {
+                log.error("Job dispatch failed: {}", e.getMessage(), e);
+            }
+
+            try {
+                // Poll again right away while there is work and capacity, otherwise wait for a wake-up
+                if (claimed == 0 || freeWorkers.availablePermits() == 0) {
+                    wakeUp.tryAcquire(pollIntervalMs, TimeUnit.MILLISECONDS);
+                    wakeUp.drainPermits();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void execute(UUID jobId) {
+        BackgroundJob job = null;
+        String type = "unknown";
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+
+        try {
+            job = backgroundJobRepository.findById(jobId).orElse(null);
+            if (job == null) {
+                return;
+            }
+            type = job.getJobType();
+            meterRegistry.timer("jobs.queue.wait", "type", type)
+                    .record(Duration.between(job.getRunAt(), LocalDateTime.now()).abs());
+
+            JobHandler handler = handlers.get(type);
+            if (handler == null) {
+                outcome = "failed";
+                transactionTemplate.execute(status ->
+                        backgroundJobRepository.fail(jobId, nodeId, "No handler for job type"));
+                log.error("No handler for job: jobId={}, type={}", jobId, type);
+                return;
+            }
+
+            handler.handle(job);
+            transactionTemplate.execute(status -> backgroundJobRepository.complete(jobId, nodeId));
+            log.info("Job succeeded: jobId={}, type={}, attempt={}", jobId, type, job.getAttempts());
+
+        } catch (Exception e) {
+            outcome = handleFailure(job, jobId, e);
+        } finally {
+            sample.stop(meterRegistry.timer("jobs.execution", "type", type, "outcome", outcome));
+            runningJobs.remove(jobId);
+            freeWorkers.release();
+            wakeUp.release();
+        }
+    }
+
+    private String handleFailure(BackgroundJob job, UUID jobId, Exception error) {
+        if (job == null) {
+            log.error("Failed to load job: jobId={}, error={}", jobId, error.getMessage());
+            return "error";
+        }
+
+        String message = truncate(error.getMessage() != null ? error.getMessage() : error.getClass().getName());
+        boolean willRetry = job.getAttempts() < job.getMaxAttempts();
+
+        try {
+            if (willRetry) {
+                long delay = backoffSeconds(job.getAttempts());
+                transactionTemplate.execute(status -> backgroundJobRepository.retry(jobId, nodeId, delay, message));
+                log.warn("Job failed, retrying in {}s: jobId={}, type={}, attempt={}/{}, error={}",
+                        delay, jobId, job.getJobType(), job.getAttempts(), job.getMaxAttempts(), message);
+            } else {
+                transactionTemplate.execute(status -> backgroundJobRepository.fail(jobId, nodeId, message));
+                log.error("Job failed permanently: jobId={}, type={}, attempts={}, error={}",
+                        jobId, job.getJobType(), job.getAttempts(), message);
+            }
+        } catch (Exception e) {
+            log.error("Failed to record job failure (lease will expire): jobId={}, error={}", jobId, e.getMessage());
+        }
+
+        notifyFailure(job, error, willRetry);
+        return willRetry ? "retry" : "failed";
+    }
+
+    private void notifyFailure(BackgroundJob job, Exception error, boolean willRetry) {
+        JobHandler handler = handlers.get(job.getJobType());
+        if (handler == null) {
+            return;
+        }
+        try {
+            handler.onFailure(job, error, willRetry);
+        } catch (Exception e) {
+            log.warn("Job failure callback failed: jobId={}, error={}", job.getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * Extend leases of jobs running on this node and fail jobs whose lease expired on their last attempt.
+     */
+    @Scheduled(fixedDelayString = "${jobs.heartbeat-interval-ms:30000}")
+    public void heartbeat() {
+        if (!running) {
+            return;
+        }
+        try {
+            List<UUID> ids = new ArrayList<>(runningJobs);
+            if (!ids.isEmpty()) {
+                transactionTemplate.execute(status -> backgroundJobRepository.heartbeat(ids, nodeId, visibilitySeconds));
+            }
+
+            List<UUID> expired = transactionTemplate.execute(status -> backgroundJobRepository.failExpired());
+            if (expired != null) {
+                for (UUID jobId : expired) {
+                    backgroundJobRepository.findById(jobId).ifPresent(job -> {
+                        log.error("Job lease expired on last attempt: jobId={}, type={}", jobId, job.getJobType());
+                        notifyFailure(job, new IllegalStateException("Worker lease expired"), false);
+                    });
+                }
+            }
+
+            Map<String, Long> depths = new HashMap<>();
+            backgroundJobRepository.countQueuedByType()
+                    .forEach(depth -> depths.put(depth.getJobType(), depth.getQueued()));
+            queueDepth.forEach((type, gauge) -> gauge.set(depths.getOrDefault(type, 0L).intValue()));
+        } catch (Exception e) {
+            log.warn("Job heartbeat failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Purge finished jobs past the retention period.
+     */
+    @Scheduled(fixedDelayString = "${jobs.cleanup-interval-ms:3600000}", initialDelayString = "${jobs.cleanup-interval-ms:3600000}")
+    public void purgeFinished() {
+        Integer purged = transactionTemplate.execute(status ->
+                backgroundJobRepository.deleteFinishedBefore(LocalDateTime.now().minus(retention)));
+        if (purged != null && purged > 0) {
+            log.info("Purged {} finished background jobs", purged);
+        }
+    }
+
+    /**
+     * Exponential backoff with +/-20% jitter, so jobs that failed together do not retry together.
+     */
+    private long backoffSeconds(int attempts) {
+        long exponential = retryBaseDelaySeconds << Math.min(attempts - 1, 20);
+        long capped = Math.min(exponential, retryMaxDelaySeconds);
+        double jitter = 0.8 + ThreadLocalRandom.current().nextDouble() * 0.4;
+        return Math.max(1, Math.round(capped * jitter));
+    }
+
+    private static String truncate(String message) {
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+
+    private static String resolveNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "node";
+        }
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        String id = host + "-" + suffix;
+        return id.length() > 100 ? id.substring(id.length() - 100) : id;
+    }
+}
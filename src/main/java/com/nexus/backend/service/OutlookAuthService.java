@@ -6,7 +6,10 @@ import com.nexus.backend.dto.response.DeviceCodeResponse;
 import com.nexus.backend.dto.response.OutlookAuthStatusResponse;
 import com.nexus.backend.entity.User;
 import com.nexus.backend.repository.EmailRepository;
+import com.nexus.backend.repository.EmailSyncStateRepository;
+import com.nexus.backend.repository.OutlookSyncScheduleRepository;
 import com.nexus.backend.repository.UserRepository;
+import com.nexus.backend.security.UserPrincipalCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -32,6 +35,9 @@ public class OutlookAuthService {
 
     private final UserRepository userRepository;
     private final EmailRepository emailRepository;
+    private final EmailSyncStateRepository emailSyncStateRepository;
+    private final OutlookSyncScheduleRepository outlookSyncScheduleRepository;
+    private final UserPrincipalCache userPrincipalCache;
 
     @Value("${GRAPH_CLIENT_ID:}")
     private String clientId;
@@ -234,7 +240,14 @@ public class OutlookAuthService {
         user.setOutlookTokenExpiresAt(null);
         user.setOutlookDeltaLink(null);
 
+        // 다른 계정으로 재연동될 수 있으므로 delta 토큰 폐기 (다음 동기화는 full round)
+        emailSyncStateRepository.clearDeltaLinks(userId, LocalDateTime.now());
+
+        // 백그라운드 동기화 대상에서 제외 (재연동 시 스케줄러가 다시 등록)
+        outlookSyncScheduleRepository.deleteById(userId);
+
         userRepository.save(user);
+        userPrincipalCache.invalidate(userId);
         log.info("Outlook disconnected for user: {} (emails preserved)", userId);
     }
 
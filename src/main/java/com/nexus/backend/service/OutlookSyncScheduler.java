@@ -0,0 +1,419 @@
+package com.nexus.backend.service;
+
+import com.microsoft.kiota.ApiException;
+import com.nexus.backend.dto.response.OutlookSyncStatusResponse;
+import com.nexus.backend.entity.OutlookSyncSchedule;
+import com.nexus.backend.exception.BadRequestException;
+import com.nexus.backend.exception.ConflictException;
+import com.nexus.backend.repository.OutlookSyncScheduleRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Background Outlook sync (mail delta + calendar) of every connected user, shared by all app nodes.
+ *
+ * - every connected user has a row in outlook_sync_schedules; the first sync is spread over one interval
+ *   and each later one is due after the interval with +/-20% jitter, so users don't sync in lockstep
+ * - a dispatcher tick leases due users with {@code FOR UPDATE SKIP LOCKED}, up to the free local workers
+ *   and the per-tenant cap (cluster-wide live leases per mailbox domain); a heartbeat extends the leases
+ *   and a lease whose node died expires, so exactly one node syncs a user at a time
+ * - manual syncs ({@link #runExclusive}) take the same lease
+ * - only users whose access token is still valid are synced. Tokens are not refreshed in this codebase
+ *   (OutlookAuthService keeps no refresh token; MSAL's cache lives only in the device-flow client), so a
+ *   user drops out of background sync when the token expires, about an hour after connecting, until the
+ *   user reconnects. {@code outlook.sync.tokens.expired} counts those users.
+ * - Graph 429 / 503 that outlast the SDK's own retries push the user back by {@code Retry-After}
+ *   (or the backoff, whichever is longer) and hold back the whole tenant for {@code Retry-After};
+ *   other failures back off exponentially with the number of consecutive failures
+ *
+ * Metrics: {@code outlook.sync.duration{outcome}}, {@code outlook.sync.changes{kind}},
+ * {@code outlook.sync.lag} (time since the user's previous successful sync, recorded per sync),
+ * {@code outlook.sync.lag.max}, {@code outlook.sync.overdue}, {@code outlook.sync.users},
+ * {@code outlook.sync.tokens.expired}, {@code outlook.sync.running} and {@code outlook.sync.throttled{status}}.
+ * Per-user lag and throughput are served by {@link #getStatus} rather than per-user meter tags.
+ */
+@Service
+@Slf4j
+public class OutlookSyncScheduler {
+
+    /**
+     * Advisory lock key serializing sync claims across nodes ("nexussyn").
+     */
+    private static final long CLAIM_LOCK_KEY = 0x6e6578757373796eL;
+    private static final int MAX_ERROR_LENGTH = 4000;
+
+    private final OutlookSyncScheduleRepository scheduleRepository;
+    private final EmailSyncService emailSyncService;
+    private final CalendarSyncService calendarSyncService;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final String nodeId;
+
+    private final boolean enabled;
+    private final long intervalSeconds;
+    private final int perTenantLimit;
+    private final long leaseSeconds;
+    private final long retryBaseDelaySeconds;
+    private final long retryMaxDelaySeconds;
+
+    private final ExecutorService workerPool;
+    private final Semaphore freeWorkers;
+    private final Set<UUID> runningUsers = ConcurrentHashMap.newKeySet();
+    private final AtomicLong maxLagSeconds = new AtomicLong();
+    private final AtomicLong overdueUsers = new AtomicLong();
+    private final AtomicLong scheduledUsers = new AtomicLong();
+    private final AtomicLong expiredTokenUsers = new AtomicLong();
+    private volatile boolean running = true;
+
+    public OutlookSyncScheduler(
+            OutlookSyncScheduleRepository scheduleRepository,
+            EmailSyncService emailSyncService,
+            CalendarSyncService calendarSyncService,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            JobQueueService jobQueueService,
+            @Value("${outlook.sync.enabled:true}") boolean enabled,
+            @Value("${outlook.sync.interval-seconds:900}") long intervalSeconds,
+            @Value("${outlook.sync.workers:4}") int workers,
+            @Value("${outlook.sync.per-tenant-limit:2}") int perTenantLimit,
+            @Value("${outlook.sync.lease-seconds:600}") long leaseSeconds,
+            @Value("${outlook.sync.retry.base-delay-seconds:60}") long retryBaseDelaySeconds,
+            @Value("${outlook.sync.retry.max-delay-seconds:3600}") long retryMaxDelaySeconds) {
+        this.scheduleRepository = scheduleRepository;
+        this.emailSyncService = emailSyncService;
+        this.calendarSyncService = calendarSyncService;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+        this.nodeId = jobQueueService.getNodeId();
+        this.enabled = enabled;
+        this.intervalSeconds = intervalSeconds;
+        this.perTenantLimit = perTenantLimit;
+        this.leaseSeconds = leaseSeconds;
+        this.retryBaseDelaySeconds = retryBaseDelaySeconds;
+        this.retryMaxDelaySeconds = retryMaxDelaySeconds;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.workerPool = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "outlook-sync-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.freeWorkers = new Semaphore(workers);
+
+        Gauge.builder("outlook.sync.running", runningUsers, Set::size)
+                .description("Outlook syncs running on this node")
+                .register(meterRegistry);
+        Gauge.builder("outlook.sync.lag.max", maxLagSeconds, AtomicLong::get)
+                .description("Longest time since a connected user's last successful sync (cluster-wide)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("outlook.sync.overdue", overdueUsers, AtomicLong::get)
+                .description("Connected users due for sync and not yet picked up (cluster-wide)")
+                .register(meterRegistry);
+        Gauge.builder("outlook.sync.users", scheduledUsers, AtomicLong::get)
+                .description("Connected users with a sync schedule and a valid access token (cluster-wide)")
+                .register(meterRegistry);
+        Gauge.builder("outlook.sync.tokens.expired", expiredTokenUsers, AtomicLong::get)
+                .description("Connected users skipped because their access token expired (cluster-wide)")
+                .register(meterRegistry);
+
+        log.info("Outlook sync scheduler initialized: enabled={}, node={}, intervalSeconds={}, workers={}, perTenantLimit={}",
+                enabled, nodeId, intervalSeconds, workers, perTenantLimit);
+    }
+
+    /**
+     * Lease due users and hand them to the local workers.
+     */
+    @Scheduled(initialDelayString = "${outlook.sync.poll-interval-ms:15000}",
+               fixedDelayString = "${outlook.sync.poll-interval-ms:15000}")
+    public void dispatch() {
+        if (!enabled || !running) {
+            return;
+        }
+        try {
+            int free = freeWorkers.availablePermits();
+            if (free == 0) {
+                return;
+            }
+            List<UUID> userIds = transactionTemplate.execute(status -> {
+                scheduleRepository.lockClaims(CLAIM_LOCK_KEY);
+                return scheduleRepository.claim(nodeId, free, perTenantLimit, leaseSeconds, LocalDateTime.now());
+            });
+            if (userIds == null) {
+                return;
+            }
+            for (UUID userId : userIds) {
+                freeWorkers.acquireUninterruptibly();
+                runningUsers.add(userId);
+                workerPool.execute(() -> runScheduledSync(userId));
+            }
+        } catch (Exception e) {
+            log.error("Outlook sync dispatch failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Create schedules for newly connected users and drop those of disconnected users.
+     */
+    @Scheduled(initialDelayString = "${outlook.sync.poll-interval-ms:15000}",
+               fixedDelayString = "${outlook.sync.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        if (!enabled || !running) {
+            return;
+        }
+        try {
+            Integer added = transactionTemplate.execute(status -> scheduleRepository.upsertConnectedUsers(intervalSeconds));
+            Integer removed = transactionTemplate.execute(status -> scheduleRepository.deleteDisconnected());
+            if (added != null && added > 0 || removed != null && removed > 0) {
+                log.info("Outlook sync schedules reconciled: addedOrUpdated={}, removed={}", added, removed);
+            }
+        } catch (Exception e) {
+            log.warn("Outlook sync schedule reconcile failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Extend leases of syncs running on this node and refresh the lag gauges.
+     */
+    @Scheduled(fixedDelayString = "${outlook.sync.heartbeat-interval-ms:60000}")
+    public void heartbeat() {
+        if (!running) {
+            return;
+        }
+        try {
+            List<UUID> userIds = new ArrayList<>(runningUsers);
+            if (!userIds.isEmpty()) {
+                transactionTemplate.execute(status -> scheduleRepository.heartbeat(userIds, nodeId, leaseSeconds));
+            }
+
+            if (enabled) {
+                OutlookSyncScheduleRepository.LagStats stats = scheduleRepository.lagStats(LocalDateTime.now());
+                scheduledUsers.set(stats.getUsers());
+                overdueUsers.set(stats.getOverdue());
+                expiredTokenUsers.set(stats.getTokenExpired());
+                maxLagSeconds.set(Math.round(stats.getMaxLagSeconds()));
+            }
+        } catch (Exception e) {
+            log.warn("Outlook sync heartbeat failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Run a user-initiated sync under the user's sync lease, so it never overlaps a background sync
+     * of the same user on any node. The schedule row is created first if the scheduler hasn't yet;
+     * the background schedule itself is left as is.
+     *
+     * @throws BadRequestException if Outlook is not connected (no schedule row can exist)
+     * @throws ConflictException   if a sync of the user is already running
+     */
+    public <T> T runExclusive(UUID userId, Supplier<T> sync) {
+        Integer acquired = transactionTemplate.execute(status -> {
+            scheduleRepository.insertIfConnected(userId);
+            if (scheduleRepository.acquire(userId, nodeId, leaseSeconds) > 0) {
+                return 1;
+            }
+            return scheduleRepository.existsById(userId) ? 0 : -1;
+        });
+        if (acquired == null || acquired < 0) {
+            throw new BadRequestException("Outlook 계정이 연동되지 않았습니다");
+        }
+        if (acquired == 0) {
+            throw new ConflictException("이미 동기화가 진행 중입니다");
+        }
+
+        runningUsers.add(userId);
+        try {
+            return sync.get();
+        } finally {
+            runningUsers.remove(userId);
+            try {
+                transactionTemplate.execute(status -> scheduleRepository.release(userId, nodeId));
+            } catch (Exception e) {
+                log.warn("Failed to release sync lease (it will expire): userId={}, error={}", userId, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Background sync state of one user (null if the user has no schedule, i.e. is not connected).
+     */
+    public OutlookSyncStatusResponse getStatus(UUID userId) {
+        return scheduleRepository.findById(userId)
+                .map(OutlookSyncStatusResponse::from)
+                .orElse(null);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        workerPool.shutdown();
+        try {
+            if (!workerPool.awaitTermination(30, TimeUnit.SECONDS)) {
+                workerPool.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            workerPool.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+
+        try {
+            Integer released = transactionTemplate.execute(status -> scheduleRepository.releaseNode(nodeId));
+            if (released != null && released > 0) {
+                log.info("Released {} Outlook sync leases", released);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to release Outlook sync leases on shutdown (they will expire): {}", e.getMessage());
+        }
+    }
+
+    private void runScheduledSync(UUID userId) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        long startedAt = System.currentTimeMillis();
+        OutlookSyncSchedule schedule = null;
+
+        try {
+            schedule = scheduleRepository.findById(userId).orElse(null);
+            if (schedule == null) {
+                return;  // disconnected since the claim
+            }
+            LocalDateTime previous = schedule.getLastSucceededAt() != null
+                    ? schedule.getLastSucceededAt() : schedule.getCreatedAt();
+            if (previous != null) {
+                meterRegistry.timer("outlook.sync.lag")
+                        .record(Duration.between(previous, LocalDateTime.now()).abs());
+            }
+
+            int mailChanges = emailSyncService.deltaSyncEmails(userId);
+            Map<String, Integer> calendarResult = calendarSyncService.syncUserCalendar(userId);
+            int calendarChanges = calendarResult.values().stream().mapToInt(Integer::intValue).sum();
+
+            meterRegistry.counter("outlook.sync.changes", "kind", "mail").increment(mailChanges);
+            meterRegistry.counter("outlook.sync.changes", "kind", "calendar").increment(calendarChanges);
+
+            long durationMs = System.currentTimeMillis() - startedAt;
+            transactionTemplate.execute(status -> scheduleRepository.complete(
+                    userId, nodeId, jittered(intervalSeconds), durationMs, mailChanges + calendarChanges));
+            log.info("Outlook background sync done: userId={}, mailChanges={}, calendarChanges={}, tookMs={}",
+                    userId, mailChanges, calendarChanges, durationMs);
+
+        } catch (Exception e) {
+            outcome = handleFailure(userId, schedule, e);
+        } finally {
+            sample.stop(meterRegistry.timer("outlook.sync.duration", "outcome", outcome));
+            runningUsers.remove(userId);
+            freeWorkers.release();
+        }
+    }
+
+    private String handleFailure(UUID userId, OutlookSyncSchedule schedule, Exception error) {
+        int failures = (schedule != null ? schedule.getConsecutiveFailures() : 0) + 1;
+        long delay = backoffSeconds(failures);
+        String message = truncate(error.getMessage() != null ? error.getMessage() : error.getClass().getName());
+
+        ApiException apiError = findApiException(error);
+        int status = apiError != null ? apiError.getResponseStatusCode() : 0;
+        boolean throttled = status == 429 || status == 503;
+
+        try {
+            if (throttled) {
+                long retryAfter = retryAfterSeconds(apiError);
+                delay = Math.max(delay, retryAfter);
+                meterRegistry.counter("outlook.sync.throttled", "status", String.valueOf(status)).increment();
+
+                if (schedule != null && retryAfter > 0) {
+                    // The tenant's other mailboxes would hit the same limit
+                    transactionTemplate.execute(tx -> scheduleRepository.deferTenant(schedule.getTenantKey(), retryAfter));
+                }
+                log.warn("Outlook sync throttled ({}), retrying in {}s: userId={}, tenant={}, retryAfter={}s",
+                        status, delay, userId, schedule != null ? schedule.getTenantKey() : null, retryAfter);
+            } else {
+                log.warn("Outlook background sync failed, retrying in {}s: userId={}, consecutiveFailures={}, error={}",
+                        delay, userId, failures, message);
+            }
+
+            long finalDelay = delay;
+            transactionTemplate.execute(tx -> scheduleRepository.fail(userId, nodeId, finalDelay, message));
+        } catch (Exception e) {
+            log.error("Failed to record Outlook sync failure (lease will expire): userId={}, error={}",
+                    userId, e.getMessage());
+        }
+        return throttled ? "throttled" : "failed";
+    }
+
+    private static ApiException findApiException(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ApiException apiException) {
+                return apiException;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Retry-After as delta-seconds or HTTP-date (0 when absent or unparseable).
+     */
+    private static long retryAfterSeconds(ApiException error) {
+        if (error.getResponseHeaders() == null) {
+            return 0;
+        }
+        Set<String> values = error.getResponseHeaders().get("Retry-After");
+        if (values == null || values.isEmpty()) {
+            return 0;
+        }
+        String value = values.iterator().next().trim();
+        try {
+            return Math.max(0, Long.parseLong(value));
+        } catch (NumberFormatException e) {
+            try {
+                ZonedDateTime at = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME);
+                return Math.max(0, Duration.between(ZonedDateTime.now(at.getZone()), at).getSeconds());
+            } catch (Exception ignored) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Exponential backoff with +/-20% jitter, capped.
+     */
+    private long backoffSeconds(int failures) {
+        long exponential = retryBaseDelaySeconds << Math.min(failures - 1, 20);
+        return jittered(Math.min(exponential, retryMaxDelaySeconds));
+    }
+
+    private static long jittered(long seconds) {
+        double jitter = 0.8 + ThreadLocalRandom.current().nextDouble() * 0.4;
+        return Math.max(1, Math.round(seconds * jitter));
+    }
+
+    private static String truncate(String message) {
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+}
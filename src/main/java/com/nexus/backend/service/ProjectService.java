@@ -19,6 +19,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -32,20 +33,15 @@ public class ProjectService {
     private final ScheduleRepository scheduleRepository;
     private final GlossaryTermRepository glossaryTermRepository;
     private final ProjectCategorySyncService syncService;
+    private final GlossaryTermDetectionService detectionService;
 
     @Transactional(readOnly = true)
     public List<ProjectResponse> getUserProjects(User user) {
-        return projectRepository.findByUserId(user.getId())
+        List<Project> projects = projectRepository.findByUserId(user.getId())
                 .stream()
                 .filter(project -> !"DELETED".equals(project.getStatus())) // Exclude deleted projects only
-                .map(project -> {
-                    ProjectResponse response = ProjectResponse.from(project);
-                    // Use project files approach to count terms (handles project_id = NULL case)
-                    long actualTermCount = glossaryTermRepository.countTermsByProjectFiles(project.getId());
-                    response.setTermCount((int) actualTermCount);
-                    return response;
-                })
                 .collect(Collectors.toList());
+        return toResponses(projects);
     }
 
     @Transactional(readOnly = true)
@@ -53,11 +49,7 @@ public class ProjectService {
         Project project = projectRepository.findByIdAndUserId(projectId, user.getId())
                 .orElseThrow(() -> new ResourceNotFoundException("Project", "id", projectId));
 
-        ProjectResponse response = ProjectResponse.from(project);
-        // Use project files approach to count terms (handles project_id = NULL case)
-        long actualTermCount = glossaryTermRepository.countTermsByProjectFiles(project.getId());
-        response.setTermCount((int) actualTermCount);
-        return response;
+        return toResponse(project);
     }
 
     @Transactional
@@ -92,22 +84,19 @@ public class ProjectService {
             fileRepository.saveAll(files);
         }
 
-        // Refresh project to get updated files list
+        // Flush file links so the batched link queries below see them
+        fileRepository.flush();
+        detectionService.invalidateUser(user.getId());  // project glossaries follow the file links
         UUID projectId = project.getId();
         project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new ResourceNotFoundException("Project", "id", projectId));
 
-        log.info("Created project: {} for user: {} with {} files",
-                project.getId(), user.getId(), project.getFiles().size());
+        log.info("Created project: {} for user: {}", project.getId(), user.getId());
 
         // 카테고리 동기화: 프로젝트 생성 시 동일 이름의 카테고리 자동 생성
         syncService.onProjectCreated(user.getId(), request.getName());
 
-        ProjectResponse response = ProjectResponse.from(project);
-        // Use project files approach to count terms (handles project_id = NULL case)
-        long actualTermCount = glossaryTermRepository.countTermsByProjectFiles(project.getId());
-        response.setTermCount((int) actualTermCount);
-        return response;
+        return toResponse(project);
     }
 
     @Transactional
@@ -175,21 +164,18 @@ public class ProjectService {
             }
         }
 
-        // Refresh project to get updated files list
+        // Flush file links so the batched link queries below see them
+        fileRepository.flush();
+        detectionService.invalidateUser(user.getId());  // project glossaries follow the file links
         project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new ResourceNotFoundException("Project", "id", projectId));
 
-        log.info("Updated project: {} with {} files",
-                project.getId(), project.getFiles().size());
+        log.info("Updated project: {}", project.getId());
 
         // 카테고리 동기화: 프로젝트 이름 변경 시 동일 이름의 카테고리 이름 변경
         syncService.onProjectUpdated(user.getId(), oldName, request.getName());
 
-        ProjectResponse response = ProjectResponse.from(project);
-        // Use project files approach to count terms (handles project_id = NULL case)
-        long actualTermCount = glossaryTermRepository.countTermsByProjectFiles(project.getId());
-        response.setTermCount((int) actualTermCount);
-        return response;
+        return toResponse(project);
     }
 
     @Transactional
@@ -202,12 +188,46 @@ public class ProjectService {
 
         project.setStatus("DELETED");
         projectRepository.save(project);
+        detectionService.invalidateUser(user.getId());  // compiled project glossaries stand for the ownership check
         log.info("Deleted project: {}", projectId);
 
         // 카테고리 동기화: 프로젝트 삭제 시 동일 이름의 카테고리 삭제
         syncService.onProjectDeleted(user.getId(), projectName);
     }
 
+    private ProjectResponse toResponse(Project project) {
+        return toResponses(List.of(project)).get(0);
+    }
+
+    /**
+     * Build responses with file IDs and term counts batch-loaded for all projects (two queries in total).
+     * Terms are counted through project files, which handles terms extracted before project assignment (project_id = NULL).
+     */
+    private List<ProjectResponse> toResponses(List<Project> projects) {
+        if (projects.isEmpty()) {
+            return List.of();
+        }
+
+        List<UUID> projectIds = projects.stream().map(Project::getId).collect(Collectors.toList());
+
+        Map<UUID, List<UUID>> fileIdsByProject = projectRepository.findFileLinksByProjectIdIn(projectIds)
+                .stream()
+                .collect(Collectors.groupingBy(ProjectRepository.ProjectFileLink::getProjectId,
+                        Collectors.mapping(ProjectRepository.ProjectFileLink::getFileId, Collectors.toList())));
+
+        Map<UUID, Long> termCounts = glossaryTermRepository.countTermsByProjectFilesIn(projectIds)
+                .stream()
+                .collect(Collectors.toMap(GlossaryTermRepository.ProjectTermCount::getProjectId,
+                        GlossaryTermRepository.ProjectTermCount::getTermCount));
+
+        return projects.stream()
+                .map(project -> ProjectResponse.from(
+                        project,
+                        fileIdsByProject.getOrDefault(project.getId(), List.of()),
+                        termCounts.getOrDefault(project.getId(), 0L)))
+                .collect(Collectors.toList());
+    }
+
     @Transactional(readOnly = true)
     public List<ScheduleResponse> getProjectSchedules(UUID projectId, User user) {
         // Verify project belongs to user
@@ -0,0 +1,324 @@
+package com.nexus.backend.service;
+
+import com.nexus.backend.exception.ServiceException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP client for the Python AI backend.
+ *
+ * - one pooled keep-alive connection manager shared by all calls
+ * - calls are grouped into {@link Lane}s, each with its own response timeout and a bulkhead
+ *   (max concurrent calls); the pool is sized to the sum of the bulkheads, so slow LLM calls
+ *   can never take the connections fast calls need
+ * - a circuit breaker per lane fails fast while the backend is down (5xx / I/O errors)
+ *
+ * Metrics: {@code python.client.requests{lane,method,uri,outcome}} (histogram, uri is the path template),
+ * {@code python.client.bulkhead.available{lane}}, {@code python.client.circuit.state{lane}}
+ * and the connection pool gauges ({@code httpcomponents.httpclient.pool.*{httpclient=python}}).
+ */
+@Component
+@Slf4j
+public class PythonBackendClient {
+
+    /**
+     * Call classes with separate timeouts and concurrency.
+     */
+    public enum Lane {
+        /** Quick metadata calls (e.g. Qdrant payload updates) */
+        FAST(10_000, 16),
+        /** Calls that only hand work to Python (e.g. starting a glossary extraction) */
+        STANDARD(60_000, 8),
+        /** Calls that wait for LLM output (e.g. document summarization) */
+        LONG(180_000, 4);
+
+        private final long defaultResponseTimeoutMs;
+        private final int defaultMaxConcurrent;
+
+        Lane(long defaultResponseTimeoutMs, int defaultMaxConcurrent) {
+            this.defaultResponseTimeoutMs = defaultResponseTimeoutMs;
+            this.defaultMaxConcurrent = defaultMaxConcurrent;
+        }
+
+        String key() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private final String baseUrl;
+    private final long bulkheadWaitMs;
+    private final MeterRegistry meterRegistry;
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final Map<Lane, CloseableHttpClient> httpClients = new EnumMap<>(Lane.class);
+    private final Map<Lane, RestTemplate> restTemplates = new EnumMap<>(Lane.class);
+    private final Map<Lane, Semaphore> bulkheads = new EnumMap<>(Lane.class);
+    private final Map<Lane, CircuitBreaker> circuitBreakers = new EnumMap<>(Lane.class);
+
+    public PythonBackendClient(
+            Environment environment,
+            MeterRegistry meterRegistry,
+            @Value("${python.backend.url:http://localhost:8000}") String baseUrl,
+            @Value("${python.client.connect-timeout-ms:5000}") long connectTimeoutMs,
+            @Value("${python.client.validate-after-inactivity-ms:2000}") long validateAfterInactivityMs,
+            @Value("${python.client.bulkhead-wait-ms:2000}") long bulkheadWaitMs,
+            @Value("${python.client.circuit-breaker.failure-threshold:5}") int failureThreshold,
+            @Value("${python.client.circuit-breaker.open-duration-ms:30000}") long openDurationMs) {
+        this.baseUrl = baseUrl;
+        this.bulkheadWaitMs = bulkheadWaitMs;
+        this.meterRegistry = meterRegistry;
+
+        Map<Lane, Integer> maxConcurrent = new EnumMap<>(Lane.class);
+        int poolSize = 0;
+        for (Lane lane : Lane.values()) {
+            int permits = environment.getProperty("python.client.lanes." + lane.key() + ".max-concurrent",
+                    Integer.class, lane.defaultMaxConcurrent);
+            maxConcurrent.put(lane, permits);
+            poolSize += permits;
+        }
+
+        // Uvicorn closes idle keep-alive connections after a few seconds; revalidate before reuse
+        this.connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(poolSize)
+                .setMaxConnPerRoute(poolSize)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setValidateAfterInactivity(TimeValue.ofMilliseconds(validateAfterInactivityMs))
+                        .build())
+                .build();
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "python").bindTo(meterRegistry);
+
+        for (Lane lane : Lane.values()) {
+            long responseTimeoutMs = environment.getProperty("python.client.lanes." + lane.key() + ".response-timeout-ms",
+                    Long.class, lane.defaultResponseTimeoutMs);
+
+            CloseableHttpClient httpClient = HttpClients.custom()
+                    .setConnectionManager(connectionManager)
+                    .setConnectionManagerShared(true)
+                    .setDefaultRequestConfig(RequestConfig.custom()
+                            .setResponseTimeout(Timeout.ofMilliseconds(responseTimeoutMs))
+                            .setConnectionRequestTimeout(Timeout.ofMilliseconds(bulkheadWaitMs))
+                            .build())
+                    .build();
+            httpClients.put(lane, httpClient);
+
+            HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory(httpClient);
+            factory.setBufferRequestBody(false);  // Stream bodies (multipart file uploads) instead of copying them to heap
+            restTemplates.put(lane, new RestTemplate(factory));
+
+            Semaphore bulkhead = new Semaphore(maxConcurrent.get(lane));
+            bulkheads.put(lane, bulkhead);
+            CircuitBreaker circuitBreaker = new CircuitBreaker(failureThreshold, openDurationMs);
+            circuitBreakers.put(lane, circuitBreaker);
+
+            Gauge.builder("python.client.bulkhead.available", bulkhead, Semaphore::availablePermits)
+                    .description("Free call slots of a Python backend lane")
+                    .tag("lane", lane.key())
+                    .register(meterRegistry);
+            Gauge.builder("python.client.circuit.state", circuitBreaker, CircuitBreaker::stateValue)
+                    .description("Circuit breaker state (0 = closed, 1 = half-open, 2 = open)")
+                    .tag("lane", lane.key())
+                    .register(meterRegistry);
+
+            log.info("Python client lane {}: responseTimeout={}ms, maxConcurrent={}",
+                    lane.key(), responseTimeoutMs, maxConcurrent.get(lane));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        httpClients.values().forEach(client -> {
+            try {
+                client.close();
+            } catch (IOException e) {
+                log.debug("Failed to close HTTP client: {}", e.getMessage());
+            }
+        });
+        connectionManager.close();
+    }
+
+    /**
+     * POST to the Python backend.
+     *
+     * @param lane         call class
+     * @param uriTemplate  path template relative to the backend URL (also the metrics tag)
+     * @param body         request body, or an {@link HttpEntity} for custom headers
+     * @param responseType response body type
+     * @param uriVariables template variables
+     */
+    public <T> T post(Lane lane, String uriTemplate, Object body, Class<T> responseType, Object... uriVariables) {
+        return exchange(lane, HttpMethod.POST, uriTemplate, body, responseType, uriVariables);
+    }
+
+    /**
+     * PATCH to the Python backend.
+     *
+     * @see #post
+     */
+    public <T> T patch(Lane lane, String uriTemplate, Object body, Class<T> responseType, Object... uriVariables) {
+        return exchange(lane, HttpMethod.PATCH, uriTemplate, body, responseType, uriVariables);
+    }
+
+    private <T> T exchange(Lane lane, HttpMethod method, String uriTemplate, Object body,
+                           Class<T> responseType, Object... uriVariables) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+
+        CircuitBreaker circuitBreaker = circuitBreakers.get(lane);
+        Semaphore bulkhead = bulkheads.get(lane);
+        boolean acquired = false;
+        try {
+            if (!circuitBreaker.tryAcquire()) {
+                outcome = "circuit_open";
+                throw new ServiceException("Python backend unavailable (circuit open): " + uriTemplate);
+            }
+            acquired = bulkhead.tryAcquire(bulkheadWaitMs, TimeUnit.MILLISECONDS);
+            if (!acquired) {
+                circuitBreaker.release();
+                outcome = "rejected";
+                throw new ServiceException("Python backend busy (" + lane.key() + " lane full): " + uriTemplate);
+            }
+
+            HttpEntity<?> entity = body instanceof HttpEntity<?> httpEntity ? httpEntity : new HttpEntity<>(body);
+            T response = restTemplates.get(lane)
+                    .exchange(baseUrl + uriTemplate, method, entity, responseType, uriVariables)
+                    .getBody();
+            circuitBreaker.onSuccess();
+            return response;
+
+        } catch (HttpStatusCodeException e) {
+            if (e.getStatusCode().is5xxServerError()) {
+                outcome = "server_error";
+                circuitBreaker.onFailure();
+            } else {
+                // The backend answered; a rejected request says nothing about its health
+                outcome = "client_error";
+                circuitBreaker.onSuccess();
+            }
+            throw e;
+        } catch (ResourceAccessException e) {
+            outcome = "io_error";
+            circuitBreaker.onFailure();
+            throw e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            circuitBreaker.release();
+            outcome = "rejected";
+            throw new ServiceException("Interrupted waiting for Python backend", e);
+        } catch (ServiceException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            outcome = "error";
+            circuitBreaker.onFailure();
+            throw e;
+        } finally {
+            if (acquired) {
+                bulkhead.release();
+            }
+            sample.stop(Timer.builder("python.client.requests")
+                    .description("Python backend calls")
+                    .tag("lane", lane.key())
+                    .tag("method", method.name())
+                    .tag("uri", uriTemplate)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Consecutive-failure circuit breaker. After {@code failureThreshold} failures in a row calls are
+     * rejected for {@code openDurationMs}; then a single trial call decides between closing and reopening.
+     */
+    static final class CircuitBreaker {
+
+        private enum State { CLOSED, HALF_OPEN, OPEN }
+
+        private final int failureThreshold;
+        private final long openDurationMs;
+
+        private State state = State.CLOSED;
+        private int consecutiveFailures;
+        private long openedAt;
+        private boolean trialInFlight;
+
+        CircuitBreaker(int failureThreshold, long openDurationMs) {
+            this.failureThreshold = failureThreshold;
+            this.openDurationMs = openDurationMs;
+        }
+
+        synchronized boolean tryAcquire() {
+            if (state == State.OPEN) {
+                if (System.currentTimeMillis() - openedAt < openDurationMs) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                trialInFlight = false;
+            }
+            if (state == State.HALF_OPEN) {
+                if (trialInFlight) {
+                    return false;
+                }
+                trialInFlight = true;
+            }
+            return true;
+        }
+
+        /**
+         * Give back a permit that was not used for a call.
+         */
+        synchronized void release() {
+            trialInFlight = false;
+        }
+
+        synchronized void onSuccess() {
+            if (state != State.CLOSED) {
+                log.info("Python backend circuit closed");
+            }
+            state = State.CLOSED;
+            consecutiveFailures = 0;
+            trialInFlight = false;
+        }
+
+        synchronized void onFailure() {
+            consecutiveFailures++;
+            trialInFlight = false;
+            if (state == State.HALF_OPEN || (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+                state = State.OPEN;
+                openedAt = System.currentTimeMillis();
+                log.warn("Python backend circuit opened after {} consecutive failures", consecutiveFailures);
+            }
+        }
+
+        synchronized double stateValue() {
+            return state.ordinal();
+        }
+    }
+}
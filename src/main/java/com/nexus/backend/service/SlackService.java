@@ -6,6 +6,7 @@ import com.nexus.backend.dto.response.SlackIntegrationResponse;
 import com.nexus.backend.dto.response.SlackMessageResponse;
 import com.nexus.backend.entity.User;
 import com.nexus.backend.repository.UserRepository;
+import com.nexus.backend.security.UserPrincipalCache;
 import com.slack.api.Slack;
 import com.slack.api.methods.SlackApiException;
 import com.slack.api.methods.request.conversations.ConversationsListRequest;
@@ -43,6 +44,7 @@ public class SlackService {
     private final UserRepository userRepository;
     private final Slack slack = Slack.getInstance();
     private final SimpMessagingTemplate messagingTemplate;
+    private final UserPrincipalCache userPrincipalCache;
 
     @Value("${slack.client-id}")
     private String clientId;
@@ -53,6 +55,15 @@ public class SlackService {
     @Value("${slack.redirect-uri}")
     private String redirectUri;
 
+    /**
+     * Reload the user row for the authenticated principal.
+     * The security principal only carries identity fields, not the Slack tokens.
+     */
+    private User loadUser(User currentUser) {
+        return userRepository.findById(currentUser.getId())
+                .orElseThrow(() -> new ResourceNotFoundException("User", "id", currentUser.getId()));
+    }
+
     /**
      * Generate Slack OAuth authorization URL
      */
@@ -75,7 +86,8 @@ public class SlackService {
      * Handle OAuth callback and save integration to User entity
      */
     @Transactional
-    public SlackIntegrationResponse handleOAuthCallback(String code, User user) {
+    public SlackIntegrationResponse handleOAuthCallback(String code, User currentUser) {
+        User user = loadUser(currentUser);
         try {
             // Exchange code for access token
             OAuthV2AccessRequest request = OAuthV2AccessRequest.builder()
@@ -131,7 +143,8 @@ public class SlackService {
      * Get Slack integration status for current user
      */
     @Transactional(readOnly = true)
-    public SlackIntegrationResponse getIntegration(User user) {
+    public SlackIntegrationResponse getIntegration(User currentUser) {
+        User user = loadUser(currentUser);
         if (user.getSlackWorkspaceId() == null) {
             throw new ResourceNotFoundException("Slack integration not found");
         }
@@ -142,7 +155,8 @@ public class SlackService {
      * Disconnect Slack integration (clear all Slack fields)
      */
     @Transactional
-    public void disconnectIntegration(User user) {
+    public void disconnectIntegration(User currentUser) {
+        User user = loadUser(currentUser);
         user.setSlackWorkspaceId(null);
         user.setSlackWorkspaceName(null);
         user.setSlackAccessToken(null);
@@ -155,6 +169,7 @@ public class SlackService {
         user.setSlackConnectedAt(null);
 
         userRepository.save(user);
+        userPrincipalCache.invalidate(user.getId());
         log.info("Disconnected Slack integration for user {}", user.getId());
     }
 
@@ -162,7 +177,8 @@ public class SlackService {
      * Get list of channels and DMs for current user's workspace
      */
     @Transactional(readOnly = true)
-    public List<SlackChannelResponse> getChannels(User user) {
+    public List<SlackChannelResponse> getChannels(User currentUser) {
+        User user = loadUser(currentUser);
         if (user.getSlackWorkspaceId() == null) {
             throw new ResourceNotFoundException("Slack integration not found");
         }
@@ -364,7 +380,8 @@ public class SlackService {
      * Send a message to a Slack channel or DM (without WebSocket broadcast)
      */
     @Transactional(readOnly = true)
-    public void sendMessage(SendSlackMessageRequest request, User user) {
+    public void sendMessage(SendSlackMessageRequest request, User currentUser) {
+        User user = loadUser(currentUser);
         if (user.getSlackWorkspaceId() == null) {
             throw new ResourceNotFoundException("Slack integration not found");
         }
@@ -419,7 +436,8 @@ public class SlackService {
      * Get message history for a channel or DM
      */
     @Transactional(readOnly = true)
-    public List<SlackMessageResponse> getMessageHistory(String channelId, User user) {
+    public List<SlackMessageResponse> getMessageHistory(String channelId, User currentUser) {
+        User user = loadUser(currentUser);
         if (user.getSlackWorkspaceId() == null) {
             throw new ResourceNotFoundException("Slack integration not found");
         }
@@ -0,0 +1,80 @@
+package com.nexus.backend.service;
+
+import com.nexus.backend.entity.UploadSessionStatus;
+import com.nexus.backend.repository.UploadSessionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Periodic cleanup of chunked upload sessions.
+ *
+ * - open sessions past their expiry are marked EXPIRED
+ * - chunk directories without an OPEN session (expired, aborted, committed, or orphaned by a crash) are deleted
+ * - finished session rows are purged after the retention period
+ */
+@Component
+@Slf4j
+public class UploadSessionCleanupJob {
+
+    private static final int ID_BATCH_SIZE = 500;
+
+    private final UploadSessionRepository uploadSessionRepository;
+    private final FileStorageService fileStorageService;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration retention;
+
+    public UploadSessionCleanupJob(
+            UploadSessionRepository uploadSessionRepository,
+            FileStorageService fileStorageService,
+            TransactionTemplate transactionTemplate,
+            @Value("${file.upload-session.retention-days:7}") long retentionDays) {
+        this.uploadSessionRepository = uploadSessionRepository;
+        this.fileStorageService = fileStorageService;
+        this.transactionTemplate = transactionTemplate;
+        this.retention = Duration.ofDays(retentionDays);
+    }
+
+    @Scheduled(initialDelayString = "${file.upload-session.cleanup-interval-ms:900000}",
+               fixedDelayString = "${file.upload-session.cleanup-interval-ms:900000}")
+    public void cleanup() {
+        LocalDateTime now = LocalDateTime.now();
+
+        Integer expired = transactionTemplate.execute(status -> uploadSessionRepository.expireOpenSessions(now));
+        Integer purged = transactionTemplate.execute(status ->
+                uploadSessionRepository.deleteFinishedBefore(now.minus(retention)));
+
+        int deletedDirectories = 0;
+        List<UUID> sessionIds = fileStorageService.listChunkSessions();
+        for (int from = 0; from < sessionIds.size(); from += ID_BATCH_SIZE) {
+            List<UUID> batch = sessionIds.subList(from, Math.min(from + ID_BATCH_SIZE, sessionIds.size()));
+            Set<UUID> open = new HashSet<>(uploadSessionRepository.findIdsByIdInAndStatus(batch, UploadSessionStatus.OPEN));
+
+            for (UUID sessionId : batch) {
+                if (open.contains(sessionId)) {
+                    continue;
+                }
+                try {
+                    fileStorageService.deleteChunks(sessionId);
+                    deletedDirectories++;
+                } catch (Exception e) {
+                    log.warn("Failed to delete chunks (continuing): sessionId={}, error={}", sessionId, e.getMessage());
+                }
+            }
+        }
+
+        if (expired != null && expired > 0 || purged != null && purged > 0 || deletedDirectories > 0) {
+            log.info("Upload session cleanup: expired={}, purged={}, chunkDirectoriesDeleted={}",
+                    expired, purged, deletedDirectories);
+        }
+    }
+}
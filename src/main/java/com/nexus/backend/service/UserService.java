@@ -7,6 +7,7 @@ import com.nexus.backend.exception.BadRequestException;
 import com.nexus.backend.exception.ResourceNotFoundException;
 import com.nexus.backend.exception.UnauthorizedException;
 import com.nexus.backend.repository.UserRepository;
+import com.nexus.backend.security.UserPrincipalCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -23,6 +24,7 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final FileStorageService fileStorageService;
+    private final UserPrincipalCache userPrincipalCache;
 
     private static final List<String> ALLOWED_IMAGE_TYPES = Arrays.asList(
             "image/png", "image/jpg", "image/jpeg", "image/gif", "image/webp"
@@ -65,6 +67,7 @@ public class UserService {
         }
 
         user = userRepository.save(user);
+        userPrincipalCache.invalidate(id);
 
         return UserResponse.from(user);
     }
@@ -119,6 +122,7 @@ public class UserService {
         // Update user avatar URL
         user.setAvatarUrl(storedPath);
         user = userRepository.save(user);
+        userPrincipalCache.invalidate(id);
 
         return UserResponse.from(user);
     }
@@ -149,6 +153,7 @@ public class UserService {
 
         user.setPreferredLanguage(language.toLowerCase());
         user = userRepository.save(user);
+        userPrincipalCache.invalidate(id);
 
         return UserResponse.from(user);
     }
@@ -0,0 +1,31 @@
+-- V39: Content-addressed blob store for deduplicated uploads
+--
+-- Identical uploads share one physical file keyed by its SHA-256 digest.
+-- files.blob_sha256 references the shared blob; ref_count decides when
+-- the bytes can be removed from disk. Files stored before this migration
+-- (or with content-addressed storage disabled) keep blob_sha256 = NULL
+-- until the backfill job moves them into the blob store.
+
+CREATE TABLE IF NOT EXISTS file_blobs (
+    sha256 VARCHAR(64) PRIMARY KEY,
+    storage_path VARCHAR(500) NOT NULL,
+    file_size BIGINT NOT NULL,
+    mime_type VARCHAR(100) NOT NULL,
+    ref_count INTEGER NOT NULL DEFAULT 0 CHECK (ref_count >= 0),
+    created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP
+);
+
+ALTER TABLE files
+ADD COLUMN IF NOT EXISTS blob_sha256 VARCHAR(64);
+
+ALTER TABLE files
+ADD CONSTRAINT fk_files_blob FOREIGN KEY (blob_sha256)
+    REFERENCES file_blobs(sha256);
+
+CREATE INDEX IF NOT EXISTS idx_files_blob_sha256 ON files(blob_sha256);
+
+COMMENT ON TABLE file_blobs IS 'Deduplicated file content keyed by SHA-256 digest';
+COMMENT ON COLUMN file_blobs.storage_path IS 'Path relative to the upload directory (blobs/ab/cd/<sha256>)';
+COMMENT ON COLUMN file_blobs.ref_count IS 'Number of files rows referencing this blob';
+COMMENT ON COLUMN files.blob_sha256 IS 'Shared blob holding this file''s content (NULL = private file at file_path)';
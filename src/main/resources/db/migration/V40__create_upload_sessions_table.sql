@@ -0,0 +1,36 @@
+-- V40: Resumable chunked upload sessions for large videos
+--
+-- A session describes one upload split into fixed-size chunks. Chunks are kept
+-- on disk under <upload-dir>/upload-sessions/<session id>/ until the session is
+-- committed (assembled into a regular files/video_files row), aborted, or expires.
+
+CREATE TABLE IF NOT EXISTS upload_sessions (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    user_id UUID NOT NULL,
+    original_filename VARCHAR(255) NOT NULL,
+    content_type VARCHAR(100) NOT NULL,
+    total_size BIGINT NOT NULL CHECK (total_size > 0),
+    chunk_size INTEGER NOT NULL CHECK (chunk_size > 0),
+    total_chunks INTEGER NOT NULL CHECK (total_chunks > 0),
+    source_language VARCHAR(10),
+    target_language VARCHAR(10),
+    status VARCHAR(20) NOT NULL CHECK (status IN ('OPEN', 'COMMITTED', 'ABORTED', 'EXPIRED')),
+    file_id UUID,
+    expires_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT fk_upload_sessions_user FOREIGN KEY (user_id)
+        REFERENCES users(id) ON DELETE CASCADE,
+    CONSTRAINT fk_upload_sessions_file FOREIGN KEY (file_id)
+        REFERENCES files(id) ON DELETE SET NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_upload_sessions_user_id ON upload_sessions(user_id);
+CREATE INDEX IF NOT EXISTS idx_upload_sessions_status_expires ON upload_sessions(status, expires_at);
+
+COMMENT ON TABLE upload_sessions IS 'Resumable chunked uploads (chunks stored under upload-sessions/<id>/)';
+COMMENT ON COLUMN upload_sessions.chunk_size IS 'Size of every chunk except possibly the last one';
+COMMENT ON COLUMN upload_sessions.status IS 'Enum: OPEN, COMMITTED, ABORTED, EXPIRED';
+COMMENT ON COLUMN upload_sessions.expires_at IS 'Sliding expiry, extended on every received chunk';
+COMMENT ON COLUMN upload_sessions.file_id IS 'File created when the session was committed';
@@ -0,0 +1,46 @@
+-- V41: Durable background job queue
+--
+-- Replaces in-memory CompletableFuture.runAsync for document processing and
+-- glossary extraction. Jobs survive restarts and are shared by all app nodes:
+-- workers claim QUEUED rows with FOR UPDATE SKIP LOCKED and hold them for a
+-- visibility timeout (locked_until) that is extended by a heartbeat. A RUNNING
+-- row whose lease expired (node crashed) becomes claimable again.
+
+CREATE TABLE IF NOT EXISTS background_jobs (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    job_type VARCHAR(50) NOT NULL,
+    user_id UUID,
+    payload JSONB NOT NULL DEFAULT '{}'::jsonb,
+    status VARCHAR(20) NOT NULL CHECK (status IN ('QUEUED', 'RUNNING', 'SUCCEEDED', 'FAILED')),
+    attempts INTEGER NOT NULL DEFAULT 0,
+    max_attempts INTEGER NOT NULL DEFAULT 5,
+    run_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    locked_by VARCHAR(100),
+    locked_until TIMESTAMP WITH TIME ZONE,
+    last_error TEXT,
+    started_at TIMESTAMP WITH TIME ZONE,
+    completed_at TIMESTAMP WITH TIME ZONE,
+    created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT fk_background_jobs_user FOREIGN KEY (user_id)
+        REFERENCES users(id) ON DELETE CASCADE
+);
+
+-- Claim scan: eligible queued jobs in run_at order
+CREATE INDEX IF NOT EXISTS idx_background_jobs_queued
+    ON background_jobs(run_at) WHERE status = 'QUEUED';
+
+-- Running jobs per user / lease expiry
+CREATE INDEX IF NOT EXISTS idx_background_jobs_running
+    ON background_jobs(user_id, locked_until) WHERE status = 'RUNNING';
+
+-- Retention cleanup of finished jobs
+CREATE INDEX IF NOT EXISTS idx_background_jobs_completed
+    ON background_jobs(completed_at) WHERE status IN ('SUCCEEDED', 'FAILED');
+
+COMMENT ON TABLE background_jobs IS 'Durable job queue shared by all app nodes';
+COMMENT ON COLUMN background_jobs.job_type IS 'Handler key: DOCUMENT_PROCESSING, GLOSSARY_EXTRACTION';
+COMMENT ON COLUMN background_jobs.run_at IS 'Earliest time the job may run (retry backoff)';
+COMMENT ON COLUMN background_jobs.locked_by IS 'Worker node holding the job while RUNNING';
+COMMENT ON COLUMN background_jobs.locked_until IS 'Visibility timeout; an expired RUNNING job is reclaimed';
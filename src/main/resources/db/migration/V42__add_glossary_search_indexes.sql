@@ -0,0 +1,32 @@
+-- V42: Indexed, ranked glossary search
+--
+-- Search used LOWER(col) LIKE '%q%' over three columns (sequential scan per keystroke) and ignored
+-- the Vietnamese, Japanese and Chinese terms and the abbreviation.
+--
+-- - search_names: lower-cased concatenation of every language column and the abbreviation,
+--   maintained by PostgreSQL (generated column, not mapped by JPA)
+-- - trigram GIN indexes serve substring matching (LIKE '%q%') and typo-tolerant word similarity (<%)
+--   on search_names, and substring matching on the definition
+-- Trigrams work for Hangul/CJK as well, unlike the built-in text search parsers.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+ALTER TABLE glossary_terms
+    ADD COLUMN IF NOT EXISTS search_names TEXT GENERATED ALWAYS AS (
+        lower(
+            korean_term
+            || ' ' || COALESCE(english_term, '')
+            || ' ' || COALESCE(vietnamese_term, '')
+            || ' ' || COALESCE(japanese_term, '')
+            || ' ' || COALESCE(chinese_term, '')
+            || ' ' || COALESCE(abbreviation, '')
+        )
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_glossary_terms_search_names_trgm
+    ON glossary_terms USING gin (search_names gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_glossary_terms_definition_trgm
+    ON glossary_terms USING gin (lower(definition) gin_trgm_ops);
+
+COMMENT ON COLUMN glossary_terms.search_names IS 'Lower-cased term names in all languages + abbreviation, for trigram search';
@@ -0,0 +1,121 @@
+-- V43: Incrementally maintained per-user glossary statistics
+--
+-- GlossaryService.getStatistics ran six COUNT queries per dashboard load. User-level statistics
+-- are now read from one counters row. The counters are maintained by statement-level triggers on
+-- glossary_terms, so terms written by the Python extractor, bulk deletes and FK cascades are all
+-- counted, not only the writes that go through JPA. Each statement applies one aggregated delta
+-- per user, so bulk inserts do not update the counters row once per term.
+-- GlossaryStatisticsRepairJob recomputes rows that drift (e.g. after manual SQL with triggers disabled).
+
+CREATE TABLE IF NOT EXISTS glossary_user_term_counts (
+    user_id UUID PRIMARY KEY,
+    total_terms BIGINT NOT NULL DEFAULT 0,
+    verified_terms BIGINT NOT NULL DEFAULT 0,
+    unverified_terms BIGINT NOT NULL DEFAULT 0,
+    auto_extracted_terms BIGINT NOT NULL DEFAULT 0,
+    user_added_terms BIGINT NOT NULL DEFAULT 0,
+    user_edited_terms BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT fk_glossary_user_term_counts_user FOREIGN KEY (user_id)
+        REFERENCES users(id) ON DELETE CASCADE
+);
+
+COMMENT ON TABLE glossary_user_term_counts IS 'Per-user glossary term counters, maintained by triggers on glossary_terms';
+
+-- Deltas from the statement's transition tables. DELETE only decrements existing rows, so a
+-- user delete cascading to glossary_terms never re-creates the (also cascaded) counters row.
+CREATE OR REPLACE FUNCTION apply_glossary_term_count_deltas()
+RETURNS TRIGGER AS $$
+DECLARE
+    delta_source TEXT;
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        UPDATE glossary_user_term_counts c
+        SET total_terms = c.total_terms - d.total_terms,
+            verified_terms = c.verified_terms - d.verified_terms,
+            unverified_terms = c.unverified_terms - d.unverified_terms,
+            auto_extracted_terms = c.auto_extracted_terms - d.auto_extracted_terms,
+            user_added_terms = c.user_added_terms - d.user_added_terms,
+            user_edited_terms = c.user_edited_terms - d.user_edited_terms,
+            updated_at = CURRENT_TIMESTAMP
+        FROM (
+            SELECT user_id,
+                   COUNT(*) AS total_terms,
+                   COUNT(*) FILTER (WHERE is_verified = true) AS verified_terms,
+                   COUNT(*) FILTER (WHERE is_verified = false) AS unverified_terms,
+                   COUNT(*) FILTER (WHERE status = 'AUTO_EXTRACTED') AS auto_extracted_terms,
+                   COUNT(*) FILTER (WHERE status = 'USER_ADDED') AS user_added_terms,
+                   COUNT(*) FILTER (WHERE status = 'USER_EDITED') AS user_edited_terms
+            FROM old_terms
+            GROUP BY user_id
+        ) d
+        WHERE c.user_id = d.user_id;
+        RETURN NULL;
+    END IF;
+
+    -- INSERT and UPDATE share one upsert; only the delta source differs (old_terms exists for UPDATE only).
+    -- Updates only contribute rows whose user_id, is_verified or status actually changed.
+    IF TG_OP = 'INSERT' THEN
+        delta_source := 'SELECT user_id, is_verified, status, 1 AS d FROM new_terms';
+    ELSE
+        delta_source := 'SELECT n.user_id, n.is_verified, n.status, 1 AS d '
+                     || 'FROM new_terms n JOIN old_terms o ON o.id = n.id '
+                     || 'WHERE (n.user_id, n.is_verified, n.status) IS DISTINCT FROM (o.user_id, o.is_verified, o.status) '
+                     || 'UNION ALL '
+                     || 'SELECT o.user_id, o.is_verified, o.status, -1 AS d '
+                     || 'FROM old_terms o JOIN new_terms n ON n.id = o.id '
+                     || 'WHERE (n.user_id, n.is_verified, n.status) IS DISTINCT FROM (o.user_id, o.is_verified, o.status)';
+    END IF;
+
+    EXECUTE format(
+        'INSERT INTO glossary_user_term_counts AS c (user_id, total_terms, verified_terms, unverified_terms, '
+        || 'auto_extracted_terms, user_added_terms, user_edited_terms) '
+        || 'SELECT user_id, SUM(d), '
+        || 'COALESCE(SUM(d) FILTER (WHERE is_verified = true), 0), '
+        || 'COALESCE(SUM(d) FILTER (WHERE is_verified = false), 0), '
+        || 'COALESCE(SUM(d) FILTER (WHERE status = ''AUTO_EXTRACTED''), 0), '
+        || 'COALESCE(SUM(d) FILTER (WHERE status = ''USER_ADDED''), 0), '
+        || 'COALESCE(SUM(d) FILTER (WHERE status = ''USER_EDITED''), 0) '
+        || 'FROM (%s) x GROUP BY user_id '
+        || 'ON CONFLICT (user_id) DO UPDATE SET '
+        || 'total_terms = c.total_terms + EXCLUDED.total_terms, '
+        || 'verified_terms = c.verified_terms + EXCLUDED.verified_terms, '
+        || 'unverified_terms = c.unverified_terms + EXCLUDED.unverified_terms, '
+        || 'auto_extracted_terms = c.auto_extracted_terms + EXCLUDED.auto_extracted_terms, '
+        || 'user_added_terms = c.user_added_terms + EXCLUDED.user_added_terms, '
+        || 'user_edited_terms = c.user_edited_terms + EXCLUDED.user_edited_terms, '
+        || 'updated_at = CURRENT_TIMESTAMP',
+        delta_source);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER glossary_terms_count_insert
+    AFTER INSERT ON glossary_terms
+    REFERENCING NEW TABLE AS new_terms
+    FOR EACH STATEMENT EXECUTE FUNCTION apply_glossary_term_count_deltas();
+
+CREATE TRIGGER glossary_terms_count_update
+    AFTER UPDATE ON glossary_terms
+    REFERENCING OLD TABLE AS old_terms NEW TABLE AS new_terms
+    FOR EACH STATEMENT EXECUTE FUNCTION apply_glossary_term_count_deltas();
+
+CREATE TRIGGER glossary_terms_count_delete
+    AFTER DELETE ON glossary_terms
+    REFERENCING OLD TABLE AS old_terms
+    FOR EACH STATEMENT EXECUTE FUNCTION apply_glossary_term_count_deltas();
+
+-- Backfill
+INSERT INTO glossary_user_term_counts (user_id, total_terms, verified_terms, unverified_terms,
+                                       auto_extracted_terms, user_added_terms, user_edited_terms)
+SELECT user_id,
+       COUNT(*),
+       COUNT(*) FILTER (WHERE is_verified = true),
+       COUNT(*) FILTER (WHERE is_verified = false),
+       COUNT(*) FILTER (WHERE status = 'AUTO_EXTRACTED'),
+       COUNT(*) FILTER (WHERE status = 'USER_ADDED'),
+       COUNT(*) FILTER (WHERE status = 'USER_EDITED')
+FROM glossary_terms
+GROUP BY user_id
+ON CONFLICT (user_id) DO NOTHING;
@@ -0,0 +1,15 @@
+-- V44: Indexes for keyset (cursor) paging of glossary terms
+--
+-- GET /api/glossary/cursor pages by (sort key, id) after the previous page's last row.
+-- With (user_id, sort key, id) indexes a user's page is an index range scan of page-size rows,
+-- in either direction, however deep the page. The (user_id, korean_term) index of the unique
+-- constraint can't serve the (korean_term, id) row comparison, so that sort gets one as well.
+
+CREATE INDEX IF NOT EXISTS idx_glossary_terms_user_created_id
+    ON glossary_terms (user_id, created_at, id);
+
+CREATE INDEX IF NOT EXISTS idx_glossary_terms_user_updated_id
+    ON glossary_terms (user_id, updated_at, id);
+
+CREATE INDEX IF NOT EXISTS idx_glossary_terms_user_korean_id
+    ON glossary_terms (user_id, korean_term, id);
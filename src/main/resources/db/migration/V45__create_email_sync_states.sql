@@ -0,0 +1,23 @@
+-- V45: Per-folder Outlook mail sync state
+--
+-- EmailSyncService.deltaSyncEmails follows Microsoft Graph /messages/delta per mail folder.
+-- The deltaLink returned at the end of a round is stored here and replayed next time, so a
+-- steady-state sync only transfers messages that changed. users.outlook_delta_link (one link
+-- per user) was never written and is superseded by this table.
+
+CREATE TABLE IF NOT EXISTS email_sync_states (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    user_id UUID NOT NULL,
+    folder VARCHAR(50) NOT NULL,
+    delta_link TEXT,
+    last_delta_sync_at TIMESTAMP,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT fk_email_sync_states_user FOREIGN KEY (user_id)
+        REFERENCES users(id) ON DELETE CASCADE,
+    CONSTRAINT uk_email_sync_states_user_folder UNIQUE (user_id, folder)
+);
+
+COMMENT ON TABLE email_sync_states IS 'Outlook mail sync state per user and folder';
+COMMENT ON COLUMN email_sync_states.delta_link IS 'Graph @odata.deltaLink of the last completed delta round (NULL = next sync is a full round)';
@@ -0,0 +1,24 @@
+-- V46: Checkpoint for the resumable full-mailbox backfill
+--
+-- EmailBackfillJobHandler walks a folder's messages page by page (@odata.nextLink). Each page is
+-- written together with the link to the next page, so a retried or restarted job resumes
+-- exactly after the last committed page.
+
+ALTER TABLE email_sync_states
+    ADD COLUMN IF NOT EXISTS backfill_status VARCHAR(20),
+    ADD COLUMN IF NOT EXISTS backfill_next_link TEXT,
+    ADD COLUMN IF NOT EXISTS backfill_processed BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS backfill_inserted BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS backfill_elapsed_ms BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS backfill_started_at TIMESTAMP,
+    ADD COLUMN IF NOT EXISTS backfill_completed_at TIMESTAMP;
+
+ALTER TABLE email_sync_states
+    ADD CONSTRAINT chk_email_sync_states_backfill_status
+        CHECK (backfill_status IS NULL OR backfill_status IN ('QUEUED', 'RUNNING', 'COMPLETED', 'FAILED'));
+
+COMMENT ON COLUMN email_sync_states.backfill_status IS 'Enum: QUEUED, RUNNING, COMPLETED, FAILED (NULL = never backfilled)';
+COMMENT ON COLUMN email_sync_states.backfill_next_link IS 'Graph @odata.nextLink of the next page to backfill (NULL = start from the first page)';
+COMMENT ON COLUMN email_sync_states.backfill_processed IS 'Messages read from Graph in the current backfill';
+COMMENT ON COLUMN email_sync_states.backfill_inserted IS 'Messages that were not stored yet';
+COMMENT ON COLUMN email_sync_states.backfill_elapsed_ms IS 'Time spent fetching and writing pages (excludes queue waits), for messages per second';
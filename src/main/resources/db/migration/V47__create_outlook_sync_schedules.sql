@@ -0,0 +1,41 @@
+-- V47: Background Outlook sync schedule and per-user sync lease
+--
+-- OutlookSyncScheduler syncs every connected user's mail and calendar on a cadence. One row per
+-- connected user holds the next due time (jittered) and a lease (locked_by / locked_until), so only
+-- one node syncs a user at a time; manual syncs take the same lease. A lease whose node died
+-- expires and the user becomes claimable again. tenant_key groups users for the per-tenant
+-- concurrency cap and for Graph throttling pushback.
+
+CREATE TABLE IF NOT EXISTS outlook_sync_schedules (
+    user_id UUID PRIMARY KEY,
+    tenant_key VARCHAR(255) NOT NULL,
+    next_sync_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    locked_by VARCHAR(100),
+    locked_until TIMESTAMP WITH TIME ZONE,
+    consecutive_failures INTEGER NOT NULL DEFAULT 0,
+    last_started_at TIMESTAMP WITH TIME ZONE,
+    last_succeeded_at TIMESTAMP WITH TIME ZONE,
+    last_duration_ms BIGINT,
+    last_changed INTEGER,
+    last_error TEXT,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT fk_outlook_sync_schedules_user FOREIGN KEY (user_id)
+        REFERENCES users(id) ON DELETE CASCADE
+);
+
+-- Claim scan: due users in next_sync_at order
+CREATE INDEX IF NOT EXISTS idx_outlook_sync_schedules_next_sync
+    ON outlook_sync_schedules(next_sync_at);
+
+-- Running syncs per tenant / lease expiry
+CREATE INDEX IF NOT EXISTS idx_outlook_sync_schedules_leased
+    ON outlook_sync_schedules(tenant_key, locked_until) WHERE locked_by IS NOT NULL;
+
+COMMENT ON TABLE outlook_sync_schedules IS 'Background Outlook sync schedule and lease per connected user';
+COMMENT ON COLUMN outlook_sync_schedules.tenant_key IS 'Mailbox domain of the connected account; unit of the per-tenant concurrency cap';
+COMMENT ON COLUMN outlook_sync_schedules.next_sync_at IS 'Earliest time of the next background sync (cadence, backoff or Retry-After)';
+COMMENT ON COLUMN outlook_sync_schedules.locked_by IS 'Node holding the sync lease';
+COMMENT ON COLUMN outlook_sync_schedules.locked_until IS 'Lease expiry; renewed by heartbeat while the sync runs';
+COMMENT ON COLUMN outlook_sync_schedules.last_changed IS 'Mail and calendar changes applied by the last successful sync';
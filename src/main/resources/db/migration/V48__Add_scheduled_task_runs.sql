@@ -0,0 +1,12 @@
+-- V48: Last run of cluster-wide scheduled tasks
+--
+-- Scheduled tasks that must run once per interval across all nodes (not once per node) claim their
+-- run by advancing last_run_at in a single statement; a node whose claim updates no row skips the run.
+
+CREATE TABLE IF NOT EXISTS scheduled_task_runs (
+    task_name VARCHAR(100) PRIMARY KEY,
+    last_run_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+COMMENT ON TABLE scheduled_task_runs IS 'Last claimed run of cluster-wide scheduled tasks';
+COMMENT ON COLUMN scheduled_task_runs.last_run_at IS 'Start of the last run (database clock); the next run is due one interval later';
@@ -0,0 +1,21 @@
+-- V49: NOT NULL sort keys for keyset paging of glossary terms
+--
+-- Keyset pages (V44) continue with a (sort key, id) row comparison, which never matches a row whose sort
+-- key is NULL, and the page cursor encodes the last row's sort key. V1 declares created_at / updated_at
+-- NOT NULL, but a glossary_terms table that predates V1 (CREATE TABLE IF NOT EXISTS) may still hold NULLs.
+-- Backfill them from the other timestamp (else the current UTC time, as the columns hold UTC wall-clock
+-- time) and enforce the constraint; both statements are no-ops where V1 created the table.
+
+UPDATE glossary_terms
+SET created_at = COALESCE(updated_at, now() AT TIME ZONE 'UTC')
+WHERE created_at IS NULL;
+
+UPDATE glossary_terms
+SET updated_at = created_at
+WHERE updated_at IS NULL;
+
+ALTER TABLE glossary_terms
+    ALTER COLUMN created_at SET NOT NULL,
+    ALTER COLUMN created_at SET DEFAULT CURRENT_TIMESTAMP,
+    ALTER COLUMN updated_at SET NOT NULL,
+    ALTER COLUMN updated_at SET DEFAULT CURRENT_TIMESTAMP;
@@ -0,0 +1,106 @@
+package com.nexus.backend.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of authenticating one bearer token per request.
+ *
+ * - previousFilterPath: what JwtAuthenticationFilter did before, a new parser and an HMAC check for
+ *   validateToken and again for getUserIdFromToken
+ * - verifyOnce: a single signature check with a parser built once in setup
+ * - parseTokenUncached: {@link JwtTokenProvider#parseToken} for a token not in the cache (digest, miss,
+ *   verification and insert); cycles through more tokens than the provider's one-entry cache holds
+ * - parseTokenCached: {@link JwtTokenProvider#parseToken} for a token seen before
+ *
+ * Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.nexus.backend.security.JwtTokenProviderBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET = "benchmark-secret-benchmark-secret-benchmark-secret-0123456789";
+
+    // Distinct tokens for the uncached path; a token comes round again long after it left the cache
+    private static final int UNCACHED_TOKENS = 1024;
+
+    private JwtTokenProvider provider;
+    private JwtTokenProvider uncachedProvider;
+    private SecretKey secretKey;
+    private JwtParser parser;
+    private String token;
+    private String[] uncachedTokens;
+    private int nextUncached;
+
+    @Setup
+    public void setUp() {
+        provider = new JwtTokenProvider(SECRET, 3_600_000L, 10_000L, new SimpleMeterRegistry());
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        parser = Jwts.parser().verifyWith(secretKey).build();
+        token = provider.generateToken(UUID.randomUUID(), "benchmark@nexus.com");
+        provider.parseToken(token);  // warm the verified-token cache
+
+        uncachedProvider = new JwtTokenProvider(SECRET, 3_600_000L, 1L, new SimpleMeterRegistry());
+        uncachedTokens = new String[UNCACHED_TOKENS];
+        for (int i = 0; i < UNCACHED_TOKENS; i++) {
+            uncachedTokens[i] = uncachedProvider.generateToken(UUID.randomUUID(), "benchmark@nexus.com");
+        }
+    }
+
+    @Benchmark
+    public Object previousFilterPath() {
+        Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token);
+        Claims claims = Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload();
+        return UUID.fromString(claims.get("userId", String.class));
+    }
+
+    @Benchmark
+    public Object verifyOnce() {
+        Claims claims = parser.parseSignedClaims(token).getPayload();
+        return UUID.fromString(claims.get("userId", String.class));
+    }
+
+    @Benchmark
+    public Object parseTokenUncached() {
+        String uncachedToken = uncachedTokens[nextUncached];
+        nextUncached = (nextUncached + 1) % UNCACHED_TOKENS;
+        return uncachedProvider.parseToken(uncachedToken).orElseThrow().userId();
+    }
+
+    @Benchmark
+    public Object parseTokenCached() {
+        return provider.parseToken(token).orElseThrow().userId();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtTokenProviderBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
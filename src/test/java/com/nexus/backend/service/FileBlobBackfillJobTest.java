@@ -0,0 +1,114 @@
+package com.nexus.backend.service;
+
+import com.nexus.backend.entity.File;
+import com.nexus.backend.repository.FileBlobRepository;
+import com.nexus.backend.repository.FileRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Keyset walk and locking of {@link FileBlobBackfillJob}, with the repository ordering ids like PostgreSQL.
+ */
+class FileBlobBackfillJobTest {
+
+    /**
+     * PostgreSQL compares uuid byte-wise unsigned (memcmp), unlike {@link UUID#compareTo}.
+     */
+    private static final Comparator<UUID> POSTGRES_UUID_ORDER = Comparator
+            .comparing(UUID::getMostSignificantBits, Long::compareUnsigned)
+            .thenComparing(UUID::getLeastSignificantBits, Long::compareUnsigned);
+
+    private final List<File> files = new ArrayList<>();
+
+    private FileRepository fileRepository;
+    private FileBlobRepository fileBlobRepository;
+    private FileStorageService fileStorageService;
+    private FileBlobBackfillJob job;
+
+    @BeforeEach
+    void setUp() {
+        fileRepository = mock(FileRepository.class);
+        fileBlobRepository = mock(FileBlobRepository.class);
+        fileStorageService = mock(FileStorageService.class);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+
+        when(fileRepository.findTop200ByBlobSha256IsNullAndIdGreaterThanOrderByIdAsc(any())).thenAnswer(invocation -> {
+            UUID after = invocation.getArgument(0);
+            return files.stream()
+                    .filter(file -> file.getBlobSha256() == null)
+                    .filter(file -> POSTGRES_UUID_ORDER.compare(file.getId(), after) > 0)
+                    .sorted(Comparator.comparing(File::getId, POSTGRES_UUID_ORDER))
+                    .limit(200)
+                    .toList();
+        });
+        when(fileRepository.findById(any())).thenAnswer(invocation -> files.stream()
+                .filter(file -> file.getId().equals(invocation.getArgument(0)))
+                .findFirst());
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
+        when(fileStorageService.exists(anyString())).thenAnswer(invocation ->
+                !invocation.<String>getArgument(0).startsWith("blobs/"));
+        when(fileStorageService.digest(anyString())).thenAnswer(invocation -> new FileStorageService.ContentDigest(
+                10, "text/plain", "sha-" + invocation.getArgument(0)));
+        when(fileStorageService.blobPath(anyString())).thenAnswer(invocation -> "blobs/" + invocation.getArgument(0));
+        when(fileBlobRepository.acquire(anyString(), anyString(), anyLong(), anyString())).thenReturn(1);
+
+        job = new FileBlobBackfillJob(fileRepository, fileBlobRepository, fileStorageService, transactionTemplate);
+    }
+
+    @Test
+    void backfillsIdsInTheWholeUnsignedRange() {
+        UUID low = UUID.fromString("00000000-0000-0000-0000-000000000001");
+        UUID belowSignBit = UUID.fromString("7fffffff-ffff-ffff-ffff-ffffffffffff");
+        UUID high = UUID.fromString("80000000-0000-8000-8000-000000000001");
+        UUID max = UUID.fromString("ffffffff-ffff-ffff-ffff-ffffffffffff");
+        for (UUID id : List.of(high, low, max, belowSignBit)) {
+            files.add(File.builder().id(id).filePath("uploads/" + id).build());
+        }
+
+        job.backfill();
+
+        assertThat(files).allSatisfy(file -> {
+            assertThat(file.getBlobSha256()).isEqualTo("sha-uploads/" + file.getId());
+            assertThat(file.getFilePath()).isEqualTo("blobs/sha-uploads/" + file.getId());
+        });
+    }
+
+    @Test
+    void locksTheDigestBeforeTakingAReference() {
+        UUID id = UUID.fromString("00000000-0000-0000-0000-0000000000aa");
+        files.add(File.builder().id(id).filePath("uploads/a").build());
+
+        job.backfill();
+
+        InOrder order = inOrder(fileBlobRepository, fileStorageService);
+        order.verify(fileBlobRepository).lock("sha-uploads/a");
+        order.verify(fileBlobRepository).acquire("sha-uploads/a", "blobs/sha-uploads/a", 10, "text/plain");
+        order.verify(fileStorageService).linkBlob("uploads/a", "blobs/sha-uploads/a");
+        order.verify(fileStorageService).deleteFile("uploads/a");
+    }
+
+    @Test
+    void minimumCursorSortsBeforeEveryId() {
+        assertThat(POSTGRES_UUID_ORDER.compare(FileBlobBackfillJob.MIN_UUID,
+                UUID.fromString("00000000-0000-0000-0000-000000000001"))).isNegative();
+        assertThat(FileBlobBackfillJob.MIN_UUID).hasToString("00000000-0000-0000-0000-000000000000");
+    }
+}
@@ -0,0 +1,179 @@
+package com.nexus.backend.service;
+
+import com.nexus.backend.exception.ServiceException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Circuit breaker of {@link PythonBackendClient} against a stub HTTP server.
+ */
+class PythonBackendClientCircuitBreakerTest {
+
+    private static final int FAILURE_THRESHOLD = 3;
+    private static final long OPEN_DURATION_MS = 300;
+    private static final String URI = "/api/ai/test";
+
+    private HttpServer server;
+    private PythonBackendClient client;
+    private SimpleMeterRegistry meterRegistry;
+
+    private final AtomicInteger hits = new AtomicInteger();
+    private volatile int status = 500;
+    private volatile CountDownLatch entered;
+    private volatile CountDownLatch proceed;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext(URI, this::handle);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+
+        meterRegistry = new SimpleMeterRegistry();
+        client = new PythonBackendClient(
+                new MockEnvironment(),
+                meterRegistry,
+                "http://127.0.0.1:" + server.getAddress().getPort(),
+                1000, 2000, 1000,
+                FAILURE_THRESHOLD, OPEN_DURATION_MS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.shutdown();
+        server.stop(0);
+    }
+
+    @Test
+    void opensAfterFailureThresholdAndFailsFastWhileOpen() {
+        for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+            assertThatThrownBy(this::call).isInstanceOf(HttpServerErrorException.class);
+        }
+        assertThat(hits).hasValue(FAILURE_THRESHOLD);
+        assertThat(circuitState()).isEqualTo(2.0);
+
+        // Open: rejected without reaching the backend, even though it is healthy again
+        status = 200;
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(this::call)
+                    .isInstanceOf(ServiceException.class)
+                    .hasMessageContaining("circuit open");
+        }
+        assertThat(hits).hasValue(FAILURE_THRESHOLD);
+    }
+
+    @Test
+    void clientErrorsDoNotOpenTheCircuit() {
+        status = 400;
+        for (int i = 0; i < FAILURE_THRESHOLD * 2; i++) {
+            assertThatThrownBy(this::call).isNotInstanceOf(ServiceException.class);
+        }
+        assertThat(hits).hasValue(FAILURE_THRESHOLD * 2);
+        assertThat(circuitState()).isEqualTo(0.0);
+    }
+
+    @Test
+    void recoversAfterSingleSuccessfulProbe() throws Exception {
+        open();
+        status = 200;
+        Thread.sleep(OPEN_DURATION_MS + 50);
+
+        // The first call after the open period is the only one let through
+        entered = new CountDownLatch(1);
+        proceed = new CountDownLatch(1);
+        CompletableFuture<Map<?, ?>> probe = CompletableFuture.supplyAsync(this::call);
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(circuitState()).isEqualTo(1.0);
+        assertThatThrownBy(this::call)
+                .isInstanceOf(ServiceException.class)
+                .hasMessageContaining("circuit open");
+
+        proceed.countDown();
+        assertThat(probe.get(5, TimeUnit.SECONDS)).containsEntry("ok", true);
+        assertThat(hits).hasValue(FAILURE_THRESHOLD + 1);
+
+        // Closed again
+        assertThat(circuitState()).isEqualTo(0.0);
+        assertThat(call()).containsEntry("ok", true);
+        assertThat(call()).containsEntry("ok", true);
+        assertThat(hits).hasValue(FAILURE_THRESHOLD + 3);
+    }
+
+    @Test
+    void reopensWhenProbeFails() throws Exception {
+        open();
+        Thread.sleep(OPEN_DURATION_MS + 50);
+
+        assertThatThrownBy(this::call).isInstanceOf(HttpServerErrorException.class);
+        assertThat(hits).hasValue(FAILURE_THRESHOLD + 1);
+        assertThat(circuitState()).isEqualTo(2.0);
+
+        assertThatThrownBy(this::call)
+                .isInstanceOf(ServiceException.class)
+                .hasMessageContaining("circuit open");
+        assertThat(hits).hasValue(FAILURE_THRESHOLD + 1);
+    }
+
+    private void open() {
+        for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+            assertThatThrownBy(this::call).isInstanceOf(HttpServerErrorException.class);
+        }
+        assertThat(circuitState()).isEqualTo(2.0);
+    }
+
+    private Map<?, ?> call() {
+        return client.post(PythonBackendClient.Lane.FAST, URI, Map.of("value", 1), Map.class);
+    }
+
+    private double circuitState() {
+        return meterRegistry.get("python.client.circuit.state").tag("lane", "fast").gauge().value();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        hits.incrementAndGet();
+        exchange.getRequestBody().readAllBytes();
+
+        CountDownLatch enteredLatch = entered;
+        if (enteredLatch != null) {
+            entered = null;
+            enteredLatch.countDown();
+            try {
+                proceed.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        // Always send a body: the JDK server drops a keep-alive connection after a body-less response
+        int code = status;
+        String json = code == 200 ? "{\"ok\":true}" : "{\"detail\":\"stub error\"}";
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(code, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}